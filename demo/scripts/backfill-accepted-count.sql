@@ -0,0 +1,9 @@
+-- One-off backfill of opportunities.accepted_count for databases created before the column existed.
+-- Hibernate (ddl-auto=update) adds the column with DEFAULT 0; run this once right after that first
+-- deploy, before accepting applications, e.g.
+--   psql -h localhost -p 5433 -U tqs_user -d tqs_db -f scripts/backfill-accepted-count.sql
+UPDATE opportunities o
+SET accepted_count = (SELECT COUNT(*)
+                      FROM applications a
+                      WHERE a.opportunity_id = o.id
+                        AND a.status = 'ACCEPTED');
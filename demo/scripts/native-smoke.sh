@@ -0,0 +1,90 @@
+#!/usr/bin/env bash
+# Smoke test of the native executable against PostgreSQL.
+#
+#   mvn -Pnative -DskipTests native:compile
+#   scripts/native-smoke.sh
+#
+# Uses the database in SPRING_DATASOURCE_URL/USERNAME/PASSWORD when set, otherwise starts the
+# postgres service from docker-compose.yml. Reports time-to-first-request and resident memory,
+# then drives the promoter -> opportunity -> application flow over HTTP, including the filter
+# and search paths that build JPA Specifications.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BINARY="${BINARY:-target/demo}"
+PORT="${PORT:-18081}"
+BASE_URL="http://localhost:${PORT}/api"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-60}"
+
+if [[ ! -x "$BINARY" ]]; then
+    echo "Missing native executable $BINARY; run: mvn -Pnative -DskipTests native:compile" >&2
+    exit 1
+fi
+
+if [[ -z "${SPRING_DATASOURCE_URL:-}" ]]; then
+    docker compose up -d --wait postgres
+    export SPRING_DATASOURCE_URL="jdbc:postgresql://localhost:5433/tqs_db"
+    export SPRING_DATASOURCE_USERNAME="tqs_user"
+    export SPRING_DATASOURCE_PASSWORD="tqs_password"
+fi
+export SPRING_DATASOURCE_DRIVER_CLASS_NAME="org.postgresql.Driver"
+export SPRING_JPA_DATABASE_PLATFORM="org.hibernate.dialect.PostgreSQLDialect"
+export SPRING_JPA_HIBERNATE_DDL_AUTO="create-drop"
+export APP_SNAPSHOT_ENABLED="false"
+
+now_ms() {
+    date +%s%3N
+}
+
+start=$(now_ms)
+"$BINARY" --server.port="$PORT" > target/native-smoke.log 2>&1 &
+pid=$!
+trap 'kill "$pid" 2> /dev/null || true' EXIT
+until curl -fs -o /dev/null "$BASE_URL/opportunities"; do
+    if ! kill -0 "$pid" 2> /dev/null || (( $(now_ms) - start > TIMEOUT_SECONDS * 1000 )); then
+        echo "Native executable did not become ready; see target/native-smoke.log" >&2
+        exit 1
+    fi
+    sleep 0.01
+done
+echo "Time to first request: $(( $(now_ms) - start )) ms"
+echo "Resident memory: $(awk '/VmRSS/ { print $2, $3 }' "/proc/$pid/status")"
+
+# Sends a request and fails the script unless the status matches; prints the body
+call() {
+    local expected=$1 method=$2 path=$3 body=${4:-}
+    local response status
+    response=$(curl -s -w '\n%{http_code}' -X "$method" -H 'Content-Type: application/json' \
+        ${body:+-d "$body"} "$BASE_URL$path")
+    status=${response##*$'\n'}
+    if [[ "$status" != "$expected" ]]; then
+        echo "FAIL $method $path: expected $expected, got $status" >&2
+        echo "${response%$'\n'*}" >&2
+        exit 1
+    fi
+    echo "ok   $method $path" >&2
+    echo "${response%$'\n'*}"
+}
+
+promoter_id=$(call 201 POST /promoters/profile \
+    '{"name":"Native Smoke","email":"native-smoke@example.com","organization":"Smoke Org"}' | jq -r .id)
+opportunity_id=$(call 201 POST /opportunities "{\"title\":\"Beach cleanup\",\"description\":\"Clean the beach\",
+    \"skills\":\"Teamwork, Outdoors\",\"category\":\"Environment\",\"duration\":4,\"vacancies\":5,\"points\":50,
+    \"promoterId\":$promoter_id}" | jq -r .id)
+application_id=$(call 201 POST /applications "{\"opportunityId\":$opportunity_id,\"volunteerName\":\"Smoke Volunteer\",
+    \"volunteerEmail\":\"native-volunteer@example.com\",\"motivation\":\"Smoke test\"}" | jq -r .id)
+
+call 200 GET "/opportunities/$opportunity_id" > /dev/null
+call 200 GET "/opportunities/filter?category=environment&skills=teamwork,%20outdoors&minDuration=1&maxDuration=8" \
+    | jq -e 'length == 1' > /dev/null
+call 200 GET "/opportunities/search?category=environment&skills=teamwork" | jq -e '.results | length == 1' > /dev/null
+call 200 GET /opportunities/facets > /dev/null
+call 200 PATCH "/applications/$application_id/status?status=ACCEPTED" | jq -e '.status == "ACCEPTED"' > /dev/null
+call 200 GET "/applications/opportunity/$opportunity_id" | jq -e 'length == 1' > /dev/null
+call 200 GET "/applications/promoter/$promoter_id" > /dev/null
+call 200 GET /volunteers/ranking > /dev/null
+call 200 GET /cache/stats > /dev/null
+call 404 GET /opportunities/999999 > /dev/null
+
+echo "Native smoke test passed"
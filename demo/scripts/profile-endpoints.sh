@@ -0,0 +1,139 @@
+#!/usr/bin/env bash
+# Per-endpoint Java Flight Recorder profiles against the generated dataset (profile datagen).
+#
+#   mvn -B -DskipTests package
+#   scripts/profile-endpoints.sh [endpoint ...]
+#
+# Boots the packaged application with the datagen profile (in-memory H2 unless SPRING_DATASOURCE_*
+# is set), waits for DatasetGenerator, warms every endpoint up, then drives one endpoint at a time
+# with CONCURRENCY curl loops for DURATION seconds inside its own JFR recording. For each endpoint
+# target/profiles/ holds the .jfr file (open it in JDK Mission Control) and a text report with
+# the top allocation sites and the monitor/park contention on request threads; the summary
+# table gives requests, bytes allocated per request and total contention.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT="${PORT:-18082}"
+BASE_URL="http://localhost:${PORT}"
+DURATION="${DURATION:-30}"
+WARMUP="${WARMUP:-10}"
+CONCURRENCY="${CONCURRENCY:-8}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-600}"
+OUT=target/profiles
+JAR="$(ls target/*.jar | grep -v '\.original$' | head -n 1)"
+
+mkdir -p "$OUT"
+rm -f "$OUT"/*.jfr "$OUT"/*.txt
+
+java ${JAVA_OPTS:-} -Dspring.profiles.active=datagen -jar "$JAR" --server.port="$PORT" > "$OUT/application.log" 2>&1 &
+pid=$!
+trap 'kill "$pid" 2> /dev/null || true' EXIT
+
+start=$(date +%s)
+until grep -q "Datagen finished\|Datagen skipped" "$OUT/application.log" && curl -fs -o /dev/null "$BASE_URL/api/benefits"; do
+    if ! kill -0 "$pid" 2> /dev/null || (( $(date +%s) - start > TIMEOUT_SECONDS )); then
+        echo "Application did not finish generating data; see $OUT/application.log" >&2
+        exit 1
+    fi
+    sleep 1
+done
+grep -o "Datagen finished.*\|Datagen skipped.*" "$OUT/application.log"
+
+# The generator makes rank 0 the most active volunteer and promoter
+volunteer_id=$(curl -fs "$BASE_URL/api/volunteers/email/volunteer0@datagen.local" | jq -r .id)
+promoter_id=$(curl -fs "$BASE_URL/api/promoters/profile/email/promoter0@datagen.local" | jq -r .id)
+
+declare -A PATHS=(
+    [ranking]="/api/volunteers/ranking"
+    [top]="/api/volunteers/top/10"
+    [opportunities]="/api/opportunities"
+    [search]="/api/opportunities/search?category=Environment&skills=teamwork"
+    [promoter_applications]="/api/applications/promoter/$promoter_id"
+    [volunteer_applications]="/api/applications/volunteer/$volunteer_id"
+    [volunteer_summary]="/api/volunteers/$volunteer_id/summary"
+    [points_history]="/api/volunteers/$volunteer_id/points-history"
+    [benefits_catalog]="/api/benefits/volunteer/$volunteer_id/catalog"
+    [partner_stats]="/api/redemptions/partner/Datagen%20Partner%200/stats"
+)
+if (( $# > 0 )); then
+    endpoints=("$@")
+else
+    endpoints=(ranking top opportunities search promoter_applications volunteer_applications
+               volunteer_summary points_history benefits_catalog partner_stats)
+fi
+
+# Runs CONCURRENCY request loops against one path for the given seconds; prints the request count
+drive() {
+    local url="$BASE_URL$1" seconds=$2 counts pids=()
+    counts=$(mktemp)
+    for (( i = 0; i < CONCURRENCY; i++ )); do
+        (
+            n=0
+            end=$(( $(date +%s) + seconds ))
+            while (( $(date +%s) < end )); do
+                curl -fs -o /dev/null "$url" && n=$(( n + 1 ))
+            done
+            echo "$n" >> "$counts"
+        ) &
+        pids+=($!)
+    done
+    wait "${pids[@]}"
+    awk '{ total += $1 } END { print total }' "$counts"
+    rm -f "$counts"
+}
+
+for name in "${endpoints[@]}"; do
+    [[ -n "${PATHS[$name]:-}" ]] || { echo "Unknown endpoint $name; known: ${!PATHS[*]}" >&2; exit 2; }
+    status=$(curl -s -o /dev/null -w '%{http_code}' "$BASE_URL${PATHS[$name]}")
+    [[ "$status" == 200 ]] || { echo "GET ${PATHS[$name]} answered $status" >&2; exit 1; }
+    drive "${PATHS[$name]}" "$WARMUP" > /dev/null
+done
+
+# Seconds from a JFR duration such as PT1M2.5S
+JQ_SECONDS='def seconds: capture("PT((?<m>[0-9]+)M)?(?<s>[0-9.]+)S") | ((.m // "0" | tonumber) * 60 + (.s | tonumber));'
+# Allocation attributed to the innermost application frame, else to the allocating frame
+JQ_SITE='def site: [.stackTrace.frames[]? | "\(.method.type.name | gsub("/"; "."))::\(.method.name)"] as $frames
+    | (($frames | map(select(startswith("com.example.demo"))) | first) // $frames[0] // "unknown");'
+
+summary="$OUT/summary.txt"
+printf '%-24s %10s %10s %16s %16s\n' endpoint requests 'req/s' 'alloc/request' 'contention ms' > "$summary"
+for name in "${endpoints[@]}"; do
+    jcmd "$pid" JFR.start name="$name" settings=profile \
+        jdk.JavaMonitorEnter#threshold=1ms jdk.ThreadPark#threshold=1ms > /dev/null
+    requests=$(drive "${PATHS[$name]}" "$DURATION")
+    jcmd "$pid" JFR.stop name="$name" filename="$PWD/$OUT/$name.jfr" > /dev/null
+
+    allocations=$(jfr print --json --stack-depth 64 --events jdk.ObjectAllocationSample "$OUT/$name.jfr" \
+        | jq -c "$JQ_SITE"' [.recording.events[].values | select(.eventThread.javaName | startswith("http-nio"))
+            | {site: site, weight}] | {total: (map(.weight) | add // 0),
+              top: (group_by(.site) | map({site: .[0].site, bytes: (map(.weight) | add)}) | sort_by(-.bytes) | .[:10])}')
+    contention=$(jfr print --json --stack-depth 64 --events jdk.JavaMonitorEnter,jdk.ThreadPark "$OUT/$name.jfr" \
+        | jq -c "$JQ_SECONDS $JQ_SITE"' [.recording.events[].values | select(.eventThread.javaName | startswith("http-nio"))
+            | select([.stackTrace.frames[]?.method.type.name | startswith("com/example/demo")] | any)
+            | {site: site, lock: ((.monitorClass // .parkedClass).name // "unknown" | gsub("/"; ".")), ms: (.duration | seconds * 1000)}]
+            | {total: (map(.ms) | add // 0),
+               top: (group_by([.site, .lock]) | map({site: .[0].site, lock: .[0].lock, ms: (map(.ms) | add), count: length})
+                     | sort_by(-.ms) | .[:5])}')
+
+    total_bytes=$(jq -r .total <<< "$allocations")
+    contention_ms=$(jq -r '.total | floor' <<< "$contention")
+    per_request=$(( requests > 0 ? total_bytes / requests : 0 ))
+    printf '%-24s %10d %10.1f %14d B %16d\n' "$name" "$requests" "$(awk -v n="$requests" -v s="$DURATION" 'BEGIN { print n / s }')" \
+        "$per_request" "$contention_ms" >> "$summary"
+    {
+        echo "GET ${PATHS[$name]}: $requests requests in ${DURATION}s, $CONCURRENCY concurrent"
+        echo
+        echo "Top allocation sites (sampled bytes on request threads)"
+        jq -r '.top[] | "  \(.bytes / 1048576 * 10 | floor / 10) MB  \(.site)"' <<< "$allocations"
+        echo
+        echo "Contention on request threads (monitor enter / park >= 1 ms)"
+        jq -r '.top[] | "  \(.ms | floor) ms in \(.count) waits on \(.lock)  at \(.site)"' <<< "$contention"
+    } > "$OUT/$name.txt"
+    echo "Profiled $name"
+done
+
+echo
+cat "$summary"
+echo
+echo "Reports and recordings in $OUT/"
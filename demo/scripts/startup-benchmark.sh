@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+# Time-to-first-request of the packaged application, default build vs fast-start build.
+#
+#   mvn -B -Pfaststart -DskipTests package
+#   scripts/startup-benchmark.sh [runs]
+#
+# Each run starts the JVM, polls GET /api/opportunities until it answers 200 and records the
+# elapsed wall-clock time. Prints the median per mode and, on GitHub Actions, appends a table
+# to the job summary.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+PROBE_URL="http://localhost:${PORT}/api/opportunities"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+JAR="$(ls target/*.jar | grep -v '\.original$' | head -n 1)"
+FASTSTART_JAR="target/faststart/$(basename "$JAR")"
+CDS_ARCHIVE="target/faststart/application.jsa"
+
+if [[ ! -f "$FASTSTART_JAR" || ! -f "$CDS_ARCHIVE" ]]; then
+    echo "Missing fast-start build; run: mvn -B -Pfaststart -DskipTests package" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# Prints the milliseconds from launch until the first successful request
+measure() {
+    local start pid elapsed
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > target/startup-benchmark.log 2>&1 &
+    pid=$!
+    while ! curl -fs -o /dev/null "$PROBE_URL"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application exited during startup; see target/startup-benchmark.log" >&2
+            exit 1
+        fi
+        if (( $(now_ms) - start > TIMEOUT_SECONDS * 1000 )); then
+            kill "$pid"
+            echo "Application not ready after ${TIMEOUT_SECONDS}s" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+run_mode() {
+    local mode=$1
+    shift
+    local samples=()
+    for ((i = 1; i <= RUNS; i++)); do
+        samples+=("$(measure "$@")")
+    done
+    local result
+    result=$(printf '%s\n' "${samples[@]}" | median)
+    echo "${mode}: median ${result} ms (runs: ${samples[*]})" >&2
+    echo "$result"
+}
+
+default_ms=$(run_mode default java -jar "$JAR")
+faststart_ms=$(run_mode faststart java -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=faststart -jar "$FASTSTART_JAR")
+
+report="| Mode | Time to first request (median of ${RUNS}) |
+|------|------|
+| default | ${default_ms} ms |
+| faststart (AOT + CDS + lazy init) | ${faststart_ms} ms |"
+
+echo "$report"
+if [[ -n "${GITHUB_STEP_SUMMARY:-}" ]]; then
+    { echo "### Startup benchmark"; echo; echo "$report"; } >> "$GITHUB_STEP_SUMMARY"
+fi
@@ -1,9 +1,12 @@
 package com.example.demo;
 
+import com.example.demo.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class DemoApplication {
 
 	public static void main(String[] args) {
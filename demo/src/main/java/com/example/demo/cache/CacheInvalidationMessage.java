@@ -0,0 +1,13 @@
+package com.example.demo.cache;
+
+/**
+ * Broadcast after a write so other nodes drop their near-cache copy. A null key means
+ * the whole cache was cleared. Also carries the changes behind the in-memory projections,
+ * under the {@code projection.*} names of {@code ProjectionSource}.
+ */
+public record CacheInvalidationMessage(String originNodeId, String cacheName, Object key) {
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
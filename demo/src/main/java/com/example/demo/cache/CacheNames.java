@@ -0,0 +1,21 @@
+package com.example.demo.cache;
+
+import java.util.List;
+
+public final class CacheNames {
+
+    public static final String BENEFITS = "benefits";
+    public static final String RANKING = "ranking";
+
+    // Hibernate second-level cache regions
+    public static final String PROMOTER_ENTITIES = "entity.promoter";
+    public static final String BENEFIT_ENTITIES = "entity.benefit";
+    public static final String OPPORTUNITY_ENTITIES = "entity.opportunity";
+
+    public static final List<String> ENTITY_REGIONS =
+            List.of(PROMOTER_ENTITIES, BENEFIT_ENTITIES, OPPORTUNITY_ENTITIES);
+
+    private CacheNames() {
+        // Constants holder
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.cache;
+
+/**
+ * A second-level cached entity changed (or, with a null id, a whole region is stale); other
+ * nodes are told to evict it once the transaction commits.
+ */
+public record CachedEntityChangedEvent(String region, Object id) {
+}
@@ -0,0 +1,114 @@
+package com.example.demo.cache;
+
+import com.example.demo.entity.Benefit;
+import com.example.demo.entity.Opportunity;
+import com.example.demo.entity.Promoter;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the Hibernate second-level cache coherent across nodes. Hibernate already updates this
+ * node's regions for every write it performs; as an entity listener this component broadcasts
+ * committed updates and deletes of cached entities on the {@link CacheInvalidationBus} and
+ * evicts whatever other nodes report. Bulk JPQL updates skip entity callbacks, so their callers
+ * report them through {@link #invalidate(String, Object)}; native updates outside Hibernate's
+ * view of the region also evict this node's entry through {@link #evictLocal(String, Object)}.
+ */
+@Component
+public class EntityCacheInvalidator {
+
+    private static final Map<String, Class<?>> ENTITY_TYPES = Map.of(
+            CacheNames.PROMOTER_ENTITIES, Promoter.class,
+            CacheNames.BENEFIT_ENTITIES, Benefit.class,
+            CacheNames.OPPORTUNITY_ENTITIES, Opportunity.class);
+
+    private final String nodeId;
+    private final CacheInvalidationBus invalidationBus;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final Map<String, EntityRegionStats> stats = new LinkedHashMap<>();
+
+    public EntityCacheInvalidator(TwoLevelCacheManager cacheManager,
+                                  CacheInvalidationBus invalidationBus,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.nodeId = cacheManager.getNodeId();
+        this.invalidationBus = invalidationBus;
+        this.eventPublisher = eventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
+        CacheNames.ENTITY_REGIONS.forEach(region -> stats.put(region, new EntityRegionStats()));
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        ENTITY_TYPES.forEach((region, type) -> {
+            if (type.isInstance(entity)) {
+                invalidate(region, entityManagerFactory.getObject().getPersistenceUnitUtil().getIdentifier(entity));
+            }
+        });
+    }
+
+    /** Tells other nodes to drop the entry after the current transaction commits; a null id drops the region. */
+    public void invalidate(String region, Object id) {
+        eventPublisher.publishEvent(new CachedEntityChangedEvent(region, id));
+    }
+
+    /** Drops this node's entry for a row changed behind Hibernate's back. */
+    public void evictLocal(String region, Object id) {
+        cache().evictEntityData(ENTITY_TYPES.get(region), id);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommitted(CachedEntityChangedEvent event) {
+        invalidationBus.publish(new CacheInvalidationMessage(nodeId, event.region(), event.id()));
+        stats.get(event.region()).recordInvalidationPublished();
+    }
+
+    public void recordEviction(String region) {
+        stats.get(region).recordEviction();
+    }
+
+    public Map<String, EntityRegionStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /** Hit, miss and put counts Hibernate keeps for the region. */
+    public CacheRegionStatistics getRegionStatistics(String region) {
+        return entityManagerFactory.getObject().unwrap(SessionFactory.class)
+                .getStatistics().getDomainDataRegionStatistics(region);
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        EntityRegionStats regionStats = stats.get(message.cacheName());
+        if (regionStats == null || nodeId.equals(message.originNodeId())) {
+            return;
+        }
+        Class<?> type = ENTITY_TYPES.get(message.cacheName());
+        Cache cache = cache();
+        if (message.isClear()) {
+            cache.evictEntityData(type);
+        } else {
+            cache.evictEntityData(type, message.key());
+        }
+        regionStats.recordInvalidationReceived();
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.getObject().getCache().unwrap(Cache.class);
+    }
+}
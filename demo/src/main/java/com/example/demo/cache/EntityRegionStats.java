@@ -0,0 +1,38 @@
+package com.example.demo.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-region counters the Hibernate statistics do not cover: entries dropped by the
+ * cache itself (capacity or TTL) and invalidations sent to or received from other nodes.
+ */
+public class EntityRegionStats {
+
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidationsPublished = new LongAdder();
+    private final LongAdder invalidationsReceived = new LongAdder();
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    void recordInvalidationPublished() {
+        invalidationsPublished.increment();
+    }
+
+    void recordInvalidationReceived() {
+        invalidationsReceived.increment();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getInvalidationsPublished() {
+        return invalidationsPublished.sum();
+    }
+
+    public long getInvalidationsReceived() {
+        return invalidationsReceived.sum();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-JVM stand-in for the shared tier, used when no external store is configured
+ * and in tests that simulate several nodes inside one process.
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private final Map<String, Map<Object, Object>> regions = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        return region(cacheName).get(key);
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value) {
+        region(cacheName).put(key, value);
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        region(cacheName).remove(key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        region(cacheName).clear();
+    }
+
+    private Map<Object, Object> region(String cacheName) {
+        return regions.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.cache;
+
+/**
+ * Cluster-wide cache tier shared by every node. Values are stored already adapted
+ * by the calling cache (null values wrapped), so implementations never see null.
+ */
+public interface SharedCacheStore {
+
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+}
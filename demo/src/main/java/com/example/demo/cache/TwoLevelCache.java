@@ -0,0 +1,150 @@
+package com.example.demo.cache;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Near-cache in front of a {@link SharedCacheStore}. Writes go to both levels and are
+ * broadcast on the {@link CacheInvalidationBus}; near entries also expire after a fixed
+ * TTL so a lost invalidation can never leave a node stale for longer than that.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final String nodeId;
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final long nearTtlNanos;
+    private final int nearMaxEntries;
+
+    private final Map<Object, NearEntry> near = new ConcurrentHashMap<>();
+    private final CacheLevelStats nearStats = new CacheLevelStats();
+    private final CacheLevelStats sharedStats = new CacheLevelStats();
+
+    public TwoLevelCache(String name, String nodeId, SharedCacheStore sharedStore,
+                         CacheInvalidationBus invalidationBus, Duration nearTtl, int nearMaxEntries) {
+        super(true);
+        this.name = name;
+        this.nodeId = nodeId;
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        this.nearTtlNanos = nearTtl.toNanos();
+        this.nearMaxEntries = nearMaxEntries;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return near;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        NearEntry entry = near.get(key);
+        if (entry != null) {
+            if (!entry.isExpired(System.nanoTime())) {
+                nearStats.recordHit();
+                return entry.value();
+            }
+            near.remove(key, entry);
+        }
+        nearStats.recordMiss();
+
+        Object shared = sharedStore.get(name, key);
+        if (shared == null) {
+            sharedStats.recordMiss();
+            return null;
+        }
+        sharedStats.recordHit();
+        putNear(key, shared);
+        return shared;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object stored = lookup(key);
+        if (stored != null) {
+            return (T) fromStoreValue(stored);
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        sharedStore.put(name, key, storeValue);
+        putNear(key, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        sharedStore.evict(name, key);
+        near.remove(key);
+        invalidationBus.publish(new CacheInvalidationMessage(nodeId, name, key));
+    }
+
+    @Override
+    public void clear() {
+        sharedStore.clear(name);
+        near.clear();
+        invalidationBus.publish(new CacheInvalidationMessage(nodeId, name, null));
+    }
+
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.originNodeId())) {
+            return;
+        }
+        if (message.isClear()) {
+            near.clear();
+        } else {
+            near.remove(message.key());
+        }
+    }
+
+    public CacheLevelStats getNearStats() {
+        return nearStats;
+    }
+
+    public CacheLevelStats getSharedStats() {
+        return sharedStats;
+    }
+
+    public int getNearSize() {
+        return near.size();
+    }
+
+    private void putNear(Object key, Object storeValue) {
+        if (near.size() >= nearMaxEntries && !near.containsKey(key)) {
+            Iterator<Object> keys = near.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        near.put(key, new NearEntry(storeValue, System.nanoTime() + nearTtlNanos));
+    }
+
+    private record NearEntry(Object value, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
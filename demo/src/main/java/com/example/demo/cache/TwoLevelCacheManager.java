@@ -0,0 +1,73 @@
+package com.example.demo.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds {@link TwoLevelCache}s that share one node id, shared store and invalidation
+ * bus. Caches are transaction aware, so evictions triggered inside a transaction are
+ * applied (and broadcast) only after it commits.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final Collection<String> initialCacheNames;
+    private final Duration nearTtl;
+    private final int nearMaxEntries;
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(SharedCacheStore sharedStore, CacheInvalidationBus invalidationBus,
+                                Collection<String> initialCacheNames, Duration nearTtl, int nearMaxEntries) {
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        this.initialCacheNames = initialCacheNames;
+        this.nearTtl = nearTtl;
+        this.nearMaxEntries = nearMaxEntries;
+        setTransactionAware(true);
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        for (String name : initialCacheNames) {
+            caches.add(createCache(name));
+        }
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Collection<TwoLevelCache> getTwoLevelCaches() {
+        return twoLevelCaches.values();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        return twoLevelCaches.computeIfAbsent(name, n ->
+                new TwoLevelCache(n, nodeId, sharedStore, invalidationBus, nearTtl, nearMaxEntries));
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        TwoLevelCache cache = twoLevelCaches.get(message.cacheName());
+        if (cache != null) {
+            cache.onInvalidation(message);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.config;
+
+import com.example.demo.cache.CacheInvalidationBus;
+import com.example.demo.cache.CacheNames;
+import com.example.demo.cache.InMemoryCacheInvalidationBus;
+import com.example.demo.cache.InMemorySharedCacheStore;
+import com.example.demo.cache.SharedCacheStore;
+import com.example.demo.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SharedCacheStore sharedCacheStore() {
+        return new InMemorySharedCacheStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(SharedCacheStore sharedCacheStore,
+                                             CacheInvalidationBus cacheInvalidationBus,
+                                             @Value("${app.cache.near-ttl:30s}") Duration nearTtl,
+                                             @Value("${app.cache.near-max-entries:1000}") int nearMaxEntries) {
+        return new TwoLevelCacheManager(
+                sharedCacheStore,
+                cacheInvalidationBus,
+                List.of(CacheNames.BENEFITS, CacheNames.RANKING),
+                nearTtl,
+                nearMaxEntries);
+    }
+}
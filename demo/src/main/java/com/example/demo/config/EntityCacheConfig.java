@@ -0,0 +1,55 @@
+package com.example.demo.config;
+
+import com.example.demo.cache.CacheNames;
+import com.example.demo.cache.EntityCacheInvalidator;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheEventListenerConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.event.EventType;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Backs the Hibernate second-level cache regions declared in {@link CacheNames} with on-heap
+ * Ehcache caches, bounded in size and time-to-live.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheInvalidator invalidator,
+                                           @Value("${app.entity-cache.max-entries:10000}") long maxEntries,
+                                           @Value("${app.entity-cache.ttl:10m}") Duration ttl) {
+        ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder();
+        for (String region : CacheNames.ENTITY_REGIONS) {
+            configuration = configuration.withCache(region, CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl))
+                    .withService(CacheEventListenerConfigurationBuilder
+                            .newEventListenerConfiguration(event -> invalidator.recordEviction(region),
+                                    EventType.EVICTED, EventType.EXPIRED)
+                            .unordered().asynchronous()));
+        }
+        EhcacheCachingProvider provider =
+                (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        // The provider keys managers by URI; a fresh one per context keeps test contexts apart
+        return provider.getCacheManager(URI.create("urn:demo:entity-cache:" + UUID.randomUUID()), configuration.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheManagerCustomizer(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+}
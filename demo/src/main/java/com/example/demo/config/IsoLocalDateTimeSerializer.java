@@ -0,0 +1,65 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes {@link LocalDateTime} exactly as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} does
+ * (seconds always, fraction without trailing zeros), but straight into a small char buffer
+ * instead of going through the formatter's print context, builder and intermediate string.
+ * Years outside 0..9999 need a sign and fall back to the formatter.
+ */
+public class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    private static final int MAX_LENGTH = 29;
+
+    public IsoLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        put(buffer, 0, year, 4);
+        buffer[4] = '-';
+        put(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        put(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        put(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        put(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        put(buffer, 17, value.getSecond(), 2);
+        int length = 19;
+        int nano = value.getNano();
+        if (nano > 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[19] = '.';
+            put(buffer, 20, nano, digits);
+            length = 20 + digits;
+        }
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static void put(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
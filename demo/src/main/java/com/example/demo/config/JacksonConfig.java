@@ -0,0 +1,28 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+import java.time.LocalDateTime;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Applies to the JSON and CBOR converters alike, since both are built from the shared builder.
+     * Blackbird swaps reflective property access for generated lambdas; it relies on runtime class
+     * definition, which a native image does not support, so it is left out there.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer responseSerializationCustomizer() {
+        return builder -> {
+            builder.serializerByType(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+            if (!NativeDetector.inNativeImage()) {
+                builder.postConfigurer(mapper -> mapper.registerModule(new BlackbirdModule()));
+            }
+        };
+    }
+}
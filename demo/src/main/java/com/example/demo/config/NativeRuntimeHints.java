@@ -0,0 +1,61 @@
+package com.example.demo.config;
+
+import jakarta.persistence.EntityListeners;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reflection hints for the native image. Entities and DTOs are read and populated through their
+ * Lombok-generated accessors by Jackson and Hibernate, so every type in those packages gets
+ * binding hints, and entities additionally their fields, callbacks and entity listeners. The
+ * {@code OpportunitySpecification} lambdas are only invoked, never serialized, and need none.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String ENTITY_PACKAGE = "com.example.demo.entity";
+    static final String DTO_PACKAGE = "com.example.demo.dto";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        for (Class<?> type : typesIn(DTO_PACKAGE, classLoader)) {
+            bindings.registerReflectionHints(hints.reflection(), type);
+        }
+        for (Class<?> type : typesIn(ENTITY_PACKAGE, classLoader)) {
+            bindings.registerReflectionHints(hints.reflection(), type);
+            hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            EntityListeners listeners = type.getAnnotation(EntityListeners.class);
+            if (listeners != null) {
+                for (Class<?> listener : listeners.value()) {
+                    hints.reflection().registerType(listener, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                            MemberCategory.INVOKE_DECLARED_METHODS);
+                }
+            }
+        }
+    }
+
+    private static List<Class<?>> typesIn(String basePackage, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> true);
+        List<Class<?>> types = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return types;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.config;
+
+import com.example.demo.ratelimit.EndpointRateLimiter;
+import com.example.demo.reactive.ReactiveRateLimitFilter;
+import com.example.demo.reactive.ReactiveReadHandler;
+import com.example.demo.reactive.ReactiveReadProperties;
+import com.example.demo.reactive.ReactiveReadRepository;
+import com.example.demo.reactive.ReactiveReadServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ReactiveReadProperties.class)
+public class ReactiveReadConfig {
+
+    /**
+     * The pool stays private to the repository: a ConnectionFactory bean would make Boot run the
+     * SQL init scripts through R2DBC instead of the DataSource, ahead of the JPA schema.
+     */
+    @Bean(destroyMethod = "close")
+    public ReactiveReadRepository reactiveReadRepository(ReactiveReadProperties properties) {
+        return new ReactiveReadRepository(connectionPool(properties.getR2dbc()), properties.getFetchSize());
+    }
+
+    @Bean
+    public ReactiveReadHandler reactiveReadHandler(ReactiveReadRepository reactiveReadRepository) {
+        return new ReactiveReadHandler(reactiveReadRepository);
+    }
+
+    @Bean
+    public ReactiveRateLimitFilter reactiveRateLimitFilter(EndpointRateLimiter endpointRateLimiter,
+                                                           ObjectMapper objectMapper) {
+        return new ReactiveRateLimitFilter(endpointRateLimiter, objectMapper);
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(ReactiveReadHandler reactiveReadHandler,
+                                                 ReactiveRateLimitFilter reactiveRateLimitFilter,
+                                                 ObjectMapper objectMapper, ReactiveReadProperties properties) {
+        return new ReactiveReadServer(reactiveReadHandler, reactiveRateLimitFilter, objectMapper, properties);
+    }
+
+    private static ConnectionPool connectionPool(ReactiveReadProperties.R2dbc r2dbc) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbc.getUrl()).mutate();
+        if (StringUtils.hasText(r2dbc.getUsername())) {
+            options.option(ConnectionFactoryOptions.USER, r2dbc.getUsername());
+        }
+        if (r2dbc.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, r2dbc.getPassword());
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-read")
+                .initialSize(0)
+                .maxSize(r2dbc.getMaxConnections())
+                .build());
+    }
+}
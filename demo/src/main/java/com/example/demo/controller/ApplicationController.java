@@ -1,8 +1,11 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.ApplicationResponse;
+import com.example.demo.dto.BatchApplicationStatusRequest;
+import com.example.demo.dto.BatchApplicationStatusResponse;
 import com.example.demo.dto.CreateApplicationRequest;
 import com.example.demo.entity.ApplicationStatus;
+import com.example.demo.idempotency.IdempotencyStore;
 import com.example.demo.service.ApplicationService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -16,16 +19,21 @@ import java.util.List;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final IdempotencyStore idempotencyStore;
 
-    public ApplicationController(ApplicationService applicationService) {
+    public ApplicationController(ApplicationService applicationService, IdempotencyStore idempotencyStore) {
         this.applicationService = applicationService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @PostMapping
     public ResponseEntity<ApplicationResponse> createApplication(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CreateApplicationRequest request) {
-        ApplicationResponse response = applicationService.createApplication(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return idempotencyStore.execute("applications", idempotencyKey, request, ApplicationResponse.class, () -> {
+            ApplicationResponse response = applicationService.createApplication(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
     }
 
     @GetMapping("/{id}")
@@ -62,4 +70,11 @@ public class ApplicationController {
         ApplicationResponse response = applicationService.updateApplicationStatus(id, status);
         return ResponseEntity.ok(response);
     }
+
+    @PatchMapping("/status:batch")
+    public ResponseEntity<BatchApplicationStatusResponse> updateApplicationStatuses(
+            @Valid @RequestBody BatchApplicationStatusRequest request) {
+        BatchApplicationStatusResponse response = applicationService.updateApplicationStatuses(request);
+        return ResponseEntity.ok(response);
+    }
 }
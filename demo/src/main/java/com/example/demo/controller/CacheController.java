@@ -0,0 +1,46 @@
+package com.example.demo.controller;
+
+import com.example.demo.cache.EntityCacheInvalidator;
+import com.example.demo.cache.TwoLevelCache;
+import com.example.demo.cache.TwoLevelCacheManager;
+import com.example.demo.dto.CacheStatsResponse;
+import com.example.demo.dto.EntityCacheStatsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    public CacheController(TwoLevelCacheManager cacheManager, EntityCacheInvalidator entityCacheInvalidator) {
+        this.cacheManager = cacheManager;
+        this.entityCacheInvalidator = entityCacheInvalidator;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        List<CacheStatsResponse> stats = cacheManager.getTwoLevelCaches().stream()
+                .sorted(Comparator.comparing(TwoLevelCache::getName))
+                .map(CacheStatsResponse::fromCache)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/entity-stats")
+    public ResponseEntity<List<EntityCacheStatsResponse>> getEntityCacheStats() {
+        List<EntityCacheStatsResponse> stats = entityCacheInvalidator.getStats().entrySet().stream()
+                .map(entry -> EntityCacheStatsResponse.fromRegion(entry.getKey(),
+                        entityCacheInvalidator.getRegionStatistics(entry.getKey()), entry.getValue()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -58,6 +58,22 @@ public class OpportunityController {
         return ResponseEntity.ok(opportunities);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<OpportunitySearchResponse> searchOpportunities(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String skills,
+            @RequestParam(required = false) Integer minDuration,
+            @RequestParam(required = false) Integer maxDuration) {
+        OpportunitySearchResponse response =
+                opportunityService.searchOpportunities(category, skills, minDuration, maxDuration);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<OpportunityFacetsResponse> getFacets() {
+        return ResponseEntity.ok(opportunityService.getFacets());
+    }
+
     @GetMapping("/categories")
     public ResponseEntity<List<String>> getAllCategories() {
         List<String> categories = opportunityService.getAllCategories();
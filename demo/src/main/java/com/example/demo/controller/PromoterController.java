@@ -27,7 +27,7 @@ public class PromoterController {
 
     @GetMapping
     public ResponseEntity<List<Promoter>> getAllPromoters() {
-        List<Promoter> promoters = promoterRepository.findAll();
+        List<Promoter> promoters = promoterRepository.findByDeletedAtIsNull();
         return ResponseEntity.ok(promoters);
     }
 
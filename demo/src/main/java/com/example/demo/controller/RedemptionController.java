@@ -3,6 +3,7 @@ package com.example.demo.controller;
 import com.example.demo.dto.PartnerRedemptionStatsResponse;
 import com.example.demo.dto.RedeemPointsRequest;
 import com.example.demo.dto.RedemptionResponse;
+import com.example.demo.idempotency.IdempotencyStore;
 import com.example.demo.service.RedemptionService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -16,15 +17,21 @@ import java.util.List;
 public class RedemptionController {
 
     private final RedemptionService redemptionService;
+    private final IdempotencyStore idempotencyStore;
 
-    public RedemptionController(RedemptionService redemptionService) {
+    public RedemptionController(RedemptionService redemptionService, IdempotencyStore idempotencyStore) {
         this.redemptionService = redemptionService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @PostMapping
-    public ResponseEntity<RedemptionResponse> redeemPoints(@Valid @RequestBody RedeemPointsRequest request) {
-        RedemptionResponse redemption = redemptionService.redeemPoints(request);
-        return new ResponseEntity<>(redemption, HttpStatus.CREATED);
+    public ResponseEntity<RedemptionResponse> redeemPoints(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody RedeemPointsRequest request) {
+        return idempotencyStore.execute("redemptions", idempotencyKey, request, RedemptionResponse.class, () -> {
+            RedemptionResponse redemption = redemptionService.redeemPoints(request);
+            return new ResponseEntity<>(redemption, HttpStatus.CREATED);
+        });
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,30 @@
+package com.example.demo.controller;
+
+import com.example.demo.stream.SseHub;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/stream")
+public class StreamController {
+
+    private final SseHub sseHub;
+
+    public StreamController(SseHub sseHub) {
+        this.sseHub = sseHub;
+    }
+
+    @GetMapping(value = "/volunteers/{volunteerId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamVolunteer(@PathVariable Long volunteerId) {
+        return sseHub.subscribe(SseHub.volunteerTopic(volunteerId));
+    }
+
+    @GetMapping(value = "/promoters/{promoterId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPromoter(@PathVariable Long promoterId) {
+        return sseHub.subscribe(SseHub.promoterTopic(promoterId));
+    }
+}
@@ -3,6 +3,7 @@ package com.example.demo.controller;
 import com.example.demo.dto.*;
 import com.example.demo.service.VolunteerProfileService;
 import com.example.demo.service.VolunteerService;
+import com.example.demo.service.VolunteerStatsService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,10 +17,13 @@ public class VolunteerController {
 
     private final VolunteerService volunteerService;
     private final VolunteerProfileService volunteerProfileService;
+    private final VolunteerStatsService volunteerStatsService;
 
-    public VolunteerController(VolunteerService volunteerService, VolunteerProfileService volunteerProfileService) {
+    public VolunteerController(VolunteerService volunteerService, VolunteerProfileService volunteerProfileService,
+                               VolunteerStatsService volunteerStatsService) {
         this.volunteerService = volunteerService;
         this.volunteerProfileService = volunteerProfileService;
+        this.volunteerStatsService = volunteerStatsService;
     }
 
     @PostMapping("/profile")
@@ -115,18 +119,40 @@ public class VolunteerController {
         return ResponseEntity.ok(ranking);
     }
 
+    @GetMapping(value = "/ranking", params = "window")
+    public ResponseEntity<List<RankingEntryResponse>> getVolunteersRanking(
+            @RequestParam String window,
+            @RequestParam(required = false) Integer limit) {
+        List<RankingEntryResponse> ranking = volunteerService.getVolunteersRanking(window, limit);
+        return ResponseEntity.ok(ranking);
+    }
+
     @GetMapping("/top/{limit}")
     public ResponseEntity<List<VolunteerPointsResponse>> getTopVolunteers(@PathVariable int limit) {
         List<VolunteerPointsResponse> topVolunteers = volunteerService.getTopVolunteers(limit);
         return ResponseEntity.ok(topVolunteers);
     }
 
+    @GetMapping("/{id}/rank")
+    public ResponseEntity<VolunteerRankResponse> getVolunteerRank(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "2") int neighbours) {
+        VolunteerRankResponse rank = volunteerService.getVolunteerRank(id, neighbours);
+        return ResponseEntity.ok(rank);
+    }
+
     @GetMapping("/{id}/confirmed-participations")
     public ResponseEntity<List<ApplicationResponse>> getConfirmedParticipations(@PathVariable Long id) {
         List<ApplicationResponse> participations = volunteerService.getConfirmedParticipations(id);
         return ResponseEntity.ok(participations);
     }
 
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<VolunteerSummaryResponse> getSummary(@PathVariable Long id) {
+        VolunteerSummaryResponse summary = volunteerStatsService.getSummary(id);
+        return ResponseEntity.ok(summary);
+    }
+
     @GetMapping("/{id}/points-history")
     public ResponseEntity<List<PointsHistoryResponse>> getPointsHistory(@PathVariable Long id) {
         List<PointsHistoryResponse> history = volunteerService.getPointsHistory(id);
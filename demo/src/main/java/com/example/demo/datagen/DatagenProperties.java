@@ -0,0 +1,28 @@
+package com.example.demo.datagen;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.datagen")
+public class DatagenProperties {
+
+    private long seed = 42;
+
+    private int batchSize = 1000;
+
+    private int promoters = 200;
+
+    private int benefits = 100;
+
+    private int volunteers = 50000;
+
+    private int opportunities = 5000;
+
+    private int applications = 200000;
+
+    private int redemptions = 500000;
+
+    /** Zipf exponent for how activity concentrates on the first promoters, volunteers and benefits. */
+    private double skew = 1.1;
+}
@@ -0,0 +1,278 @@
+package com.example.demo.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Fills the database with a large, skewed dataset for profiling (profile {@code datagen}).
+ * Rows go in through plain JDBC batches, bypassing JPA and its listeners; the generator runs
+ * before {@code ApplicationReadyEvent}, so the in-memory indexes load the generated rows.
+ * A few promoters own most opportunities, a few opportunities draw most applications and a
+ * few volunteers do most of the applying and redeeming. The same seed yields the same data.
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@EnableConfigurationProperties(DatagenProperties.class)
+public class DatasetGenerator implements ApplicationRunner {
+
+    static final String EMAIL_DOMAIN = "@datagen.local";
+    static final String PROVIDER_PREFIX = "Datagen Partner ";
+
+    private static final String[] CATEGORIES = {
+            "Environment", "Social", "Education", "Health", "Animals", "Culture", "Sports", "Technology"};
+    private static final String[] SKILLS = {
+            "Teamwork", "Communication", "Leadership", "First Aid", "Cooking", "Driving", "Teaching",
+            "Java", "Design", "Photography", "Outdoors", "Languages"};
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Joao", "Maria", "Pedro", "Ines", "Tiago", "Beatriz", "Rui", "Sofia", "Miguel"};
+    private static final String[] LAST_NAMES = {
+            "Silva", "Santos", "Ferreira", "Pereira", "Oliveira", "Costa", "Rodrigues", "Martins"};
+    private static final String[] AVAILABILITY = {"WEEKDAYS", "WEEKENDS", "EVENINGS"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatagenProperties properties;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, DatagenProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM volunteers WHERE email LIKE ?", Long.class, "%" + EMAIL_DOMAIN);
+        if (existing != null && existing > 0) {
+            log.info("Datagen skipped: {} generated volunteers already present", existing);
+            return;
+        }
+        long start = System.nanoTime();
+        generate();
+        log.info("Datagen finished in {} ms: {} promoters, {} benefits, {} volunteers, {} opportunities",
+                (System.nanoTime() - start) / 1_000_000, properties.getPromoters(), properties.getBenefits(),
+                properties.getVolunteers(), properties.getOpportunities());
+    }
+
+    void generate() {
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> promoterIds = insertPromoters(random, now);
+        int[] benefitCosts = new int[properties.getBenefits()];
+        List<Long> benefitIds = insertBenefits(random, now, benefitCosts);
+        List<Long> volunteerIds = insertVolunteers(random, now);
+
+        int opportunities = properties.getOpportunities();
+        int[] points = new int[opportunities];
+        int[] vacancies = new int[opportunities];
+        boolean[] concluded = new boolean[opportunities];
+        List<Long> opportunityIds = insertOpportunities(random, now, promoterIds, points, vacancies, concluded);
+
+        int volunteers = volunteerIds.size();
+        long[] earned = new long[volunteers];
+        long[] spent = new long[volunteers];
+        long[] redeemed = new long[volunteers];
+        int[] accepted = insertApplications(random, now, volunteerIds, opportunityIds, points, vacancies, concluded, earned);
+        insertRedemptions(random, now, volunteerIds, benefitIds, benefitCosts, spent, redeemed);
+
+        BatchWriter acceptedCounts = new BatchWriter("UPDATE opportunities SET accepted_count = ? WHERE id = ?");
+        for (int o = 0; o < opportunities; o++) {
+            if (accepted[o] > 0) {
+                acceptedCounts.add(accepted[o], opportunityIds.get(o));
+            }
+        }
+        acceptedCounts.flush();
+
+        // Balances also reflect activity from before the generated history, so they follow the skew
+        BatchWriter balances = new BatchWriter("UPDATE volunteers SET total_points = ? WHERE id = ?");
+        BatchWriter stats = new BatchWriter("INSERT INTO volunteer_stats "
+                + "(volunteer_id, points_earned, points_spent, redemption_count, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, 0)");
+        for (int v = 0; v < volunteers; v++) {
+            long balance = Math.max(0, earned[v] - spent[v]) + random.nextInt(100 + 10_000 / (v + 1));
+            balances.add(balance, volunteerIds.get(v));
+            stats.add(volunteerIds.get(v), earned[v], spent[v], redeemed[v], now);
+        }
+        balances.flush();
+        stats.flush();
+    }
+
+    private List<Long> insertPromoters(SplittableRandom random, LocalDateTime now) {
+        BatchWriter writer = new BatchWriter("INSERT INTO promoters "
+                + "(name, email, organization, organization_type, area_of_activity, profile_created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)");
+        for (int p = 0; p < properties.getPromoters(); p++) {
+            writer.add("Promoter " + p, "promoter" + p + EMAIL_DOMAIN, "Organization " + p,
+                    p % 3 == 0 ? "NGO" : "Association", pick(random, CATEGORIES), daysAgo(random, now, 1000));
+        }
+        writer.flush();
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM promoters WHERE email LIKE ? ORDER BY id", Long.class, "%" + EMAIL_DOMAIN);
+    }
+
+    private List<Long> insertBenefits(SplittableRandom random, LocalDateTime now, int[] costs) {
+        BatchWriter writer = new BatchWriter("INSERT INTO benefits "
+                + "(name, description, points_required, category, provider, active, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)");
+        for (int b = 0; b < costs.length; b++) {
+            costs[b] = 25 * (1 + random.nextInt(40));
+            writer.add("Benefit " + b, "Generated benefit " + b, costs[b], b % 4 == 0 ? "UA" : "PARTNER",
+                    PROVIDER_PREFIX + (b % 10), true, daysAgo(random, now, 365));
+        }
+        writer.flush();
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM benefits WHERE provider LIKE ? ORDER BY id", Long.class, PROVIDER_PREFIX + "%");
+    }
+
+    private List<Long> insertVolunteers(SplittableRandom random, LocalDateTime now) {
+        BatchWriter writer = new BatchWriter("INSERT INTO volunteers "
+                + "(name, email, phone, skills, interests, availability, bio, total_points, profile_created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)");
+        for (int v = 0; v < properties.getVolunteers(); v++) {
+            writer.add(pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES), "volunteer" + v + EMAIL_DOMAIN,
+                    String.valueOf(910_000_000 + v), skills(random), pick(random, CATEGORIES),
+                    pick(random, AVAILABILITY), "Generated volunteer " + v, daysAgo(random, now, 1000));
+        }
+        writer.flush();
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM volunteers WHERE email LIKE ? ORDER BY id", Long.class, "%" + EMAIL_DOMAIN);
+    }
+
+    private List<Long> insertOpportunities(SplittableRandom random, LocalDateTime now, List<Long> promoterIds,
+                                           int[] points, int[] vacancies, boolean[] concluded) {
+        ZipfSampler promoters = new ZipfSampler(promoterIds.size(), properties.getSkew(), random);
+        ZipfSampler categories = new ZipfSampler(CATEGORIES.length, 1.0, random);
+        BatchWriter writer = new BatchWriter("INSERT INTO opportunities "
+                + "(title, description, skills, category, duration, vacancies, points, accepted_count, status, "
+                + "promoter_id, created_at, concluded_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?)");
+        for (int o = 0; o < points.length; o++) {
+            points[o] = 10 * (1 + random.nextInt(20));
+            vacancies[o] = 1 + random.nextInt(50);
+            concluded[o] = random.nextInt(10) < 3;
+            LocalDateTime createdAt = daysAgo(random, now, 365);
+            LocalDateTime concludedAt = concluded[o] ? createdAt.plusDays(1 + random.nextInt(30)) : null;
+            writer.add("Opportunity " + o, "Generated opportunity " + o, skills(random),
+                    CATEGORIES[categories.next()], 1 + random.nextInt(40), vacancies[o], points[o],
+                    concluded[o] ? "CONCLUDED" : "OPEN", promoterIds.get(promoters.next()), createdAt, concludedAt,
+                    concludedAt != null ? concludedAt : createdAt);
+        }
+        writer.flush();
+        return jdbcTemplate.queryForList("SELECT o.id FROM opportunities o JOIN promoters p ON p.id = o.promoter_id "
+                + "WHERE p.email LIKE ? ORDER BY o.id", Long.class, "%" + EMAIL_DOMAIN);
+    }
+
+    private int[] insertApplications(SplittableRandom random, LocalDateTime now, List<Long> volunteerIds,
+                                     List<Long> opportunityIds, int[] points, int[] vacancies, boolean[] concluded,
+                                     long[] earned) {
+        ZipfSampler volunteers = new ZipfSampler(volunteerIds.size(), properties.getSkew(), random);
+        ZipfSampler opportunities = new ZipfSampler(opportunityIds.size(), properties.getSkew(), random);
+        int[] accepted = new int[opportunityIds.size()];
+        Set<Long> applied = new HashSet<>();
+        BatchWriter writer = new BatchWriter("INSERT INTO applications "
+                + "(volunteer_id, opportunity_id, status, motivation, applied_at, participation_confirmed, "
+                + "points_awarded, confirmed_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)");
+        // The skew makes repeated (volunteer, opportunity) pairs common; give up after a bounded number of draws
+        long attempts = 4L * properties.getApplications();
+        int written = 0;
+        while (written < properties.getApplications() && attempts-- > 0) {
+            int v = volunteers.next();
+            int o = opportunities.next();
+            if (!applied.add((long) v * opportunityIds.size() + o)) {
+                continue;
+            }
+            String status = "PENDING";
+            if (accepted[o] < vacancies[o] && random.nextBoolean()) {
+                status = "ACCEPTED";
+                accepted[o]++;
+            } else if (concluded[o] || random.nextInt(10) < 3) {
+                status = "REJECTED";
+            }
+            boolean confirmed = "ACCEPTED".equals(status) && concluded[o];
+            int awarded = confirmed ? points[o] : 0;
+            earned[v] += awarded;
+            LocalDateTime appliedAt = daysAgo(random, now, 365);
+            writer.add(volunteerIds.get(v), opportunityIds.get(o), status, "Generated application", appliedAt,
+                    confirmed, awarded, confirmed ? appliedAt.plusDays(1 + random.nextInt(30)) : null);
+            written++;
+        }
+        writer.flush();
+        log.info("Datagen wrote {} applications", written);
+        return accepted;
+    }
+
+    private void insertRedemptions(SplittableRandom random, LocalDateTime now, List<Long> volunteerIds,
+                                   List<Long> benefitIds, int[] costs, long[] spent, long[] redeemed) {
+        ZipfSampler volunteers = new ZipfSampler(volunteerIds.size(), properties.getSkew(), random);
+        ZipfSampler benefits = new ZipfSampler(benefitIds.size(), properties.getSkew(), random);
+        BatchWriter writer = new BatchWriter("INSERT INTO redemptions "
+                + "(volunteer_id, benefit_id, points_spent, status, redeemed_at) VALUES (?, ?, ?, ?, ?)");
+        for (int r = 0; r < properties.getRedemptions(); r++) {
+            int v = volunteers.next();
+            int b = benefits.next();
+            boolean completed = random.nextInt(100) >= 3;
+            if (completed) {
+                spent[v] += costs[b];
+                redeemed[v]++;
+            }
+            writer.add(volunteerIds.get(v), benefitIds.get(b), costs[b], completed ? "COMPLETED" : "CANCELLED",
+                    daysAgo(random, now, 365));
+        }
+        writer.flush();
+        log.info("Datagen wrote {} redemptions", properties.getRedemptions());
+    }
+
+    private static String skills(SplittableRandom random) {
+        int count = 1 + random.nextInt(3);
+        int first = random.nextInt(SKILLS.length);
+        StringBuilder skills = new StringBuilder(SKILLS[first]);
+        for (int i = 1; i < count; i++) {
+            skills.append(", ").append(SKILLS[(first + i * 5) % SKILLS.length]);
+        }
+        return skills.toString();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static LocalDateTime daysAgo(SplittableRandom random, LocalDateTime now, int maxDays) {
+        return now.minusMinutes(random.nextLong(maxDays * 24L * 60));
+    }
+
+    /** Buffers rows for one statement and sends them as JDBC batches of {@code app.datagen.batch-size}. */
+    private final class BatchWriter {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        private BatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
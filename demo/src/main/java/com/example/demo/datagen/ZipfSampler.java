@@ -0,0 +1,37 @@
+package com.example.demo.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Draws ranks in {@code [0, size)} with probability proportional to {@code 1 / (rank + 1)^exponent},
+ * so a few low ranks receive most of the draws. Sampling is a binary search over the
+ * precomputed cumulative distribution.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+    private final SplittableRandom random;
+
+    public ZipfSampler(int size, double exponent, SplittableRandom random) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        this.cumulative = new double[size];
+        this.random = random;
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    public int next() {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.ApplicationStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchApplicationStatusRequest {
+
+    @NotNull(message = "Promoter ID is required")
+    private Long promoterId;
+
+    @NotEmpty(message = "At least one status update is required")
+    @Size(max = 1000, message = "At most 1000 status updates per batch")
+    private List<@Valid StatusUpdate> updates;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatusUpdate {
+
+        @NotNull(message = "Application ID is required")
+        private Long applicationId;
+
+        @NotNull(message = "Status is required")
+        private ApplicationStatus status;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchApplicationStatusResponse {
+
+    private Integer requested;
+    private Integer updated;
+    private Integer unchanged;
+    private Map<ApplicationStatus, Integer> updatedByStatus;
+}
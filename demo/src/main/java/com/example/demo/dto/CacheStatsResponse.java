@@ -0,0 +1,34 @@
+package com.example.demo.dto;
+
+import com.example.demo.cache.TwoLevelCache;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    private String name;
+    private Integer nearSize;
+    private Long nearHits;
+    private Long nearMisses;
+    private Double nearHitRate;
+    private Long sharedHits;
+    private Long sharedMisses;
+    private Double sharedHitRate;
+
+    public static CacheStatsResponse fromCache(TwoLevelCache cache) {
+        CacheStatsResponse response = new CacheStatsResponse();
+        response.setName(cache.getName());
+        response.setNearSize(cache.getNearSize());
+        response.setNearHits(cache.getNearStats().getHits());
+        response.setNearMisses(cache.getNearStats().getMisses());
+        response.setNearHitRate(cache.getNearStats().getHitRate());
+        response.setSharedHits(cache.getSharedStats().getHits());
+        response.setSharedMisses(cache.getSharedStats().getMisses());
+        response.setSharedHitRate(cache.getSharedStats().getHitRate());
+        return response;
+    }
+}
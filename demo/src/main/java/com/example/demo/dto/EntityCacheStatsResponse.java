@@ -0,0 +1,38 @@
+package com.example.demo.dto;
+
+import com.example.demo.cache.EntityRegionStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.stat.CacheRegionStatistics;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityCacheStatsResponse {
+
+    private String region;
+    private Long hits;
+    private Long misses;
+    private Long puts;
+    private Double hitRate;
+    private Long evictions;
+    private Long invalidationsPublished;
+    private Long invalidationsReceived;
+
+    public static EntityCacheStatsResponse fromRegion(String region, CacheRegionStatistics regionStatistics,
+                                                      EntityRegionStats stats) {
+        EntityCacheStatsResponse response = new EntityCacheStatsResponse();
+        response.setRegion(region);
+        long hits = regionStatistics == null ? 0 : regionStatistics.getHitCount();
+        long misses = regionStatistics == null ? 0 : regionStatistics.getMissCount();
+        response.setHits(hits);
+        response.setMisses(misses);
+        response.setPuts(regionStatistics == null ? 0 : regionStatistics.getPutCount());
+        response.setHitRate(hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        response.setEvictions(stats.getEvictions());
+        response.setInvalidationsPublished(stats.getInvalidationsPublished());
+        response.setInvalidationsReceived(stats.getInvalidationsReceived());
+        return response;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpportunityFacetsResponse {
+
+    private Integer total;
+    private Map<String, Long> categories;
+    private Map<String, Long> skills;
+    private Map<String, Long> durations;
+    private Map<String, Long> statuses;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingEntryResponse {
+
+    private Integer rank;
+    private Long volunteerId;
+    private String name;
+    private String email;
+    private Integer points;
+}
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolunteerRankResponse {
+
+    private Long volunteerId;
+    private Integer points;
+    private Integer rank;
+    private Integer totalVolunteers;
+    /** Share of volunteers with fewer points, from 0 to 100. */
+    private Double percentile;
+    /** Closest volunteers ranked ahead, nearest last. */
+    private List<RankingEntryResponse> above;
+    /** Closest volunteers ranked behind, nearest first. */
+    private List<RankingEntryResponse> below;
+}
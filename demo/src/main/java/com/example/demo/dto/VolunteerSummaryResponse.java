@@ -0,0 +1,26 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.VolunteerStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolunteerSummaryResponse {
+
+    private Long volunteerId;
+    private Long pointsEarned;
+    private Long pointsSpent;
+    private Long redemptionCount;
+
+    public static VolunteerSummaryResponse fromEntity(VolunteerStats stats) {
+        VolunteerSummaryResponse response = new VolunteerSummaryResponse();
+        response.setVolunteerId(stats.getVolunteerId());
+        response.setPointsEarned(stats.getPointsEarned());
+        response.setPointsSpent(stats.getPointsSpent());
+        response.setRedemptionCount(stats.getRedemptionCount());
+        return response;
+    }
+}
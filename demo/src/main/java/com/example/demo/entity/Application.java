@@ -1,5 +1,6 @@
 package com.example.demo.entity;
 
+import com.example.demo.event.ApplicationEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(ApplicationEntityListener.class)
 @Table(name = "applications", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"volunteer_id", "opportunity_id"})
 })
@@ -46,6 +48,9 @@ public class Application {
 
     private LocalDateTime confirmedAt;
 
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         appliedAt = LocalDateTime.now();
@@ -1,13 +1,21 @@
 package com.example.demo.entity;
 
+import com.example.demo.cache.CacheNames;
+import com.example.demo.cache.EntityCacheInvalidator;
+import com.example.demo.event.BenefitEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.BENEFIT_ENTITIES)
+@EntityListeners({BenefitEntityListener.class, EntityCacheInvalidator.class})
 @Table(name = "benefits")
 @Data
 @NoArgsConstructor
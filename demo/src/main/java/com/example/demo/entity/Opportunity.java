@@ -1,13 +1,22 @@
 package com.example.demo.entity;
 
+import com.example.demo.cache.CacheNames;
+import com.example.demo.cache.EntityCacheInvalidator;
+import com.example.demo.event.OpportunityEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.OPPORTUNITY_ENTITIES)
+@EntityListeners({OpportunityEntityListener.class, EntityCacheInvalidator.class})
 @Table(name = "opportunities")
 @Data
 @NoArgsConstructor
@@ -39,6 +48,13 @@ public class Opportunity {
     @Column(nullable = false)
     private Integer points;
 
+    // Maintained only through the conditional UPDATEs in OpportunityRepository so that a
+    // stale entity flush can never overwrite concurrent reservations. Existing databases are
+    // backfilled once with scripts/backfill-accepted-count.sql.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Integer acceptedCount = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OpportunityStatus status = OpportunityStatus.OPEN;
@@ -52,11 +68,23 @@ public class Opportunity {
 
     private LocalDateTime concludedAt;
 
+    // Watermark for replaying changes on top of a warm-start snapshot; null for rows inserted by SQL
+    private LocalDateTime updatedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
         if (status == null) {
             status = OpportunityStatus.OPEN;
         }
+        if (acceptedCount == null) {
+            acceptedCount = 0;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
@@ -1,16 +1,25 @@
 package com.example.demo.entity;
 
+import com.example.demo.cache.CacheNames;
+import com.example.demo.cache.EntityCacheInvalidator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.PROMOTER_ENTITIES)
+@EntityListeners(EntityCacheInvalidator.class)
+@DynamicUpdate
 @Table(name = "promoters")
 @Data
 @NoArgsConstructor
@@ -64,6 +73,9 @@ public class Promoter {
 
     private LocalDateTime profileUpdatedAt;
 
+    /** Set when deletion is requested; the promoter is hidden and read-only until the purge removes it. */
+    private LocalDateTime deletedAt;
+
     @JsonIgnore
     @OneToMany(mappedBy = "promoter", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Opportunity> opportunities = new ArrayList<>();
@@ -1,13 +1,17 @@
 package com.example.demo.entity;
 
+import com.example.demo.event.VolunteerEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(VolunteerEntityListener.class)
+@DynamicUpdate
 @Table(name = "volunteers")
 @Data
 @NoArgsConstructor
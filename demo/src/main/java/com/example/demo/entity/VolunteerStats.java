@@ -0,0 +1,40 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "volunteer_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolunteerStats {
+
+    @Id
+    private Long volunteerId;
+
+    @Column(nullable = false)
+    private Long pointsEarned = 0L;
+
+    @Column(nullable = false)
+    private Long pointsSpent = 0L;
+
+    @Column(nullable = false)
+    private Long redemptionCount = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Application;
+import com.example.demo.entity.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published for every persisted change to an application. Carries the application's own
+ * columns and the ids of its volunteer and opportunity, which are read without loading them,
+ * along with the row version so listeners can tell a late event from the current state.
+ */
+public record ApplicationChangedEvent(
+        ChangeType type,
+        Long applicationId,
+        Long volunteerId,
+        Long opportunityId,
+        ApplicationStatus status,
+        String motivation,
+        LocalDateTime appliedAt,
+        Boolean participationConfirmed,
+        Integer pointsAwarded,
+        LocalDateTime confirmedAt,
+        Long version) {
+
+    public enum ChangeType {
+        SAVED,
+        DELETED
+    }
+
+    public static ApplicationChangedEvent saved(Application application) {
+        return new ApplicationChangedEvent(ChangeType.SAVED, application.getId(),
+                application.getVolunteer().getId(), application.getOpportunity().getId(),
+                application.getStatus(), application.getMotivation(), application.getAppliedAt(),
+                application.getParticipationConfirmed(), application.getPointsAwarded(),
+                application.getConfirmedAt(), application.getVersion());
+    }
+
+    public static ApplicationChangedEvent deleted(Long applicationId) {
+        return new ApplicationChangedEvent(ChangeType.DELETED, applicationId,
+                null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Application;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ApplicationEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Application application) {
+        eventPublisher.publishEvent(ApplicationChangedEvent.saved(application));
+    }
+
+    @PostRemove
+    public void onRemoved(Application application) {
+        eventPublisher.publishEvent(ApplicationChangedEvent.deleted(application.getId()));
+    }
+}
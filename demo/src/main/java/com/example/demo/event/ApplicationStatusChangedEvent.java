@@ -0,0 +1,25 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Application;
+import com.example.demo.entity.ApplicationStatus;
+
+public record ApplicationStatusChangedEvent(
+        Long applicationId,
+        Long volunteerId,
+        Long opportunityId,
+        Long promoterId,
+        String opportunityTitle,
+        ApplicationStatus status,
+        Long version) {
+
+    public static ApplicationStatusChangedEvent fromEntity(Application application) {
+        return new ApplicationStatusChangedEvent(
+                application.getId(),
+                application.getVolunteer().getId(),
+                application.getOpportunity().getId(),
+                application.getOpportunity().getPromoter().getId(),
+                application.getOpportunity().getTitle(),
+                application.getStatus(),
+                application.getVersion());
+    }
+}
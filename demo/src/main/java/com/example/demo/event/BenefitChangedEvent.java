@@ -0,0 +1,27 @@
+package com.example.demo.event;
+
+import com.example.demo.dto.BenefitResponse;
+import com.example.demo.entity.Benefit;
+
+/**
+ * Published for every persisted change to a benefit so the in-memory price index can
+ * swap in a new copy without reading the catalog again.
+ */
+public record BenefitChangedEvent(
+        ChangeType type,
+        Long benefitId,
+        BenefitResponse benefit) {
+
+    public enum ChangeType {
+        SAVED,
+        DELETED
+    }
+
+    public static BenefitChangedEvent saved(Benefit benefit) {
+        return new BenefitChangedEvent(ChangeType.SAVED, benefit.getId(), BenefitResponse.fromEntity(benefit));
+    }
+
+    public static BenefitChangedEvent deleted(Long benefitId) {
+        return new BenefitChangedEvent(ChangeType.DELETED, benefitId, null);
+    }
+}
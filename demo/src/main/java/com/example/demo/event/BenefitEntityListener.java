@@ -0,0 +1,29 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Benefit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BenefitEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BenefitEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Benefit benefit) {
+        eventPublisher.publishEvent(BenefitChangedEvent.saved(benefit));
+    }
+
+    @PostRemove
+    public void onRemoved(Benefit benefit) {
+        eventPublisher.publishEvent(BenefitChangedEvent.deleted(benefit.getId()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Opportunity;
+import com.example.demo.entity.OpportunityStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published for every persisted change to an opportunity, including writes that bypass
+ * the services, so read-side projections can be maintained incrementally.
+ */
+public record OpportunityChangedEvent(
+        ChangeType type,
+        Long opportunityId,
+        String category,
+        String skills,
+        Integer duration,
+        OpportunityStatus status,
+        String title,
+        Integer points,
+        LocalDateTime updatedAt) {
+
+    public enum ChangeType {
+        SAVED,
+        DELETED
+    }
+
+    public static OpportunityChangedEvent saved(Opportunity opportunity) {
+        return new OpportunityChangedEvent(ChangeType.SAVED, opportunity.getId(), opportunity.getCategory(),
+                opportunity.getSkills(), opportunity.getDuration(), opportunity.getStatus(),
+                opportunity.getTitle(), opportunity.getPoints(), opportunity.getUpdatedAt());
+    }
+
+    public static OpportunityChangedEvent deleted(Long opportunityId) {
+        return new OpportunityChangedEvent(ChangeType.DELETED, opportunityId, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Opportunity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OpportunityEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OpportunityEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Opportunity opportunity) {
+        eventPublisher.publishEvent(OpportunityChangedEvent.saved(opportunity));
+    }
+
+    @PostRemove
+    public void onRemoved(Opportunity opportunity) {
+        eventPublisher.publishEvent(OpportunityChangedEvent.deleted(opportunity.getId()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Application;
+
+import java.time.LocalDateTime;
+
+public record PointsCreditedEvent(
+        Long volunteerId,
+        Long applicationId,
+        Long opportunityId,
+        String opportunityTitle,
+        Integer pointsAwarded,
+        Integer totalPoints,
+        LocalDateTime confirmedAt) {
+
+    public static PointsCreditedEvent fromEntity(Application application) {
+        return new PointsCreditedEvent(
+                application.getVolunteer().getId(),
+                application.getId(),
+                application.getOpportunity().getId(),
+                application.getOpportunity().getTitle(),
+                application.getPointsAwarded(),
+                application.getVolunteer().getTotalPoints(),
+                application.getConfirmedAt());
+    }
+}
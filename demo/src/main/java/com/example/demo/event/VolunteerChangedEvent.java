@@ -0,0 +1,29 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Volunteer;
+
+/**
+ * Published for every persisted change to a volunteer so projections holding copies of
+ * the volunteer's name, email or points balance can refresh them.
+ */
+public record VolunteerChangedEvent(
+        ChangeType type,
+        Long volunteerId,
+        String name,
+        String email,
+        Integer totalPoints) {
+
+    public enum ChangeType {
+        SAVED,
+        DELETED
+    }
+
+    public static VolunteerChangedEvent saved(Volunteer volunteer) {
+        return new VolunteerChangedEvent(ChangeType.SAVED, volunteer.getId(), volunteer.getName(), volunteer.getEmail(),
+                volunteer.getTotalPoints());
+    }
+
+    public static VolunteerChangedEvent deleted(Long volunteerId) {
+        return new VolunteerChangedEvent(ChangeType.DELETED, volunteerId, null, null, null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Volunteer;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VolunteerEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public VolunteerEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    // Inserts count too: the rank index includes volunteers that have no points yet
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Volunteer volunteer) {
+        eventPublisher.publishEvent(VolunteerChangedEvent.saved(volunteer));
+    }
+
+    @PostRemove
+    public void onRemoved(Volunteer volunteer) {
+        eventPublisher.publishEvent(VolunteerChangedEvent.deleted(volunteer.getId()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.idempotency;
+
+import com.example.demo.entity.IdempotencyRecord;
+import com.example.demo.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the response of a POST by its Idempotency-Key so that client retries, on any node,
+ * are answered from the database instead of re-running the service. The key row is inserted in
+ * the same transaction as the action and holds its serialized response, so a failed attempt
+ * leaves no key behind and a committed one can always be replayed. The unique index on
+ * (scope, key) makes a concurrent duplicate wait for the first attempt; if that is still running
+ * the duplicate is rejected rather than run. Keys are purged once their TTL has passed.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public IdempotencyStore(IdempotencyRecordRepository repository, PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper, @Value("${app.idempotency.ttl:24h}") Duration ttl) {
+        this(repository, transactionManager, objectMapper, ttl, Clock.systemUTC());
+    }
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper, Duration ttl, Clock clock) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request, Class<T> responseType,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String requestHash = hash(request);
+        ResponseEntity<T> response = transactionTemplate.execute(status -> {
+            IdempotencyRecord record;
+            try {
+                record = repository.saveAndFlush(new IdempotencyRecord(null, scope, key, requestHash, null, null,
+                        LocalDateTime.now(clock).plus(ttl)));
+            } catch (DataIntegrityViolationException | PessimisticLockingFailureException ex) {
+                // Another attempt holds the key; it is replayed below, outside this transaction
+                status.setRollbackOnly();
+                return null;
+            }
+            ResponseEntity<T> result = action.get();
+            record.setResponseStatus(result.getStatusCode().value());
+            record.setResponseBody(write(result.getBody()));
+            return result;
+        });
+        if (response != null) {
+            return response;
+        }
+        return replay(scope, key, requestHash, responseType);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT1H}",
+            initialDelayString = "${app.idempotency.purge-interval:PT1H}")
+    public int purgeExpired() {
+        Integer purged = transactionTemplate.execute(status -> repository.deleteExpired(LocalDateTime.now(clock)));
+        return purged == null ? 0 : purged;
+    }
+
+    private <T> ResponseEntity<T> replay(String scope, String key, String requestHash, Class<T> responseType) {
+        IdempotencyRecord record = repository.findByScopeAndIdempotencyKey(scope, key)
+                .orElseThrow(() -> new IllegalStateException(
+                        "A request with this " + HEADER + " is still being processed"));
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IllegalArgumentException(HEADER + " was already used with a different request");
+        }
+        return ResponseEntity.status(record.getResponseStatus())
+                .header(REPLAYED_HEADER, "true")
+                .body(read(record.getResponseBody(), responseType));
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Could not fingerprint request", ex);
+        }
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not store response for " + HEADER, ex);
+        }
+    }
+
+    private <T> T read(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not replay response for " + HEADER, ex);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.ranking;
+
+/**
+ * Fenwick tree over a histogram of points balances: how many volunteers hold each balance.
+ * Both updates and "how many hold at most p points" take O(log P), where P is the highest
+ * balance seen. The tree doubles when a larger balance arrives.
+ */
+final class PointsHistogram {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // 1-based; tree[i] holds the count of balances in (i - lowbit(i), i], balance b at index b + 1
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private int total;
+
+    void add(int points, int delta) {
+        int index = Math.max(points, 0) + 1;
+        while (index >= tree.length) {
+            grow();
+        }
+        for (int i = index; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+        total += delta;
+    }
+
+    /** Number of balances less than or equal to the given points. */
+    int countAtMost(int points) {
+        if (points < 0) {
+            return 0;
+        }
+        int sum = 0;
+        for (int i = Math.min(points + 1, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    int countAbove(int points) {
+        return total - countAtMost(points);
+    }
+
+    int total() {
+        return total;
+    }
+
+    void clear() {
+        tree = new int[INITIAL_CAPACITY + 1];
+        total = 0;
+    }
+
+    private void grow() {
+        // With a power-of-two capacity n, the new nodes between n and 2n cover only empty
+        // balances and node 2n covers everything, so the old nodes carry over unchanged
+        int capacity = tree.length - 1;
+        int[] grown = new int[capacity * 2 + 1];
+        System.arraycopy(tree, 0, grown, 0, tree.length);
+        grown[capacity * 2] = tree[capacity];
+        tree = grown;
+    }
+}
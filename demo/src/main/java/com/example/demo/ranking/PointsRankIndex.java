@@ -0,0 +1,143 @@
+package com.example.demo.ranking;
+
+import com.example.demo.dto.RankingEntryResponse;
+import com.example.demo.dto.VolunteerPointsResponse;
+import com.example.demo.dto.VolunteerRankResponse;
+import com.example.demo.event.VolunteerChangedEvent;
+import com.example.demo.readmodel.CommittedEventProjection;
+import com.example.demo.readmodel.ProjectionSource;
+import com.example.demo.repository.VolunteerRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Every volunteer's points balance, as a histogram for rank and percentile lookups in O(log P)
+ * and as a sorted set for walking to the neighbouring volunteers in O(log n). Volunteers with
+ * the same balance share a rank. Rebuilt on startup and maintained from committed volunteer
+ * changes, which include every points award and redemption.
+ */
+@Component
+public class PointsRankIndex extends CommittedEventProjection {
+
+    private final VolunteerRepository volunteerRepository;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Standing> standings = new TreeSet<>(Standing.BY_POINTS);
+    private final PointsHistogram histogram = new PointsHistogram();
+
+    public PointsRankIndex(VolunteerRepository volunteerRepository) {
+        this.volunteerRepository = volunteerRepository;
+    }
+
+    public Optional<VolunteerRankResponse> rank(Long volunteerId, int neighbours) {
+        return read(() -> {
+            Entry entry = entries.get(volunteerId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            Standing standing = entry.standing(volunteerId);
+            int total = histogram.total();
+            double percentile = Math.round(histogram.countAtMost(entry.points() - 1) * 1000.0 / total) / 10.0;
+
+            List<RankingEntryResponse> above = neighbours(standings.headSet(standing, false).descendingIterator(), neighbours);
+            Collections.reverse(above);
+            List<RankingEntryResponse> below = neighbours(standings.tailSet(standing, false).iterator(), neighbours);
+
+            return Optional.of(new VolunteerRankResponse(volunteerId, entry.points(), rankOf(entry.points()),
+                    total, percentile, above, below));
+        });
+    }
+
+    /** The volunteer's points balance as of the last committed change. */
+    public Optional<Integer> balance(Long volunteerId) {
+        return read(() -> Optional.ofNullable(entries.get(volunteerId)).map(Entry::points));
+    }
+
+    @Override
+    protected void load() {
+        entries.clear();
+        standings.clear();
+        histogram.clear();
+        for (VolunteerPointsResponse volunteer : volunteerRepository.findAllPoints()) {
+            put(volunteer.getId(), new Entry(volunteer.getName(), volunteer.getEmail(), pointsOf(volunteer.getTotalPoints())));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVolunteerChanged(VolunteerChangedEvent event) {
+        write(() -> {
+            if (event.type() == VolunteerChangedEvent.ChangeType.DELETED) {
+                remove(event.volunteerId());
+            } else {
+                put(event.volunteerId(), new Entry(event.name(), event.email(), pointsOf(event.totalPoints())));
+            }
+        });
+    }
+
+    @Override
+    protected void refresh(ProjectionSource source, Long id) {
+        if (source != ProjectionSource.VOLUNTEER) {
+            return;
+        }
+        remove(id);
+        volunteerRepository.findPointsById(id).ifPresent(volunteer ->
+                put(id, new Entry(volunteer.getName(), volunteer.getEmail(), pointsOf(volunteer.getTotalPoints()))));
+    }
+
+    private List<RankingEntryResponse> neighbours(Iterator<Standing> iterator, int count) {
+        List<RankingEntryResponse> result = new ArrayList<>(count);
+        while (result.size() < count && iterator.hasNext()) {
+            Standing standing = iterator.next();
+            Entry entry = entries.get(standing.volunteerId());
+            result.add(new RankingEntryResponse(rankOf(standing.points()), standing.volunteerId(),
+                    entry.name(), entry.email(), standing.points()));
+        }
+        return result;
+    }
+
+    private int rankOf(int points) {
+        return histogram.countAbove(points) + 1;
+    }
+
+    private void put(Long volunteerId, Entry entry) {
+        Entry previous = entries.put(volunteerId, entry);
+        if (previous != null && previous.points() == entry.points()) {
+            return;
+        }
+        if (previous != null) {
+            standings.remove(previous.standing(volunteerId));
+            histogram.add(previous.points(), -1);
+        }
+        standings.add(entry.standing(volunteerId));
+        histogram.add(entry.points(), 1);
+    }
+
+    private void remove(Long volunteerId) {
+        Entry previous = entries.remove(volunteerId);
+        if (previous != null) {
+            standings.remove(previous.standing(volunteerId));
+            histogram.add(previous.points(), -1);
+        }
+    }
+
+    private static int pointsOf(Integer totalPoints) {
+        return totalPoints == null ? 0 : Math.max(totalPoints, 0);
+    }
+
+    private record Entry(String name, String email, int points) {
+
+        Standing standing(Long volunteerId) {
+            return new Standing(volunteerId, points);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.ranking;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum RankingWindow {
+
+    WEEK("7d", 7),
+    MONTH("30d", 30),
+    QUARTER("90d", 90),
+    YEAR("365d", 365),
+    ALL("all", 0);
+
+    private final String param;
+    private final int days;
+
+    RankingWindow(String param, int days) {
+        this.param = param;
+        this.days = days;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    /** First epoch day of this window when it ends on the given day. */
+    long firstDay(long today) {
+        return this == ALL ? Long.MIN_VALUE : today - days + 1;
+    }
+
+    /** Whether a bucket starting on the given epoch day counts towards this window ending today. */
+    boolean includes(long bucketStartDay, long today) {
+        return bucketStartDay >= firstDay(today);
+    }
+
+    public static RankingWindow fromParam(String param) {
+        for (RankingWindow window : values()) {
+            if (window.param.equalsIgnoreCase(param)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("Unknown ranking window: " + param + "; expected one of "
+                + Arrays.stream(values()).map(RankingWindow::getParam).collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.ranking;
+
+import java.util.Comparator;
+
+/** A volunteer's place in a ranking: more points first, ties broken by id. */
+record Standing(long volunteerId, int points) {
+
+    static final Comparator<Standing> BY_POINTS =
+            Comparator.comparingInt(Standing::points).reversed().thenComparingLong(Standing::volunteerId);
+}
@@ -0,0 +1,279 @@
+package com.example.demo.ranking;
+
+import com.example.demo.dto.RankingEntryResponse;
+import com.example.demo.event.PointsCreditedEvent;
+import com.example.demo.event.VolunteerChangedEvent;
+import com.example.demo.readmodel.CommittedEventProjection;
+import com.example.demo.readmodel.ProjectionSource;
+import com.example.demo.repository.ApplicationRepository;
+import com.example.demo.repository.AwardedPointsView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Points earned per volunteer in rolling time buckets, with a standing per {@link RankingWindow}
+ * kept sorted as points are credited, so a windowed ranking is read without aggregating
+ * applications. The last {@value #DAILY_DAYS} days are kept as daily buckets, older days are
+ * compacted into weekly buckets and, after {@value #WEEKLY_DAYS} days, into monthly ones; a bucket
+ * counts towards a window when it starts inside it, which makes the 7 and 30 day windows exact
+ * and the longer ones accurate to a week or a month. The 'all' window is lifetime points earned.
+ * Rebuilt on startup and rolled forward on the first access of each day.
+ */
+@Component
+public class WindowedPointsRanking extends CommittedEventProjection {
+
+    static final int DAILY_DAYS = 35;
+    static final int WEEKLY_DAYS = 98;
+
+    private static final RankingWindow[] WINDOWS = RankingWindow.values();
+
+    private final ApplicationRepository applicationRepository;
+    private final Clock clock;
+
+    private final Map<Long, Timeline> timelines = new HashMap<>();
+    private final Map<Long, Identity> identities = new HashMap<>();
+    private final List<TreeSet<Standing>> standings = new ArrayList<>();
+
+    private volatile long today;
+
+    @Autowired
+    public WindowedPointsRanking(ApplicationRepository applicationRepository) {
+        this(applicationRepository, Clock.systemDefaultZone());
+    }
+
+    public WindowedPointsRanking(ApplicationRepository applicationRepository, Clock clock) {
+        this.applicationRepository = applicationRepository;
+        this.clock = clock;
+        for (int i = 0; i < WINDOWS.length; i++) {
+            standings.add(new TreeSet<>(Standing.BY_POINTS));
+        }
+    }
+
+    public List<RankingEntryResponse> top(RankingWindow window, int limit) {
+        ensureCurrent();
+        return read(() -> {
+            List<RankingEntryResponse> entries = new ArrayList<>(Math.min(limit, timelines.size()));
+            int rank = 0;
+            int previousPoints = -1;
+            for (Standing standing : standings.get(window.ordinal())) {
+                if (entries.size() == limit) {
+                    break;
+                }
+                // Volunteers with equal points share a rank
+                if (standing.points() != previousPoints) {
+                    rank = entries.size() + 1;
+                    previousPoints = standing.points();
+                }
+                Identity identity = identities.getOrDefault(standing.volunteerId(), Identity.UNKNOWN);
+                entries.add(new RankingEntryResponse(rank, standing.volunteerId(), identity.name(),
+                        identity.email(), standing.points()));
+            }
+            return entries;
+        });
+    }
+
+    @Override
+    protected void load() {
+        timelines.clear();
+        identities.clear();
+        today = currentDay();
+        for (AwardedPointsView view : applicationRepository.findAllAwardedPoints()) {
+            identities.put(view.getVolunteerId(), new Identity(view.getVolunteerName(), view.getVolunteerEmail()));
+            timeline(view.getVolunteerId()).add(dayOf(view.getConfirmedAt()), view.getPoints());
+        }
+        rebuildStandings();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsCredited(PointsCreditedEvent event) {
+        if (event.pointsAwarded() == null || event.pointsAwarded() <= 0) {
+            return;
+        }
+        write(() -> {
+            rollForward();
+            Timeline timeline = timeline(event.volunteerId());
+            timeline.add(dayOf(event.confirmedAt()), event.pointsAwarded());
+            timeline.compact(today);
+            updateStandings(event.volunteerId(), timeline);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVolunteerChanged(VolunteerChangedEvent event) {
+        write(() -> {
+            if (event.type() == VolunteerChangedEvent.ChangeType.DELETED) {
+                identities.remove(event.volunteerId());
+                Timeline timeline = timelines.remove(event.volunteerId());
+                if (timeline != null) {
+                    for (RankingWindow window : WINDOWS) {
+                        standings.get(window.ordinal()).remove(timeline.standing(event.volunteerId(), window));
+                    }
+                }
+            } else {
+                // Kept for every volunteer: the credit for a first award may be applied before this event
+                identities.put(event.volunteerId(), new Identity(event.name(), event.email()));
+            }
+        });
+    }
+
+    @Override
+    protected void refresh(ProjectionSource source, Long id) {
+        if (source != ProjectionSource.VOLUNTEER && source != ProjectionSource.POINTS_CREDIT) {
+            return;
+        }
+        rollForward();
+        Timeline previous = timelines.remove(id);
+        if (previous != null) {
+            for (RankingWindow window : WINDOWS) {
+                standings.get(window.ordinal()).remove(previous.standing(id, window));
+            }
+        }
+        identities.remove(id);
+        List<AwardedPointsView> awards = applicationRepository.findAwardedPointsByVolunteerId(id);
+        if (awards.isEmpty()) {
+            return;
+        }
+        Timeline timeline = timeline(id);
+        for (AwardedPointsView view : awards) {
+            identities.put(id, new Identity(view.getVolunteerName(), view.getVolunteerEmail()));
+            timeline.add(dayOf(view.getConfirmedAt()), view.getPoints());
+        }
+        timeline.compact(today);
+        timeline.recompute(today);
+        addStandings(id, timeline);
+    }
+
+    private void ensureCurrent() {
+        ensureLoaded();
+        if (today != currentDay()) {
+            write(this::rollForward);
+        }
+    }
+
+    private void rollForward() {
+        long day = currentDay();
+        if (today != day) {
+            today = day;
+            rebuildStandings();
+        }
+    }
+
+    private void rebuildStandings() {
+        standings.forEach(TreeSet::clear);
+        for (Map.Entry<Long, Timeline> entry : timelines.entrySet()) {
+            entry.getValue().compact(today);
+            entry.getValue().recompute(today);
+            addStandings(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void updateStandings(Long volunteerId, Timeline timeline) {
+        for (RankingWindow window : WINDOWS) {
+            standings.get(window.ordinal()).remove(timeline.standing(volunteerId, window));
+        }
+        timeline.recompute(today);
+        addStandings(volunteerId, timeline);
+    }
+
+    private void addStandings(Long volunteerId, Timeline timeline) {
+        for (RankingWindow window : WINDOWS) {
+            if (timeline.points(window) > 0) {
+                standings.get(window.ordinal()).add(timeline.standing(volunteerId, window));
+            }
+        }
+    }
+
+    private Timeline timeline(Long volunteerId) {
+        return timelines.computeIfAbsent(volunteerId, id -> new Timeline());
+    }
+
+    private long currentDay() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+
+    private long dayOf(LocalDateTime confirmedAt) {
+        // A credit without a confirmation time (or one stamped ahead of this clock) counts as today
+        return confirmedAt == null ? today : Math.min(confirmedAt.toLocalDate().toEpochDay(), today);
+    }
+
+    /** Buckets keyed by the epoch day they start on; the width of a bucket follows from its age. */
+    private static final class Timeline {
+
+        private final NavigableMap<Long, Integer> buckets = new TreeMap<>();
+        private final int[] windowPoints = new int[WINDOWS.length];
+        private int lifetimePoints;
+
+        void add(long day, int points) {
+            buckets.merge(day, points, Integer::sum);
+            lifetimePoints += points;
+        }
+
+        void compact(long today) {
+            for (Map.Entry<Long, Integer> bucket : new ArrayList<>(buckets.headMap(today - DAILY_DAYS, true).entrySet())) {
+                long start = bucket.getKey();
+                long compacted = weekStart(start);
+                if (compacted <= today - WEEKLY_DAYS) {
+                    compacted = monthStart(start);
+                }
+                if (compacted != start) {
+                    buckets.remove(start);
+                    buckets.merge(compacted, bucket.getValue(), Integer::sum);
+                }
+            }
+            // Nothing older than the longest bounded window is ever read again; lifetime points keep it
+            buckets.headMap(RankingWindow.YEAR.firstDay(today), false).clear();
+        }
+
+        void recompute(long today) {
+            for (RankingWindow window : WINDOWS) {
+                if (window == RankingWindow.ALL) {
+                    windowPoints[window.ordinal()] = lifetimePoints;
+                    continue;
+                }
+                int sum = 0;
+                for (Map.Entry<Long, Integer> bucket : buckets.descendingMap().entrySet()) {
+                    if (!window.includes(bucket.getKey(), today)) {
+                        break;
+                    }
+                    sum += bucket.getValue();
+                }
+                windowPoints[window.ordinal()] = sum;
+            }
+        }
+
+        int points(RankingWindow window) {
+            return windowPoints[window.ordinal()];
+        }
+
+        Standing standing(Long volunteerId, RankingWindow window) {
+            return new Standing(volunteerId, points(window));
+        }
+
+        private static long weekStart(long day) {
+            return LocalDate.ofEpochDay(day).with(DayOfWeek.MONDAY).toEpochDay();
+        }
+
+        private static long monthStart(long day) {
+            return LocalDate.ofEpochDay(day).withDayOfMonth(1).toEpochDay();
+        }
+    }
+
+    private record Identity(String name, String email) {
+
+        static final Identity UNKNOWN = new Identity(null, null);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.ratelimit;
+
+import com.example.demo.exception.ServiceOverloadedException;
+import com.example.demo.exception.TooManyRequestsException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The endpoint classes from {@link RateLimitProperties}: a shared token bucket per class, a
+ * token bucket per client within the class and an adaptive concurrency limit. One instance
+ * backs both the servlet and the reactive tier, so a client gets one quota however it
+ * reaches an endpoint.
+ */
+@Component
+public class EndpointRateLimiter {
+
+    private final RateLimitProperties properties;
+    private final List<LimitedClass> limitedClasses = new ArrayList<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public EndpointRateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        properties.getClasses().forEach((name, config) -> limitedClasses.add(new LimitedClass(name, config)));
+    }
+
+    /**
+     * Takes a permit for the class the request falls in, or returns null if it matches none
+     * (e.g. /api/auth/login). The permit must be released once the response is complete.
+     *
+     * @param controller simple name of the handling controller, or null if there is none
+     */
+    public Permit acquire(String method, String path, String controller, String clientKey) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        LimitedClass limited = resolve(method, path, controller);
+        if (limited == null) {
+            return null;
+        }
+
+        if (!limited.routeBucket.tryConsume()) {
+            throw new TooManyRequestsException("Rate limit exceeded for " + limited.name,
+                    limited.routeBucket.secondsUntilNextToken());
+        }
+        TokenBucket clientBucket = limited.clientBucket(clientKey, properties.getMaxTrackedClients());
+        if (!clientBucket.tryConsume()) {
+            throw new TooManyRequestsException("Client rate limit exceeded for " + limited.name,
+                    clientBucket.secondsUntilNextToken());
+        }
+        if (!limited.concurrencyLimiter.tryAcquire()) {
+            throw new ServiceOverloadedException("Server is busy, please retry shortly", 1);
+        }
+        return new Permit(limited.concurrencyLimiter, System.nanoTime());
+    }
+
+    private LimitedClass resolve(String method, String path, String controller) {
+        for (LimitedClass limited : limitedClasses) {
+            if (limited.matches(method, path, controller, pathMatcher)) {
+                return limited;
+            }
+        }
+        return null;
+    }
+
+    /** A held concurrency permit; feeds the request's latency back to the limiter on release. */
+    public static final class Permit {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long startNanos;
+
+        private Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+            this.limiter = limiter;
+            this.startNanos = startNanos;
+        }
+
+        public void release() {
+            limiter.release(System.nanoTime() - startNanos);
+        }
+    }
+
+    private static final class LimitedClass {
+
+        private final String name;
+        private final RateLimitProperties.EndpointClass config;
+        private final TokenBucket routeBucket;
+        private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+        private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+        private final TokenBucket overflowBucket;
+
+        private LimitedClass(String name, RateLimitProperties.EndpointClass config) {
+            this.name = name;
+            this.config = config;
+            this.routeBucket = new TokenBucket(config.getCapacity(), config.getRefillPerSecond());
+            this.overflowBucket = newClientBucket();
+            this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(config.getMinConcurrency(),
+                    config.getMaxConcurrency(), config.getLatencyThreshold().toMillis());
+        }
+
+        private boolean matches(String method, String path, String controller, AntPathMatcher pathMatcher) {
+            if (!config.getMethods().isEmpty()
+                    && config.getMethods().stream().noneMatch(m -> m.equalsIgnoreCase(method))) {
+                return false;
+            }
+            if (controller != null && config.getControllers().contains(controller)) {
+                return true;
+            }
+            return config.getPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+        }
+
+        private TokenBucket clientBucket(String clientKey, int maxTrackedClients) {
+            TokenBucket bucket = clientBuckets.get(clientKey);
+            if (bucket != null) {
+                return bucket;
+            }
+            synchronized (clientBuckets) {
+                bucket = clientBuckets.get(clientKey);
+                if (bucket != null) {
+                    return bucket;
+                }
+                if (clientBuckets.size() >= maxTrackedClients) {
+                    clientBuckets.values().removeIf(TokenBucket::isFull);
+                }
+                // Past the cap new clients share one bucket, so rotating client keys cannot grow the map
+                if (clientBuckets.size() >= maxTrackedClients) {
+                    return overflowBucket;
+                }
+                bucket = newClientBucket();
+                clientBuckets.put(clientKey, bucket);
+                return bucket;
+            }
+        }
+
+        private TokenBucket newClientBucket() {
+            return new TokenBucket(config.getPerClientCapacity(), config.getPerClientRefillPerSecond());
+        }
+    }
+}
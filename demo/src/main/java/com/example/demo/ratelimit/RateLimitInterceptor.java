@@ -0,0 +1,50 @@
+package com.example.demo.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies the {@link EndpointRateLimiter} to the MVC endpoints. Requests that match no class
+ * (e.g. /api/auth/login) pass straight through.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".permit";
+
+    private final EndpointRateLimiter rateLimiter;
+
+    public RateLimitInterceptor(EndpointRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String controller = handler instanceof HandlerMethod method ? method.getBeanType().getSimpleName() : null;
+        EndpointRateLimiter.Permit permit = rateLimiter.acquire(request.getMethod(), path, controller,
+                clientKey(request));
+        if (permit != null) {
+            request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof EndpointRateLimiter.Permit held) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            held.release();
+        }
+    }
+
+    /** Proxy headers are only honoured from trusted proxies, via server.forward-headers-strategy. */
+    private String clientKey(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private int maxTrackedClients = 10000;
+
+    private Map<String, EndpointClass> classes = new LinkedHashMap<>();
+
+    @Data
+    public static class EndpointClass {
+
+        private List<String> paths = new ArrayList<>();
+
+        private List<String> controllers = new ArrayList<>();
+
+        private List<String> methods = new ArrayList<>();
+
+        private int capacity = 100;
+
+        private double refillPerSecond = 50;
+
+        private int perClientCapacity = 20;
+
+        private double perClientRefillPerSecond = 10;
+
+        private int minConcurrency = 1;
+
+        private int maxConcurrency = 16;
+
+        private Duration latencyThreshold = Duration.ofMillis(200);
+    }
+}
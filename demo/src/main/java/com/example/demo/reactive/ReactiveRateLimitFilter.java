@@ -0,0 +1,80 @@
+package com.example.demo.reactive;
+
+import com.example.demo.exception.GlobalExceptionHandler.ErrorResponse;
+import com.example.demo.exception.ServiceOverloadedException;
+import com.example.demo.exception.TooManyRequestsException;
+import com.example.demo.ratelimit.EndpointRateLimiter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+
+/**
+ * Applies the {@link EndpointRateLimiter} on the reactive tier, sharing its buckets and
+ * concurrency limits with the MVC endpoints. A permit is held until the response body has
+ * been written, so a long stream counts against the limit for as long as it runs. Rejections
+ * get the same status, Retry-After header and body as on the servlet side.
+ */
+public class ReactiveRateLimitFilter implements WebFilter {
+
+    private final EndpointRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public ReactiveRateLimitFilter(EndpointRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        EndpointRateLimiter.Permit permit;
+        try {
+            permit = rateLimiter.acquire(request.getMethod().name(), request.getPath().pathWithinApplication().value(),
+                    null, clientKey(request));
+        } catch (TooManyRequestsException e) {
+            return reject(exchange.getResponse(), HttpStatus.TOO_MANY_REQUESTS, e.getMessage(),
+                    e.getRetryAfterSeconds());
+        } catch (ServiceOverloadedException e) {
+            return reject(exchange.getResponse(), HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(),
+                    e.getRetryAfterSeconds());
+        }
+        if (permit == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).doFinally(signal -> permit.release());
+    }
+
+    /** Netty reports the peer address; there is no proxy header handling on this port. */
+    private static String clientKey(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null) {
+            return "unknown";
+        }
+        return remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response, HttpStatus status, String message,
+                              long retryAfterSeconds) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(new ErrorResponse(status.value(), message, LocalDateTime.now()));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(status);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
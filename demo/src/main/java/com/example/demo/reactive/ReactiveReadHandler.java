@@ -0,0 +1,103 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.BenefitResponse;
+import com.example.demo.dto.OpportunityResponse;
+import com.example.demo.dto.VolunteerPointsResponse;
+import com.example.demo.exception.GlobalExceptionHandler.ErrorResponse;
+import com.example.demo.exception.ResourceNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * The read-mostly listings on the reactive tier, at the same paths and with the same DTOs as
+ * their MVC counterparts. Lists are written as a JSON array element by element, or as one JSON
+ * document per line for clients sending {@code Accept: application/x-ndjson}.
+ */
+public class ReactiveReadHandler {
+
+    private final ReactiveReadRepository repository;
+
+    public ReactiveReadHandler(ReactiveReadRepository repository) {
+        this.repository = repository;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/api/opportunities", this::opportunities)
+                .GET("/api/opportunities/filter", this::filterOpportunities)
+                .GET("/api/benefits/volunteer/{volunteerId}/catalog", this::benefitCatalog)
+                .GET("/api/volunteers/ranking", this::ranking)
+                .onError(ResourceNotFoundException.class, (e, request) -> error(HttpStatus.NOT_FOUND, e))
+                .onError(IllegalArgumentException.class, (e, request) -> error(HttpStatus.BAD_REQUEST, e))
+                .build();
+    }
+
+    Mono<ServerResponse> opportunities(ServerRequest request) {
+        return list(request, repository.findAllOpportunities(), OpportunityResponse.class);
+    }
+
+    Mono<ServerResponse> filterOpportunities(ServerRequest request) {
+        return Mono.defer(() -> list(request, repository.filterOpportunities(
+                request.queryParam("category").orElse(null),
+                request.queryParam("skills").orElse(null),
+                intParam(request, "minDuration"),
+                intParam(request, "maxDuration")), OpportunityResponse.class));
+    }
+
+    Mono<ServerResponse> benefitCatalog(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long volunteerId = longVariable(request, "volunteerId");
+            return repository.volunteerExists(volunteerId).flatMap(exists -> exists
+                    ? list(request, repository.findActiveBenefits(), BenefitResponse.class)
+                    : Mono.error(new ResourceNotFoundException("Volunteer not found with id: " + volunteerId)));
+        });
+    }
+
+    Mono<ServerResponse> ranking(ServerRequest request) {
+        return list(request, repository.findRanking(), VolunteerPointsResponse.class);
+    }
+
+    private static <T> Mono<ServerResponse> list(ServerRequest request, Flux<T> rows, Class<T> type) {
+        boolean ndjson = request.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        return ServerResponse.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(rows, type);
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, Throwable e) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorResponse(status.value(), e.getMessage(), LocalDateTime.now()));
+    }
+
+    private static Integer intParam(ServerRequest request, String name) {
+        String value = request.queryParam(name).orElse(null);
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+        }
+    }
+
+    private static Long longVariable(ServerRequest request, String name) {
+        String value = request.pathVariable(name);
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+        }
+    }
+}
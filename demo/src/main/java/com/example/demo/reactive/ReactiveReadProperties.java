@@ -0,0 +1,33 @@
+package com.example.demo.reactive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.reactive")
+public class ReactiveReadProperties {
+
+    private boolean enabled = true;
+
+    /** Port of the reactive server; 0 picks a free one. */
+    private int port = 8081;
+
+    private int eventLoopThreads = 4;
+
+    /** Rows the driver fetches per round trip while a listing streams. */
+    private int fetchSize = 256;
+
+    private R2dbc r2dbc = new R2dbc();
+
+    @Data
+    public static class R2dbc {
+
+        private String url = "r2dbc:h2:mem:///testdb";
+
+        private String username;
+
+        private String password;
+
+        private int maxConnections = 8;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.demo.reactive;
+
+import com.example.demo.dto.BenefitResponse;
+import com.example.demo.dto.OpportunityResponse;
+import com.example.demo.dto.VolunteerPointsResponse;
+import com.example.demo.entity.Benefit.BenefitCategory;
+import com.example.demo.entity.OpportunityStatus;
+import com.example.demo.specification.OpportunitySpecification;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-only queries of the reactive tier, over R2DBC against the database the JPA side writes.
+ * Rows map straight to the response DTOs and are emitted as the driver fetches them, so a long
+ * listing is never held in memory and is only read as fast as the client consumes it.
+ */
+public class ReactiveReadRepository {
+
+    static final String OPPORTUNITY_SELECT = "SELECT o.id, o.title, o.description, o.skills, o.category, "
+            + "o.duration, o.vacancies, o.points, p.id AS promoter_id, p.name AS promoter_name, "
+            + "o.created_at, o.status, o.concluded_at FROM opportunities o JOIN promoters p ON p.id = o.promoter_id";
+    static final String ACTIVE_BENEFITS_SELECT = "SELECT id, name, description, points_required, category, "
+            + "provider, image_url, active, created_at FROM benefits WHERE active = TRUE ORDER BY points_required, id";
+    static final String RANKING_SELECT = "SELECT id, name, email, total_points FROM volunteers "
+            + "ORDER BY total_points DESC, id";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactiveReadRepository(ConnectionPool connectionPool, int fetchSize) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.fetchSize = fetchSize;
+    }
+
+    public Flux<OpportunityResponse> findAllOpportunities() {
+        return databaseClient.sql(OPPORTUNITY_SELECT + " ORDER BY o.id")
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveReadRepository::opportunity)
+                .all();
+    }
+
+    /** Same matching as {@code OpportunitySpecification.withFilters}; blank criteria are ignored. */
+    public Flux<OpportunityResponse> filterOpportunities(String category, String skills,
+                                                         Integer minDuration, Integer maxDuration) {
+        StringBuilder sql = new StringBuilder(OPPORTUNITY_SELECT).append(" WHERE 1 = 1");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (StringUtils.hasText(category)) {
+            sql.append(" AND LOWER(o.category) = :category");
+            parameters.put("category", category.toLowerCase().trim());
+        }
+        if (StringUtils.hasText(skills)) {
+            sql.append(" AND LOWER(o.skills) LIKE :skills ESCAPE '").append(OpportunitySpecification.LIKE_ESCAPE)
+                    .append("'");
+            parameters.put("skills", OpportunitySpecification.containsPattern(skills));
+        }
+        if (minDuration != null) {
+            sql.append(" AND o.duration >= :minDuration");
+            parameters.put("minDuration", minDuration);
+        }
+        if (maxDuration != null) {
+            sql.append(" AND o.duration <= :maxDuration");
+            parameters.put("maxDuration", maxDuration);
+        }
+        sql.append(" ORDER BY o.id");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveReadRepository::opportunity)
+                .all();
+    }
+
+    /** Active benefits by ascending points required. */
+    public Flux<BenefitResponse> findActiveBenefits() {
+        return databaseClient.sql(ACTIVE_BENEFITS_SELECT)
+                .map(ReactiveReadRepository::benefit)
+                .all();
+    }
+
+    /** Every volunteer by descending points balance. */
+    public Flux<VolunteerPointsResponse> findRanking() {
+        return databaseClient.sql(RANKING_SELECT)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveReadRepository::volunteerPoints)
+                .all();
+    }
+
+    public Mono<Boolean> volunteerExists(Long volunteerId) {
+        return databaseClient.sql("SELECT id FROM volunteers WHERE id = :id")
+                .bind("id", volunteerId)
+                .fetch()
+                .first()
+                .hasElement();
+    }
+
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    private static OpportunityResponse opportunity(Readable row) {
+        return new OpportunityResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("skills", String.class),
+                row.get("category", String.class),
+                row.get("duration", Integer.class),
+                row.get("vacancies", Integer.class),
+                row.get("points", Integer.class),
+                row.get("promoter_id", Long.class),
+                row.get("promoter_name", String.class),
+                row.get("created_at", LocalDateTime.class),
+                OpportunityStatus.valueOf(row.get("status", String.class)),
+                row.get("concluded_at", LocalDateTime.class));
+    }
+
+    private static BenefitResponse benefit(Readable row) {
+        return new BenefitResponse(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("points_required", Integer.class),
+                BenefitCategory.valueOf(row.get("category", String.class)),
+                row.get("provider", String.class),
+                row.get("image_url", String.class),
+                row.get("active", Boolean.class),
+                row.get("created_at", LocalDateTime.class));
+    }
+
+    private static VolunteerPointsResponse volunteerPoints(Readable row) {
+        return new VolunteerPointsResponse(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("email", String.class),
+                row.get("total_points", Integer.class));
+    }
+}
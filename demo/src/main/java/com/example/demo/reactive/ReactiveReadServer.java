@@ -0,0 +1,85 @@
+package com.example.demo.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Reactor Netty server for the reactive read tier, next to the servlet container on its own
+ * port. A handful of event loop threads serve every connection, as nothing on them blocks:
+ * queries go through R2DBC and responses are written as rows arrive. Serialization uses the
+ * application's object mapper, so payloads match the MVC endpoints byte for byte. Requests pass
+ * the same rate limits as on the servlet port.
+ */
+@Slf4j
+public class ReactiveReadServer implements SmartLifecycle {
+
+    // Same threshold as server.compression.min-response-size
+    private static final int COMPRESSION_MIN_SIZE = 2048;
+
+    private final ReactiveReadHandler handler;
+    private final ReactiveRateLimitFilter rateLimitFilter;
+    private final ObjectMapper objectMapper;
+    private final ReactiveReadProperties properties;
+
+    private LoopResources loops;
+    private DisposableServer server;
+
+    public ReactiveReadServer(ReactiveReadHandler handler, ReactiveRateLimitFilter rateLimitFilter,
+                              ObjectMapper objectMapper, ReactiveReadProperties properties) {
+        this.handler = handler;
+        this.rateLimitFilter = rateLimitFilter;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start() {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .webFilter(rateLimitFilter)
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(handler.routes(), strategies);
+        loops = LoopResources.create("reactive-read", properties.getEventLoopThreads(), true);
+        server = HttpServer.create()
+                .port(properties.getPort())
+                .runOn(loops)
+                .compress(COMPRESSION_MIN_SIZE)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive read API listening on port {}", server.port());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server != null) {
+            server.disposeNow();
+            loops.disposeLater().block();
+            server = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    public synchronized int getPort() {
+        if (server == null) {
+            throw new IllegalStateException("Reactive read server is not running");
+        }
+        return server.port();
+    }
+}
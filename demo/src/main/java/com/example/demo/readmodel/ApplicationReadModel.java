@@ -0,0 +1,244 @@
+package com.example.demo.readmodel;
+
+import com.example.demo.dto.ApplicationResponse;
+import com.example.demo.entity.ApplicationStatus;
+import com.example.demo.event.ApplicationChangedEvent;
+import com.example.demo.event.ApplicationStatusChangedEvent;
+import com.example.demo.event.OpportunityChangedEvent;
+import com.example.demo.event.VolunteerChangedEvent;
+import com.example.demo.repository.ApplicationListingView;
+import com.example.demo.repository.ApplicationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Denormalized copy of every application together with its volunteer's name and email and
+ * its opportunity's title and points, indexed by volunteer, opportunity and promoter. The
+ * listing endpoints read one index entry instead of loading entities and their associations.
+ * Rebuilt on startup and maintained from committed application, volunteer and opportunity
+ * changes.
+ */
+@Component
+public class ApplicationReadModel extends CommittedEventProjection {
+
+    private final ApplicationRepository applicationRepository;
+
+    private final Map<Long, Row> rows = new HashMap<>();
+    private final Map<Long, NavigableMap<Long, Row>> byVolunteer = new HashMap<>();
+    private final Map<Long, NavigableMap<Long, Row>> byOpportunity = new HashMap<>();
+    private final Map<Long, NavigableMap<Long, Row>> byPromoter = new HashMap<>();
+
+    public ApplicationReadModel(ApplicationRepository applicationRepository) {
+        this.applicationRepository = applicationRepository;
+    }
+
+    public List<ApplicationResponse> findByVolunteer(Long volunteerId) {
+        return read(byVolunteer, volunteerId);
+    }
+
+    public List<ApplicationResponse> findByOpportunity(Long opportunityId) {
+        return read(byOpportunity, opportunityId);
+    }
+
+    public List<ApplicationResponse> findByPromoter(Long promoterId) {
+        return read(byPromoter, promoterId);
+    }
+
+    @Override
+    protected void load() {
+        rows.clear();
+        byVolunteer.clear();
+        byOpportunity.clear();
+        byPromoter.clear();
+        for (ApplicationListingView view : applicationRepository.findAllListingViews()) {
+            put(Row.of(view));
+        }
+    }
+
+    /**
+     * Events are delivered after commit in no guaranteed order, so one older than the stored row
+     * (by its version) is ignored. A new application's volunteer and opportunity columns are read
+     * from the database before the write lock is taken.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.type() == ApplicationChangedEvent.ChangeType.DELETED) {
+            write(() -> remove(rows.get(event.applicationId())));
+            return;
+        }
+        ApplicationListingView view = isLoaded() && read(() -> !rows.containsKey(event.applicationId()))
+                ? applicationRepository.findListingViewById(event.applicationId()).orElse(null)
+                : null;
+        write(() -> {
+            Row existing = rows.get(event.applicationId());
+            if (existing != null) {
+                if (!existing.isNewerThan(event.version())) {
+                    put(existing.withApplication(event));
+                }
+            } else if (view != null) {
+                put(Row.of(view));
+            }
+        });
+    }
+
+    /** Batch status changes are bulk updates and do not pass through the entity listener. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        write(() -> {
+            Row existing = rows.get(event.applicationId());
+            if (existing != null && existing.status() != event.status() && !existing.isNewerThan(event.version())) {
+                put(existing.withStatus(event.status(), event.version()));
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVolunteerChanged(VolunteerChangedEvent event) {
+        write(() -> {
+            for (Row row : snapshot(byVolunteer.get(event.volunteerId()))) {
+                if (event.type() == VolunteerChangedEvent.ChangeType.DELETED) {
+                    remove(row);
+                } else if (!Objects.equals(row.volunteerName(), event.name())
+                        || !Objects.equals(row.volunteerEmail(), event.email())) {
+                    put(row.withVolunteer(event.name(), event.email()));
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOpportunityChanged(OpportunityChangedEvent event) {
+        write(() -> {
+            for (Row row : snapshot(byOpportunity.get(event.opportunityId()))) {
+                if (event.type() == OpportunityChangedEvent.ChangeType.DELETED) {
+                    remove(row);
+                } else if (!Objects.equals(row.opportunityTitle(), event.title())
+                        || !Objects.equals(row.opportunityPoints(), event.points())) {
+                    put(row.withOpportunity(event.title(), event.points()));
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void refresh(ProjectionSource source, Long id) {
+        if (source == ProjectionSource.APPLICATION) {
+            remove(rows.get(id));
+            applicationRepository.findListingViewById(id).ifPresent(view -> put(Row.of(view)));
+        } else if (source == ProjectionSource.VOLUNTEER) {
+            replace(byVolunteer.get(id), applicationRepository.findListingViewsByVolunteerId(id));
+        } else if (source == ProjectionSource.OPPORTUNITY) {
+            replace(byOpportunity.get(id), applicationRepository.findListingViewsByOpportunityId(id));
+        }
+    }
+
+    private List<ApplicationResponse> read(Map<Long, NavigableMap<Long, Row>> index, Long key) {
+        return read(() -> {
+            NavigableMap<Long, Row> entries = index.get(key);
+            if (entries == null) {
+                return new ArrayList<>();
+            }
+            List<ApplicationResponse> responses = new ArrayList<>(entries.size());
+            for (Row row : entries.values()) {
+                responses.add(row.toResponse());
+            }
+            return responses;
+        });
+    }
+
+    private void replace(NavigableMap<Long, Row> current, List<ApplicationListingView> views) {
+        snapshot(current).forEach(this::remove);
+        views.forEach(view -> put(Row.of(view)));
+    }
+
+    private void put(Row row) {
+        remove(rows.get(row.id()));
+        rows.put(row.id(), row);
+        byVolunteer.computeIfAbsent(row.volunteerId(), key -> new TreeMap<>()).put(row.id(), row);
+        byOpportunity.computeIfAbsent(row.opportunityId(), key -> new TreeMap<>()).put(row.id(), row);
+        byPromoter.computeIfAbsent(row.promoterId(), key -> new TreeMap<>()).put(row.id(), row);
+    }
+
+    private void remove(Row row) {
+        if (row == null) {
+            return;
+        }
+        rows.remove(row.id());
+        removeFromIndex(byVolunteer, row.volunteerId(), row.id());
+        removeFromIndex(byOpportunity, row.opportunityId(), row.id());
+        removeFromIndex(byPromoter, row.promoterId(), row.id());
+    }
+
+    private static void removeFromIndex(Map<Long, NavigableMap<Long, Row>> index, Long key, Long id) {
+        NavigableMap<Long, Row> entries = index.get(key);
+        if (entries != null) {
+            entries.remove(id);
+            if (entries.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static List<Row> snapshot(NavigableMap<Long, Row> entries) {
+        return entries == null ? List.of() : new ArrayList<>(entries.values());
+    }
+
+    private record Row(Long id, Long volunteerId, String volunteerName, String volunteerEmail,
+                       Long opportunityId, String opportunityTitle, Integer opportunityPoints, Long promoterId,
+                       ApplicationStatus status, String motivation, LocalDateTime appliedAt,
+                       Boolean participationConfirmed, Integer pointsAwarded, LocalDateTime confirmedAt,
+                       Long version) {
+
+        static Row of(ApplicationListingView view) {
+            return new Row(view.getId(), view.getVolunteerId(), view.getVolunteerName(), view.getVolunteerEmail(),
+                    view.getOpportunityId(), view.getOpportunityTitle(), view.getOpportunityPoints(),
+                    view.getPromoterId(), view.getStatus(), view.getMotivation(), view.getAppliedAt(),
+                    view.getParticipationConfirmed(), view.getPointsAwarded(), view.getConfirmedAt(),
+                    view.getVersion());
+        }
+
+        boolean isNewerThan(Long eventVersion) {
+            return version != null && eventVersion != null && version > eventVersion;
+        }
+
+        Row withApplication(ApplicationChangedEvent event) {
+            return new Row(id, volunteerId, volunteerName, volunteerEmail, opportunityId, opportunityTitle,
+                    opportunityPoints, promoterId, event.status(), event.motivation(), event.appliedAt(),
+                    event.participationConfirmed(), event.pointsAwarded(), event.confirmedAt(), event.version());
+        }
+
+        Row withStatus(ApplicationStatus newStatus, Long newVersion) {
+            return new Row(id, volunteerId, volunteerName, volunteerEmail, opportunityId, opportunityTitle,
+                    opportunityPoints, promoterId, newStatus, motivation, appliedAt,
+                    participationConfirmed, pointsAwarded, confirmedAt, newVersion == null ? version : newVersion);
+        }
+
+        Row withVolunteer(String name, String email) {
+            return new Row(id, volunteerId, name, email, opportunityId, opportunityTitle,
+                    opportunityPoints, promoterId, status, motivation, appliedAt,
+                    participationConfirmed, pointsAwarded, confirmedAt, version);
+        }
+
+        Row withOpportunity(String title, Integer points) {
+            return new Row(id, volunteerId, volunteerName, volunteerEmail, opportunityId, title,
+                    points, promoterId, status, motivation, appliedAt,
+                    participationConfirmed, pointsAwarded, confirmedAt, version);
+        }
+
+        ApplicationResponse toResponse() {
+            return new ApplicationResponse(id, volunteerId, volunteerName, volunteerEmail, opportunityId,
+                    opportunityTitle, status, motivation, appliedAt, participationConfirmed, pointsAwarded,
+                    confirmedAt, opportunityPoints);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.readmodel;
+
+import com.example.demo.dto.BenefitResponse;
+import com.example.demo.event.BenefitChangedEvent;
+import com.example.demo.repository.BenefitRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The active benefits as an immutable array sorted by points required, so the catalog is a
+ * shared list and "what can I afford" is a binary search. Every committed benefit change builds
+ * a new array and swaps it in; readers never lock and always see a complete catalog.
+ */
+@Component
+public class BenefitPriceIndex extends CommittedEventProjection {
+
+    private static final Comparator<BenefitResponse> BY_PRICE =
+            Comparator.comparing(BenefitResponse::getPointsRequired).thenComparing(BenefitResponse::getId);
+
+    private final BenefitRepository benefitRepository;
+
+    private volatile Snapshot snapshot;
+
+    public BenefitPriceIndex(BenefitRepository benefitRepository) {
+        this.benefitRepository = benefitRepository;
+    }
+
+    /** Active benefits by ascending points required. */
+    public List<BenefitResponse> catalog() {
+        Snapshot current = current();
+        return current.list(current.benefits.length);
+    }
+
+    /** Active benefits requiring at most the given points, by ascending points required. */
+    public List<BenefitResponse> affordable(int points) {
+        Snapshot current = current();
+        return current.list(current.countAtMost(points));
+    }
+
+    @Override
+    protected void load() {
+        BenefitResponse[] benefits = benefitRepository.findByActiveTrueOrderByPointsRequiredAsc().stream()
+                .map(BenefitResponse::fromEntity)
+                .sorted(BY_PRICE)
+                .toArray(BenefitResponse[]::new);
+        snapshot = new Snapshot(benefits);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBenefitChanged(BenefitChangedEvent event) {
+        write(() -> replace(event.benefitId(),
+                event.type() == BenefitChangedEvent.ChangeType.SAVED ? event.benefit() : null));
+    }
+
+    @Override
+    protected void refresh(ProjectionSource source, Long id) {
+        if (source == ProjectionSource.BENEFIT) {
+            replace(id, benefitRepository.findCommittedById(id).map(BenefitResponse::fromEntity).orElse(null));
+        }
+    }
+
+    /** Swaps in a catalog where the benefit is {@code changed}, or absent when that is null. */
+    private void replace(Long benefitId, BenefitResponse changed) {
+        BenefitResponse[] benefits = Arrays.stream(snapshot.benefits)
+                .filter(benefit -> !benefit.getId().equals(benefitId))
+                .toArray(BenefitResponse[]::new);
+        if (changed != null && Boolean.TRUE.equals(changed.getActive())) {
+            int insertAt = -Arrays.binarySearch(benefits, changed, BY_PRICE) - 1;
+            BenefitResponse[] grown = new BenefitResponse[benefits.length + 1];
+            System.arraycopy(benefits, 0, grown, 0, insertAt);
+            grown[insertAt] = changed;
+            System.arraycopy(benefits, insertAt, grown, insertAt + 1, benefits.length - insertAt);
+            benefits = grown;
+        }
+        snapshot = new Snapshot(benefits);
+    }
+
+    private Snapshot current() {
+        ensureLoaded();
+        return snapshot;
+    }
+
+    private static final class Snapshot {
+
+        private final BenefitResponse[] benefits;
+        private final int[] points;
+
+        Snapshot(BenefitResponse[] benefits) {
+            this.benefits = benefits;
+            this.points = Arrays.stream(benefits).mapToInt(BenefitResponse::getPointsRequired).toArray();
+        }
+
+        /** Number of benefits requiring at most the given points. */
+        int countAtMost(int budget) {
+            int low = 0;
+            int high = points.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (points[mid] <= budget) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        List<BenefitResponse> list(int count) {
+            return Collections.unmodifiableList(Arrays.asList(benefits).subList(0, count));
+        }
+    }
+}
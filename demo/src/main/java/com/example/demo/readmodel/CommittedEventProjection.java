@@ -0,0 +1,85 @@
+package com.example.demo.readmodel;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory projection loaded from the database on startup (or on first use) and kept up to
+ * date from committed change events. Loading holds the write lock while reading the rows, so
+ * any commit after that read is applied afterwards; a change committed before the first load
+ * is skipped, since the database already reflects it. Changes committed on other nodes arrive
+ * through {@link ProjectionChangeRelay} and are re-read from the database by id.
+ */
+public abstract class CommittedEventProjection {
+
+    protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            load();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Replaces the projection's contents with the rows in the database; called under the write lock. */
+    protected abstract void load();
+
+    /**
+     * Re-reads the rows behind a change committed on another node; called under the write lock.
+     * Sources the projection is not built from are ignored.
+     */
+    protected abstract void refresh(ProjectionSource source, Long id);
+
+    public void onRemoteChange(ProjectionSource source, Long id) {
+        write(() -> refresh(source, id));
+    }
+
+    protected boolean isLoaded() {
+        return loaded;
+    }
+
+    protected void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                reload();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    protected <T> T read(Supplier<T> query) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Applies a committed change, unless the projection has not been loaded yet. */
+    protected void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                change.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
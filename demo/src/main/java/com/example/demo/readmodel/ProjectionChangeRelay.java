@@ -0,0 +1,85 @@
+package com.example.demo.readmodel;
+
+import com.example.demo.cache.CacheInvalidationBus;
+import com.example.demo.cache.CacheInvalidationMessage;
+import com.example.demo.cache.TwoLevelCacheManager;
+import com.example.demo.event.ApplicationChangedEvent;
+import com.example.demo.event.ApplicationStatusChangedEvent;
+import com.example.demo.event.BenefitChangedEvent;
+import com.example.demo.event.OpportunityChangedEvent;
+import com.example.demo.event.PointsCreditedEvent;
+import com.example.demo.event.VolunteerChangedEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps the {@link CommittedEventProjection}s of every node in step. Committed changes are
+ * applied locally by the projections themselves; this relay broadcasts the changed ids on the
+ * {@link CacheInvalidationBus} and has the local projections re-read the rows behind the
+ * changes other nodes report.
+ */
+@Component
+@Lazy(false) // Must be subscribed to the bus from startup, also under the faststart profile
+public class ProjectionChangeRelay {
+
+    private final String nodeId;
+    private final CacheInvalidationBus invalidationBus;
+    private final List<CommittedEventProjection> projections;
+
+    public ProjectionChangeRelay(TwoLevelCacheManager cacheManager,
+                                 CacheInvalidationBus invalidationBus,
+                                 List<CommittedEventProjection> projections) {
+        this.nodeId = cacheManager.getNodeId();
+        this.invalidationBus = invalidationBus;
+        this.projections = projections;
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOpportunityChanged(OpportunityChangedEvent event) {
+        publish(ProjectionSource.OPPORTUNITY, event.opportunityId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVolunteerChanged(VolunteerChangedEvent event) {
+        publish(ProjectionSource.VOLUNTEER, event.volunteerId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        publish(ProjectionSource.APPLICATION, event.applicationId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        publish(ProjectionSource.APPLICATION, event.applicationId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBenefitChanged(BenefitChangedEvent event) {
+        publish(ProjectionSource.BENEFIT, event.benefitId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsCredited(PointsCreditedEvent event) {
+        publish(ProjectionSource.POINTS_CREDIT, event.volunteerId());
+    }
+
+    private void publish(ProjectionSource source, Long id) {
+        invalidationBus.publish(new CacheInvalidationMessage(nodeId, source.channel(), id));
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.originNodeId()) || message.isClear()) {
+            return;
+        }
+        ProjectionSource.fromChannel(message.cacheName()).ifPresent(source -> {
+            Long id = ((Number) message.key()).longValue();
+            projections.forEach(projection -> projection.onRemoteChange(source, id));
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.readmodel;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/** The kinds of committed change the in-memory projections are built from, keyed by entity id. */
+public enum ProjectionSource {
+    OPPORTUNITY,
+    VOLUNTEER,
+    APPLICATION,
+    BENEFIT,
+    POINTS_CREDIT;
+
+    /** Name of the {@code CacheInvalidationMessage} cache this source is relayed under. */
+    public String channel() {
+        return "projection." + name().toLowerCase(Locale.ROOT);
+    }
+
+    public static Optional<ProjectionSource> fromChannel(String channel) {
+        return Arrays.stream(values()).filter(source -> source.channel().equals(channel)).findFirst();
+    }
+}
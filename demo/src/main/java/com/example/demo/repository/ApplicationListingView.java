@@ -0,0 +1,38 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+public interface ApplicationListingView {
+
+    Long getId();
+
+    Long getVolunteerId();
+
+    String getVolunteerName();
+
+    String getVolunteerEmail();
+
+    Long getOpportunityId();
+
+    String getOpportunityTitle();
+
+    Integer getOpportunityPoints();
+
+    Long getPromoterId();
+
+    ApplicationStatus getStatus();
+
+    String getMotivation();
+
+    LocalDateTime getAppliedAt();
+
+    Boolean getParticipationConfirmed();
+
+    Integer getPointsAwarded();
+
+    LocalDateTime getConfirmedAt();
+
+    Long getVersion();
+}
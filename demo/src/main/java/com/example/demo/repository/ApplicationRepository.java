@@ -2,11 +2,14 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.Application;
 import com.example.demo.entity.ApplicationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +39,52 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     long countConfirmedByOpportunityId(@Param("opportunityId") Long opportunityId);
 
     List<Application> findByVolunteerIdAndParticipationConfirmed(Long volunteerId, Boolean confirmed);
+
+    @Query("SELECT a.volunteer.id, COALESCE(SUM(a.pointsAwarded), 0) FROM Application a GROUP BY a.volunteer.id")
+    List<Object[]> sumPointsAwardedGroupedByVolunteer();
+
+    @Query("SELECT a.id AS id, a.status AS status, a.version AS version, a.volunteer.id AS volunteerId, o.id AS opportunityId, "
+            + "o.title AS opportunityTitle, o.promoter.id AS promoterId FROM Application a JOIN a.opportunity o WHERE a.id IN :ids")
+    List<ApplicationStatusView> findStatusViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    String LISTING_SELECT = "SELECT a.id AS id, v.id AS volunteerId, v.name AS volunteerName, v.email AS volunteerEmail, "
+            + "o.id AS opportunityId, o.title AS opportunityTitle, o.points AS opportunityPoints, o.promoter.id AS promoterId, "
+            + "a.status AS status, a.motivation AS motivation, a.appliedAt AS appliedAt, "
+            + "a.participationConfirmed AS participationConfirmed, a.pointsAwarded AS pointsAwarded, a.confirmedAt AS confirmedAt, a.version AS version "
+            + "FROM Application a JOIN a.volunteer v JOIN a.opportunity o";
+
+    @Query(LISTING_SELECT)
+    List<ApplicationListingView> findAllListingViews();
+
+    @Query(LISTING_SELECT + " WHERE a.id = :id")
+    Optional<ApplicationListingView> findListingViewById(@Param("id") Long id);
+
+    @Query(LISTING_SELECT + " WHERE v.id = :volunteerId")
+    List<ApplicationListingView> findListingViewsByVolunteerId(@Param("volunteerId") Long volunteerId);
+
+    @Query(LISTING_SELECT + " WHERE o.id = :opportunityId")
+    List<ApplicationListingView> findListingViewsByOpportunityId(@Param("opportunityId") Long opportunityId);
+
+    String AWARDED_POINTS_SELECT = "SELECT v.id AS volunteerId, v.name AS volunteerName, v.email AS volunteerEmail, "
+            + "a.pointsAwarded AS points, a.confirmedAt AS confirmedAt FROM Application a JOIN a.volunteer v "
+            + "WHERE a.pointsAwarded > 0";
+
+    @Query(AWARDED_POINTS_SELECT)
+    List<AwardedPointsView> findAllAwardedPoints();
+
+    @Query(AWARDED_POINTS_SELECT + " AND v.id = :volunteerId")
+    List<AwardedPointsView> findAwardedPointsByVolunteerId(@Param("volunteerId") Long volunteerId);
+
+    @Query("SELECT a.id FROM Application a WHERE a.opportunity.promoter.id = :promoterId ORDER BY a.id")
+    List<Long> findIdsByPromoterId(@Param("promoterId") Long promoterId, Pageable pageable);
+
+    @Query("SELECT a.id FROM Application a WHERE a.opportunity.id IN :opportunityIds")
+    List<Long> findIdsByOpportunityIdIn(@Param("opportunityIds") Collection<Long> opportunityIds);
+
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.version = a.version + 1 "
+            + "WHERE a.id IN :ids AND a.status = :previousStatus")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("previousStatus") ApplicationStatus previousStatus,
+                           @Param("status") ApplicationStatus status);
 }
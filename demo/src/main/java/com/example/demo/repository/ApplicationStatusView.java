@@ -0,0 +1,20 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.ApplicationStatus;
+
+public interface ApplicationStatusView {
+
+    Long getId();
+
+    ApplicationStatus getStatus();
+
+    Long getVersion();
+
+    Long getVolunteerId();
+
+    Long getOpportunityId();
+
+    String getOpportunityTitle();
+
+    Long getPromoterId();
+}
@@ -0,0 +1,16 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+public interface AwardedPointsView {
+
+    Long getVolunteerId();
+
+    String getVolunteerName();
+
+    String getVolunteerEmail();
+
+    Integer getPoints();
+
+    LocalDateTime getConfirmedAt();
+}
@@ -4,9 +4,11 @@ import com.example.demo.entity.Benefit;
 import com.example.demo.entity.Benefit.BenefitCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BenefitRepository extends JpaRepository<Benefit, Long> {
@@ -17,8 +19,6 @@ public interface BenefitRepository extends JpaRepository<Benefit, Long> {
 
     List<Benefit> findByCategoryAndActiveTrue(BenefitCategory category);
 
-    List<Benefit> findByPointsRequiredLessThanEqualAndActiveTrue(Integer points);
-
     List<Benefit> findByProviderContainingIgnoreCase(String provider);
 
     List<Benefit> findByProviderContainingIgnoreCaseAndActiveTrue(String provider);
@@ -29,4 +29,8 @@ public interface BenefitRepository extends JpaRepository<Benefit, Long> {
     List<Benefit> findByActiveTrueOrderByPointsRequiredAsc();
 
     List<Benefit> findByActiveTrueOrderByPointsRequiredDesc();
+
+    // A query rather than findById: the second-level cache may not have dropped another node's change yet
+    @Query("SELECT b FROM Benefit b WHERE b.id = :id")
+    Optional<Benefit> findCommittedById(@Param("id") Long id);
 }
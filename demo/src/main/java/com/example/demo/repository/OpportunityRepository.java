@@ -1,19 +1,41 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.OpportunityResponse;
 import com.example.demo.entity.Opportunity;
 import com.example.demo.entity.OpportunityStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface OpportunityRepository extends JpaRepository<Opportunity, Long>, JpaSpecificationExecutor<Opportunity> {
 
-    List<Opportunity> findByPromoterId(Long promoterId);
+    /** Builds list responses in the query: no managed entities, no lazy promoter loads, no mapping copy. */
+    String RESPONSE_SELECT = "SELECT new com.example.demo.dto.OpportunityResponse(o.id, o.title, o.description, "
+            + "o.skills, o.category, o.duration, o.vacancies, o.points, p.id, p.name, o.createdAt, o.status, "
+            + "o.concludedAt) FROM Opportunity o JOIN o.promoter p";
+
+    @Query(RESPONSE_SELECT)
+    List<OpportunityResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + " WHERE p.id = :promoterId")
+    List<OpportunityResponse> findResponsesByPromoterId(@Param("promoterId") Long promoterId);
+
+    @Query(RESPONSE_SELECT + " WHERE o.status = :status")
+    List<OpportunityResponse> findResponsesByStatus(@Param("status") OpportunityStatus status);
+
+    @Query(RESPONSE_SELECT + " WHERE o.id IN :ids")
+    List<OpportunityResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
 
     List<Opportunity> findByTitleContainingIgnoreCase(String title);
 
@@ -27,13 +49,46 @@ public interface OpportunityRepository extends JpaRepository<Opportunity, Long>,
 
     List<Opportunity> findByDurationGreaterThanEqual(Integer minDuration);
 
-    @Query("SELECT DISTINCT o.category FROM Opportunity o ORDER BY o.category")
-    List<String> findAllCategories();
+    @Query("SELECT o.id, o.category, o.skills, o.duration, o.status, o.updatedAt FROM Opportunity o")
+    List<Object[]> findFacetFields();
+
+    @Query("SELECT o.id, o.category, o.skills, o.duration, o.status, o.updatedAt FROM Opportunity o WHERE o.id IN :ids")
+    List<Object[]> findFacetFieldsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT o.id, o.updatedAt FROM Opportunity o")
+    List<Object[]> findIdsAndUpdatedAt();
 
-    List<Opportunity> findByStatus(OpportunityStatus status);
+    @Query("SELECT o.id FROM Opportunity o WHERE o.promoter.id = :promoterId ORDER BY o.id")
+    List<Long> findIdsByPromoterId(@Param("promoterId") Long promoterId, Pageable pageable);
 
     List<Opportunity> findByPromoterIdAndStatus(Long promoterId, OpportunityStatus status);
 
     @Query("SELECT COUNT(o) FROM Opportunity o WHERE o.promoter.id = :promoterId AND o.status = :status")
     long countByPromoterIdAndStatus(@Param("promoterId") Long promoterId, @Param("status") OpportunityStatus status);
+
+    @Query("SELECT o.vacancies - o.acceptedCount FROM Opportunity o WHERE o.id = :id")
+    Integer findRemainingVacancies(@Param("id") Long id);
+
+    /** Reads the committed count and locks the row, so no reservation lands until the caller commits. */
+    @Query(value = "SELECT accepted_count FROM opportunities WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Integer lockAcceptedCount(@Param("id") Long id);
+
+    /**
+     * Query space of the accepted-count UPDATEs. No cached entity maps to it, so Hibernate drops no
+     * region for them (a bulk UPDATE on Opportunity would clear the whole region); callers evict
+     * the one changed row instead.
+     */
+    String ACCEPTED_COUNT_SPACE = "opportunities.accepted_count";
+
+    @Modifying
+    @Query(value = "UPDATE opportunities SET accepted_count = accepted_count + :slots "
+            + "WHERE id = :id AND accepted_count + :slots <= vacancies", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ACCEPTED_COUNT_SPACE))
+    int reserveVacancies(@Param("id") Long id, @Param("slots") int slots);
+
+    @Modifying
+    @Query(value = "UPDATE opportunities SET accepted_count = accepted_count - :slots "
+            + "WHERE id = :id AND accepted_count >= :slots", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ACCEPTED_COUNT_SPACE))
+    int releaseVacancies(@Param("id") Long id, @Param("slots") int slots);
 }
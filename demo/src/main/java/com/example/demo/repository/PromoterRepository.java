@@ -2,6 +2,7 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.Promoter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,13 +11,22 @@ import java.util.Optional;
 @Repository
 public interface PromoterRepository extends JpaRepository<Promoter, Long> {
 
-    Optional<Promoter> findByEmail(String email);
+    Optional<Promoter> findByIdAndDeletedAtIsNull(Long id);
+
+    boolean existsByIdAndDeletedAtIsNull(Long id);
+
+    List<Promoter> findByDeletedAtIsNull();
+
+    Optional<Promoter> findByEmailAndDeletedAtIsNull(String email);
 
     boolean existsByEmail(String email);
 
-    List<Promoter> findByOrganizationContainingIgnoreCase(String organization);
+    List<Promoter> findByOrganizationContainingIgnoreCaseAndDeletedAtIsNull(String organization);
+
+    List<Promoter> findByAreaOfActivityContainingIgnoreCaseAndDeletedAtIsNull(String areaOfActivity);
 
-    List<Promoter> findByAreaOfActivityContainingIgnoreCase(String areaOfActivity);
+    List<Promoter> findByOrganizationTypeContainingIgnoreCaseAndDeletedAtIsNull(String organizationType);
 
-    List<Promoter> findByOrganizationTypeContainingIgnoreCase(String organizationType);
+    @Query("SELECT p.id FROM Promoter p WHERE p.deletedAt IS NOT NULL")
+    List<Long> findIdsMarkedDeleted();
 }
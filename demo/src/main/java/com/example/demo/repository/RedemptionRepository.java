@@ -43,4 +43,7 @@ public interface RedemptionRepository extends JpaRepository<Redemption, Long> {
     Long sumPointsSpentByBenefitId(@Param("benefitId") Long benefitId);
 
     List<Redemption> findByBenefitProviderIgnoreCaseOrderByRedeemedAtDesc(String provider);
+
+    @Query("SELECT r.volunteer.id, COALESCE(SUM(r.pointsSpent), 0), COUNT(r) FROM Redemption r WHERE r.status = 'COMPLETED' GROUP BY r.volunteer.id")
+    List<Object[]> sumPointsSpentAndCountGroupedByVolunteer();
 }
@@ -1,7 +1,10 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.VolunteerPointsResponse;
 import com.example.demo.entity.Volunteer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +17,10 @@ public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
     List<Volunteer> findBySkillsContainingIgnoreCase(String skills);
     List<Volunteer> findByInterestsContainingIgnoreCase(String interests);
     List<Volunteer> findByAvailabilityContainingIgnoreCase(String availability);
+
+    @Query("SELECT new com.example.demo.dto.VolunteerPointsResponse(v.id, v.name, v.email, v.totalPoints) FROM Volunteer v")
+    List<VolunteerPointsResponse> findAllPoints();
+
+    @Query("SELECT new com.example.demo.dto.VolunteerPointsResponse(v.id, v.name, v.email, v.totalPoints) FROM Volunteer v WHERE v.id = :id")
+    Optional<VolunteerPointsResponse> findPointsById(@Param("id") Long id);
 }
@@ -0,0 +1,39 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.VolunteerStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VolunteerStatsRepository extends JpaRepository<VolunteerStats, Long> {
+
+    /** Returns 0 if the row already exists; a concurrent insert is waited for rather than failing. */
+    @Modifying
+    @Query("INSERT INTO VolunteerStats (volunteerId, pointsEarned, pointsSpent, redemptionCount, updatedAt, version) "
+            + "VALUES (:volunteerId, :pointsEarned, :pointsSpent, :redemptionCount, CURRENT_TIMESTAMP, 0) "
+            + "ON CONFLICT DO NOTHING")
+    int insertIfAbsent(@Param("volunteerId") Long volunteerId,
+                       @Param("pointsEarned") long pointsEarned,
+                       @Param("pointsSpent") long pointsSpent,
+                       @Param("redemptionCount") long redemptionCount);
+
+    @Modifying
+    @Query("UPDATE VolunteerStats s SET s.pointsEarned = s.pointsEarned + :points, s.updatedAt = CURRENT_TIMESTAMP, s.version = s.version + 1 WHERE s.volunteerId = :volunteerId")
+    int incrementPointsEarned(@Param("volunteerId") Long volunteerId, @Param("points") long points);
+
+    @Modifying
+    @Query("UPDATE VolunteerStats s SET s.pointsSpent = s.pointsSpent + :points, s.redemptionCount = s.redemptionCount + 1, s.updatedAt = CURRENT_TIMESTAMP, s.version = s.version + 1 WHERE s.volunteerId = :volunteerId")
+    int incrementPointsSpent(@Param("volunteerId") Long volunteerId, @Param("points") long points);
+
+    @Modifying
+    @Query("UPDATE VolunteerStats s SET s.pointsEarned = :pointsEarned, s.pointsSpent = :pointsSpent, s.redemptionCount = :redemptionCount, "
+            + "s.updatedAt = CURRENT_TIMESTAMP, s.version = s.version + 1 WHERE s.volunteerId = :volunteerId AND s.version = :version")
+    int overwriteIfUnchanged(@Param("volunteerId") Long volunteerId,
+                             @Param("version") Long version,
+                             @Param("pointsEarned") long pointsEarned,
+                             @Param("pointsSpent") long pointsSpent,
+                             @Param("redemptionCount") long redemptionCount);
+}
@@ -0,0 +1,32 @@
+package com.example.demo.search;
+
+public enum DurationBucket {
+
+    UP_TO_1("1", 0, 1),
+    FROM_2_TO_7("2-7", 2, 7),
+    FROM_8_TO_30("8-30", 8, 30),
+    OVER_30("31+", 31, Integer.MAX_VALUE);
+
+    private final String label;
+    private final int min;
+    private final int max;
+
+    DurationBucket(String label, int min, int max) {
+        this.label = label;
+        this.min = min;
+        this.max = max;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public static DurationBucket of(int duration) {
+        for (DurationBucket bucket : values()) {
+            if (duration >= bucket.min && duration <= bucket.max) {
+                return bucket;
+            }
+        }
+        return UP_TO_1;
+    }
+}
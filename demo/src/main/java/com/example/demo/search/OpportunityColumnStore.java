@@ -0,0 +1,263 @@
+package com.example.demo.search;
+
+import com.example.demo.event.OpportunityChangedEvent;
+import com.example.demo.readmodel.CommittedEventProjection;
+import com.example.demo.readmodel.ProjectionSource;
+import com.example.demo.snapshot.OpportunitySnapshotLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Column-oriented copy of the fields the opportunity filter looks at: duration, a dictionary
+ * encoded category and a bitset of skill tags per row. Filtering is a single pass over
+ * primitive arrays returning the matching ids; the store is rebuilt on startup and kept in
+ * sync from committed {@link OpportunityChangedEvent}s.
+ */
+@Component
+public class OpportunityColumnStore extends CommittedEventProjection {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long[] NO_IDS = new long[0];
+
+    private final OpportunitySnapshotLoader snapshotLoader;
+
+    private final Map<Long, Integer> rowsById = new HashMap<>();
+    private final Map<String, Integer> categoryIds = new HashMap<>();
+    private final Map<String, Integer> skillIds = new HashMap<>();
+    private String[] skillTags = new String[64];
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] durations = new int[INITIAL_CAPACITY];
+    private int[] categories = new int[INITIAL_CAPACITY];
+    // Row r owns skillWords[r * wordsPerRow, (r + 1) * wordsPerRow)
+    private long[] skillWords = new long[INITIAL_CAPACITY];
+    private int wordsPerRow = 1;
+    private int size;
+
+    public OpportunityColumnStore(OpportunitySnapshotLoader snapshotLoader) {
+        this.snapshotLoader = snapshotLoader;
+    }
+
+    /**
+     * Skill queries spanning several tags cannot be answered from per-tag bitsets and must
+     * go to the database.
+     */
+    public boolean canFilter(String skills) {
+        return skills == null || skills.indexOf(',') < 0;
+    }
+
+    /**
+     * Returns the ids, in ascending order, of opportunities matching the same criteria as
+     * {@code OpportunitySpecification.withFilters}.
+     */
+    public long[] filter(String category, String skills, Integer minDuration, Integer maxDuration) {
+        if (!canFilter(skills)) {
+            throw new IllegalArgumentException("Skills filter spans several tags: " + skills);
+        }
+        return read(() -> {
+            int categoryId = -1;
+            if (category != null && !category.trim().isEmpty()) {
+                Integer id = categoryIds.get(category.trim().toLowerCase(Locale.ROOT));
+                if (id == null) {
+                    return NO_IDS;
+                }
+                categoryId = id;
+            }
+            long[] skillMask = null;
+            if (skills != null && !skills.trim().isEmpty()) {
+                skillMask = skillMask(skills.trim().toLowerCase(Locale.ROOT));
+                if (skillMask == null) {
+                    return NO_IDS;
+                }
+            }
+            int min = minDuration != null ? minDuration : Integer.MIN_VALUE;
+            int max = maxDuration != null ? maxDuration : Integer.MAX_VALUE;
+            return scan(categoryId, skillMask, min, max);
+        });
+    }
+
+    public int size() {
+        return read(() -> size);
+    }
+
+    @Override
+    protected void load() {
+        clear();
+        for (Object[] row : snapshotLoader.loadFacetFields()) {
+            put((Long) row[0], (String) row[1], (String) row[2], (Integer) row[3]);
+        }
+    }
+
+    @Override
+    protected void refresh(ProjectionSource source, Long id) {
+        if (source != ProjectionSource.OPPORTUNITY) {
+            return;
+        }
+        remove(id);
+        for (Object[] row : snapshotLoader.loadFacetFields(List.of(id))) {
+            put((Long) row[0], (String) row[1], (String) row[2], (Integer) row[3]);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOpportunityChanged(OpportunityChangedEvent event) {
+        write(() -> {
+            if (event.type() == OpportunityChangedEvent.ChangeType.SAVED) {
+                put(event.opportunityId(), event.category(), event.skills(), event.duration());
+            } else {
+                remove(event.opportunityId());
+            }
+        });
+    }
+
+    private long[] scan(int categoryId, long[] skillMask, int min, int max) {
+        // Row numbers first: an int per match, ids are only gathered for the survivors
+        int[] matches = new int[Math.min(size, INITIAL_CAPACITY)];
+        int count = 0;
+        int[] durations = this.durations;
+        int[] categories = this.categories;
+        for (int row = 0; row < size; row++) {
+            int duration = durations[row];
+            boolean match = duration >= min & duration <= max
+                    & (categoryId < 0 | categories[row] == categoryId);
+            if (match && (skillMask == null || intersects(row, skillMask))) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, matches.length * 2);
+                }
+                matches[count++] = row;
+            }
+        }
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = ids[matches[i]];
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private boolean intersects(int row, long[] mask) {
+        int offset = row * wordsPerRow;
+        for (int word = 0; word < mask.length; word++) {
+            if ((skillWords[offset + word] & mask[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same substring semantics as the escaped SQL LIKE of OpportunitySpecification: any tag
+     * containing the query matches, with % and _ taken literally.
+     */
+    private long[] skillMask(String query) {
+        long[] mask = new long[wordsPerRow];
+        boolean any = false;
+        for (int tag = 0; tag < skillIds.size(); tag++) {
+            if (skillTags[tag].contains(query)) {
+                mask[tag >>> 6] |= 1L << tag;
+                any = true;
+            }
+        }
+        return any ? mask : null;
+    }
+
+    private void put(long id, String category, String skills, int duration) {
+        Integer existing = rowsById.get(id);
+        int row;
+        if (existing != null) {
+            row = existing;
+        } else {
+            row = size++;
+            ensureRowCapacity(size);
+            rowsById.put(id, row);
+        }
+        ids[row] = id;
+        durations[row] = duration;
+        categories[row] = categoryIds.computeIfAbsent(category.toLowerCase(Locale.ROOT), key -> categoryIds.size());
+
+        int offset = row * wordsPerRow;
+        Arrays.fill(skillWords, offset, offset + wordsPerRow, 0L);
+        for (String segment : skills.split(",")) {
+            String tag = segment.trim().toLowerCase(Locale.ROOT);
+            if (tag.isEmpty()) {
+                continue;
+            }
+            int bit = skillId(tag);
+            // skillId may have widened the rows
+            skillWords[row * wordsPerRow + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private void remove(long id) {
+        Integer removed = rowsById.remove(id);
+        if (removed == null) {
+            return;
+        }
+        int row = removed;
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            durations[row] = durations[last];
+            categories[row] = categories[last];
+            System.arraycopy(skillWords, last * wordsPerRow, skillWords, row * wordsPerRow, wordsPerRow);
+            rowsById.put(ids[row], row);
+        }
+    }
+
+    private int skillId(String tag) {
+        Integer existing = skillIds.get(tag);
+        if (existing != null) {
+            return existing;
+        }
+        int id = skillIds.size();
+        if (id == skillTags.length) {
+            skillTags = Arrays.copyOf(skillTags, id * 2);
+        }
+        skillTags[id] = tag;
+        skillIds.put(tag, id);
+        if (id >= wordsPerRow * 64) {
+            widenSkillRows(wordsPerRow + 1);
+        }
+        return id;
+    }
+
+    private void widenSkillRows(int newWordsPerRow) {
+        long[] widened = new long[ids.length * newWordsPerRow];
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(skillWords, row * wordsPerRow, widened, row * newWordsPerRow, wordsPerRow);
+        }
+        skillWords = widened;
+        wordsPerRow = newWordsPerRow;
+    }
+
+    private void ensureRowCapacity(int rows) {
+        if (rows <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(rows, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        skillWords = Arrays.copyOf(skillWords, capacity * wordsPerRow);
+    }
+
+    private void clear() {
+        rowsById.clear();
+        categoryIds.clear();
+        skillIds.clear();
+        skillTags = new String[64];
+        ids = new long[INITIAL_CAPACITY];
+        durations = new int[INITIAL_CAPACITY];
+        categories = new int[INITIAL_CAPACITY];
+        skillWords = new long[INITIAL_CAPACITY];
+        wordsPerRow = 1;
+        size = 0;
+    }
+}
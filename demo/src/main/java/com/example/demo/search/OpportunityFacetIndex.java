@@ -0,0 +1,171 @@
+package com.example.demo.search;
+
+import com.example.demo.dto.OpportunityFacetsResponse;
+import com.example.demo.entity.OpportunityStatus;
+import com.example.demo.event.OpportunityChangedEvent;
+import com.example.demo.readmodel.CommittedEventProjection;
+import com.example.demo.readmodel.ProjectionSource;
+import com.example.demo.snapshot.OpportunitySnapshotFile;
+import com.example.demo.snapshot.OpportunitySnapshotLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Counts of opportunities per category, skill tag, duration bucket and status, kept up to
+ * date from committed {@link OpportunityChangedEvent}s. Loaded on startup (from the warm-start
+ * snapshot when there is one); readers get an immutable snapshot without locking.
+ */
+@Component
+public class OpportunityFacetIndex extends CommittedEventProjection {
+
+    private final OpportunitySnapshotLoader snapshotLoader;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Long> categories = new TreeMap<>();
+    private final Map<String, Long> skills = new TreeMap<>();
+    private final Map<String, Long> durations = new TreeMap<>();
+    private final Map<String, Long> statuses = new TreeMap<>();
+    // Newest updatedAt among the rows and changes applied so far
+    private LocalDateTime watermark;
+
+    private volatile OpportunityFacetsResponse snapshot;
+
+    public OpportunityFacetIndex(OpportunitySnapshotLoader snapshotLoader) {
+        this.snapshotLoader = snapshotLoader;
+    }
+
+    public OpportunityFacetsResponse getFacets() {
+        ensureLoaded();
+        return snapshot;
+    }
+
+    public List<String> getCategories() {
+        return List.copyOf(getFacets().getCategories().keySet());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOpportunityChanged(OpportunityChangedEvent event) {
+        write(() -> {
+            remove(entries.remove(event.opportunityId()));
+            if (event.type() == OpportunityChangedEvent.ChangeType.SAVED) {
+                Entry entry = new Entry(event.category(), skillTags(event.skills()), event.duration(), event.status());
+                entries.put(event.opportunityId(), entry);
+                add(entry);
+                advanceWatermark(event.updatedAt());
+            }
+            publish();
+        });
+    }
+
+    /**
+     * The facet rows as {@code id, category, skills, duration, status}, with skills reduced to
+     * their normalized tags, stamped with the newest {@code updatedAt} the index has applied;
+     * empty until the index has been loaded.
+     */
+    public Optional<OpportunitySnapshotFile.Snapshot> exportSnapshot() {
+        if (!isLoaded()) {
+            return Optional.empty();
+        }
+        return Optional.of(read(() -> {
+            List<Object[]> rows = new ArrayList<>(entries.size());
+            entries.forEach((id, entry) -> rows.add(new Object[]{id, entry.category(),
+                    String.join(",", entry.skills()), entry.duration(), entry.status()}));
+            return new OpportunitySnapshotFile.Snapshot(watermark, rows);
+        }));
+    }
+
+    @Override
+    protected void load() {
+        entries.clear();
+        categories.clear();
+        skills.clear();
+        durations.clear();
+        statuses.clear();
+        watermark = null;
+        for (Object[] row : snapshotLoader.loadFacetFields()) {
+            put(row);
+        }
+        publish();
+    }
+
+    @Override
+    protected void refresh(ProjectionSource source, Long id) {
+        if (source != ProjectionSource.OPPORTUNITY) {
+            return;
+        }
+        remove(entries.remove(id));
+        snapshotLoader.loadFacetFields(List.of(id)).forEach(this::put);
+        publish();
+    }
+
+    private void put(Object[] row) {
+        Entry entry = new Entry((String) row[1], skillTags((String) row[2]), (Integer) row[3],
+                (OpportunityStatus) row[4]);
+        entries.put((Long) row[0], entry);
+        add(entry);
+        advanceWatermark((LocalDateTime) row[5]);
+    }
+
+    private void advanceWatermark(LocalDateTime updatedAt) {
+        if (updatedAt != null && (watermark == null || updatedAt.isAfter(watermark))) {
+            watermark = updatedAt;
+        }
+    }
+
+    private void add(Entry entry) {
+        increment(categories, entry.category(), 1);
+        entry.skills().forEach(skill -> increment(skills, skill, 1));
+        increment(durations, DurationBucket.of(entry.duration()).getLabel(), 1);
+        increment(statuses, entry.status().name(), 1);
+    }
+
+    private void remove(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        increment(categories, entry.category(), -1);
+        entry.skills().forEach(skill -> increment(skills, skill, -1));
+        increment(durations, DurationBucket.of(entry.duration()).getLabel(), -1);
+        increment(statuses, entry.status().name(), -1);
+    }
+
+    private static void increment(Map<String, Long> counts, String key, long delta) {
+        counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private void publish() {
+        snapshot = new OpportunityFacetsResponse(entries.size(), sortedCopy(categories),
+                sortedCopy(skills), sortedCopy(durations), sortedCopy(statuses));
+    }
+
+    private static Map<String, Long> sortedCopy(Map<String, Long> counts) {
+        return Collections.unmodifiableMap(new TreeMap<>(counts));
+    }
+
+    private static List<String> skillTags(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(skills.split(","))
+                .map(skill -> skill.trim().toLowerCase(Locale.ROOT))
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private record Entry(String category, List<String> skills, int duration, OpportunityStatus status) {
+    }
+}
@@ -1,22 +1,34 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.ApplicationResponse;
+import com.example.demo.dto.BatchApplicationStatusRequest;
+import com.example.demo.dto.BatchApplicationStatusResponse;
 import com.example.demo.dto.CreateApplicationRequest;
 import com.example.demo.entity.Application;
 import com.example.demo.entity.Opportunity;
 import com.example.demo.entity.Volunteer;
+import com.example.demo.event.ApplicationStatusChangedEvent;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.readmodel.ApplicationReadModel;
 import com.example.demo.repository.ApplicationRepository;
+import com.example.demo.repository.ApplicationStatusView;
 import com.example.demo.repository.OpportunityRepository;
 import com.example.demo.repository.PromoterRepository;
 import com.example.demo.repository.VolunteerRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.entity.ApplicationStatus;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class ApplicationService {
@@ -25,15 +37,24 @@ public class ApplicationService {
     private final VolunteerRepository volunteerRepository;
     private final OpportunityRepository opportunityRepository;
     private final PromoterRepository promoterRepository;
+    private final VacancyReservationService vacancyReservationService;
+    private final ApplicationReadModel applicationReadModel;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ApplicationService(ApplicationRepository applicationRepository,
                               VolunteerRepository volunteerRepository,
                               OpportunityRepository opportunityRepository,
-                              PromoterRepository promoterRepository) {
+                              PromoterRepository promoterRepository,
+                              VacancyReservationService vacancyReservationService,
+                              ApplicationReadModel applicationReadModel,
+                              ApplicationEventPublisher eventPublisher) {
         this.applicationRepository = applicationRepository;
         this.volunteerRepository = volunteerRepository;
         this.opportunityRepository = opportunityRepository;
         this.promoterRepository = promoterRepository;
+        this.vacancyReservationService = vacancyReservationService;
+        this.applicationReadModel = applicationReadModel;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -41,6 +62,9 @@ public class ApplicationService {
         Opportunity opportunity = opportunityRepository.findById(request.getOpportunityId())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Opportunity not found with id: " + request.getOpportunityId()));
+        if (opportunity.getPromoter().getDeletedAt() != null) {
+            throw new IllegalStateException("Opportunity " + opportunity.getId() + " is being deleted");
+        }
 
         Volunteer volunteer = volunteerRepository.findByEmail(request.getVolunteerEmail())
                 .orElseGet(() -> {
@@ -62,6 +86,7 @@ public class ApplicationService {
         application.setMotivation(request.getMotivation());
 
         Application savedApplication = applicationRepository.save(application);
+        eventPublisher.publishEvent(ApplicationStatusChangedEvent.fromEntity(savedApplication));
         return ApplicationResponse.fromEntity(savedApplication);
     }
 
@@ -78,9 +103,7 @@ public class ApplicationService {
         if (!opportunityRepository.existsById(opportunityId)) {
             throw new ResourceNotFoundException("Opportunity not found with id: " + opportunityId);
         }
-        return applicationRepository.findByOpportunityId(opportunityId).stream()
-                .map(ApplicationResponse::fromEntity)
-                .collect(Collectors.toList());
+        return applicationReadModel.findByOpportunity(opportunityId);
     }
 
     @Transactional(readOnly = true)
@@ -88,19 +111,15 @@ public class ApplicationService {
         if (!volunteerRepository.existsById(volunteerId)) {
             throw new ResourceNotFoundException("Volunteer not found with id: " + volunteerId);
         }
-        return applicationRepository.findByVolunteerId(volunteerId).stream()
-                .map(ApplicationResponse::fromEntity)
-                .collect(Collectors.toList());
+        return applicationReadModel.findByVolunteer(volunteerId);
     }
 
     @Transactional(readOnly = true)
     public List<ApplicationResponse> getApplicationsByPromoter(Long promoterId) {
-        if (!promoterRepository.existsById(promoterId)) {
+        if (!promoterRepository.existsByIdAndDeletedAtIsNull(promoterId)) {
             throw new ResourceNotFoundException("Promoter not found with id: " + promoterId);
         }
-        return applicationRepository.findByOpportunityPromoterId(promoterId).stream()
-                .map(ApplicationResponse::fromEntity)
-                .collect(Collectors.toList());
+        return applicationReadModel.findByPromoter(promoterId);
     }
 
     @Transactional
@@ -108,8 +127,87 @@ public class ApplicationService {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Application not found with id: " + applicationId));
+
+        ApplicationStatus previous = application.getStatus();
+        if (previous != ApplicationStatus.ACCEPTED && status == ApplicationStatus.ACCEPTED) {
+            vacancyReservationService.reserve(application.getOpportunity().getId(), 1);
+        } else if (previous == ApplicationStatus.ACCEPTED && status != ApplicationStatus.ACCEPTED) {
+            vacancyReservationService.release(application.getOpportunity().getId(), 1);
+        }
+
         application.setStatus(status);
         Application updated = applicationRepository.save(application);
+        eventPublisher.publishEvent(ApplicationStatusChangedEvent.fromEntity(updated));
         return ApplicationResponse.fromEntity(updated);
     }
+
+    @Transactional
+    public BatchApplicationStatusResponse updateApplicationStatuses(BatchApplicationStatusRequest request) {
+        Map<Long, ApplicationStatus> targets = new LinkedHashMap<>();
+        for (BatchApplicationStatusRequest.StatusUpdate update : request.getUpdates()) {
+            if (targets.put(update.getApplicationId(), update.getStatus()) != null) {
+                throw new IllegalArgumentException("Duplicate application id in batch: " + update.getApplicationId());
+            }
+        }
+
+        List<ApplicationStatusView> views = applicationRepository.findStatusViewsByIdIn(targets.keySet());
+        if (views.size() != targets.size()) {
+            Set<Long> missing = new HashSet<>(targets.keySet());
+            views.forEach(view -> missing.remove(view.getId()));
+            throw new ResourceNotFoundException("Applications not found with ids: " + missing);
+        }
+
+        Map<ApplicationStatus, Map<ApplicationStatus, List<Long>>> idsByTransition = new EnumMap<>(ApplicationStatus.class);
+        Map<Long, Integer> slotsByOpportunity = new HashMap<>();
+        List<ApplicationStatusChangedEvent> events = new ArrayList<>();
+
+        for (ApplicationStatusView view : views) {
+            if (!view.getPromoterId().equals(request.getPromoterId())) {
+                throw new IllegalStateException(
+                        "Only the promoter who created the opportunity can update application " + view.getId());
+            }
+            ApplicationStatus target = targets.get(view.getId());
+            if (target == view.getStatus()) {
+                continue;
+            }
+
+            idsByTransition.computeIfAbsent(target, s -> new EnumMap<>(ApplicationStatus.class))
+                    .computeIfAbsent(view.getStatus(), s -> new ArrayList<>())
+                    .add(view.getId());
+            if (target == ApplicationStatus.ACCEPTED) {
+                slotsByOpportunity.merge(view.getOpportunityId(), 1, Integer::sum);
+            } else if (view.getStatus() == ApplicationStatus.ACCEPTED) {
+                slotsByOpportunity.merge(view.getOpportunityId(), -1, Integer::sum);
+            }
+            events.add(new ApplicationStatusChangedEvent(view.getId(), view.getVolunteerId(),
+                    view.getOpportunityId(), view.getPromoterId(), view.getOpportunityTitle(), target,
+                    view.getVersion() + 1));
+        }
+
+        // Net change per opportunity, so swapping accepted applications in one batch needs no spare slot
+        slotsByOpportunity.forEach((opportunityId, slots) -> {
+            if (slots > 0) {
+                vacancyReservationService.reserve(opportunityId, slots);
+            } else if (slots < 0) {
+                vacancyReservationService.release(opportunityId, -slots);
+            }
+        });
+
+        Map<ApplicationStatus, Integer> updatedByStatus = new EnumMap<>(ApplicationStatus.class);
+        int updated = 0;
+        for (Map.Entry<ApplicationStatus, Map<ApplicationStatus, List<Long>>> byTarget : idsByTransition.entrySet()) {
+            for (Map.Entry<ApplicationStatus, List<Long>> byPrevious : byTarget.getValue().entrySet()) {
+                int rows = applicationRepository.updateStatusByIdIn(
+                        byPrevious.getValue(), byPrevious.getKey(), byTarget.getKey());
+                if (rows != byPrevious.getValue().size()) {
+                    throw new IllegalStateException("Applications were modified concurrently, please retry");
+                }
+                updatedByStatus.merge(byTarget.getKey(), rows, Integer::sum);
+                updated += rows;
+            }
+        }
+
+        events.forEach(eventPublisher::publishEvent);
+        return new BatchApplicationStatusResponse(targets.size(), updated, targets.size() - updated, updatedByStatus);
+    }
 }
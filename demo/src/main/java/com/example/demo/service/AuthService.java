@@ -6,6 +6,7 @@ import com.example.demo.dto.RegisterRequest;
 import com.example.demo.entity.User;
 import com.example.demo.entity.UserType;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.writebehind.LastLoginWriteBehind;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,9 +21,11 @@ import java.util.Optional;
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
 
-    public AuthService(UserRepository userRepository) {
+    public AuthService(UserRepository userRepository, LastLoginWriteBehind lastLoginWriteBehind) {
         this.userRepository = userRepository;
+        this.lastLoginWriteBehind = lastLoginWriteBehind;
     }
 
     @Transactional
@@ -51,7 +54,7 @@ public class AuthService {
         );
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest request) {
         Optional<User> userOpt = userRepository.findByEmailAndActiveTrue(request.getEmail());
 
@@ -66,8 +69,7 @@ public class AuthService {
             return AuthResponse.error("Email ou password invalidos");
         }
 
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        lastLoginWriteBehind.touch(user.getId(), LocalDateTime.now());
 
         return AuthResponse.success(
                 user.getId(),
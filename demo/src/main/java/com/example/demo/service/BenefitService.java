@@ -1,13 +1,18 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.CacheNames;
 import com.example.demo.dto.BenefitResponse;
 import com.example.demo.dto.CreateBenefitRequest;
 import com.example.demo.dto.UpdateBenefitRequest;
 import com.example.demo.entity.Benefit;
 import com.example.demo.entity.Benefit.BenefitCategory;
+import com.example.demo.entity.Volunteer;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.readmodel.BenefitPriceIndex;
 import com.example.demo.repository.BenefitRepository;
 import com.example.demo.repository.VolunteerRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,14 +23,18 @@ import java.util.stream.Collectors;
 public class BenefitService {
 
     private final BenefitRepository benefitRepository;
+    private final BenefitPriceIndex benefitPriceIndex;
     private final VolunteerRepository volunteerRepository;
 
-    public BenefitService(BenefitRepository benefitRepository, VolunteerRepository volunteerRepository) {
+    public BenefitService(BenefitRepository benefitRepository, BenefitPriceIndex benefitPriceIndex,
+                          VolunteerRepository volunteerRepository) {
         this.benefitRepository = benefitRepository;
+        this.benefitPriceIndex = benefitPriceIndex;
         this.volunteerRepository = volunteerRepository;
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.BENEFITS, key = "'active'")
     public List<BenefitResponse> getAllActiveBenefits() {
         return benefitRepository.findByActiveTrue().stream()
                 .map(BenefitResponse::fromEntity)
@@ -40,21 +49,16 @@ public class BenefitService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.BENEFITS, key = "'category:' + #category")
     public List<BenefitResponse> getBenefitsByCategory(BenefitCategory category) {
         return benefitRepository.findByCategoryAndActiveTrue(category).stream()
                 .map(BenefitResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
     public List<BenefitResponse> getAffordableBenefitsForVolunteer(Long volunteerId) {
-        Integer volunteerPoints = volunteerRepository.findById(volunteerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Volunteer not found with id: " + volunteerId))
-                .getTotalPoints();
-
-        return benefitRepository.findByPointsRequiredLessThanEqualAndActiveTrue(volunteerPoints).stream()
-                .map(BenefitResponse::fromEntity)
-                .collect(Collectors.toList());
+        Volunteer volunteer = findVolunteer(volunteerId);
+        return benefitPriceIndex.affordable(volunteer.getTotalPoints());
     }
 
     @Transactional(readOnly = true)
@@ -65,11 +69,13 @@ public class BenefitService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.BENEFITS, key = "'providers'")
     public List<String> getAllProviders() {
         return benefitRepository.findAllActiveProviders();
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.BENEFITS, key = "'sorted:asc'")
     public List<BenefitResponse> getBenefitsSortedByPointsAsc() {
         return benefitRepository.findByActiveTrueOrderByPointsRequiredAsc().stream()
                 .map(BenefitResponse::fromEntity)
@@ -77,23 +83,25 @@ public class BenefitService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.BENEFITS, key = "'sorted:desc'")
     public List<BenefitResponse> getBenefitsSortedByPointsDesc() {
         return benefitRepository.findByActiveTrueOrderByPointsRequiredDesc().stream()
                 .map(BenefitResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
     public List<BenefitResponse> getCatalogForVolunteer(Long volunteerId) {
-        if (!volunteerRepository.existsById(volunteerId)) {
-            throw new ResourceNotFoundException("Volunteer not found with id: " + volunteerId);
-        }
-        return benefitRepository.findByActiveTrueOrderByPointsRequiredAsc().stream()
-                .map(BenefitResponse::fromEntity)
-                .collect(Collectors.toList());
+        findVolunteer(volunteerId);
+        return benefitPriceIndex.catalog();
+    }
+
+    private Volunteer findVolunteer(Long volunteerId) {
+        return volunteerRepository.findById(volunteerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Volunteer not found with id: " + volunteerId));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.BENEFITS, allEntries = true)
     public BenefitResponse createPartnerBenefit(CreateBenefitRequest request) {
         Benefit benefit = new Benefit();
         benefit.setName(request.getName());
@@ -108,6 +116,7 @@ public class BenefitService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.BENEFITS, allEntries = true)
     public BenefitResponse updatePartnerBenefit(Long id, UpdateBenefitRequest request) {
         Benefit benefit = benefitRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Benefit not found with id: " + id));
@@ -137,6 +146,7 @@ public class BenefitService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.BENEFITS, allEntries = true)
     public void deactivatePartnerBenefit(Long id) {
         Benefit benefit = benefitRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Benefit not found with id: " + id));
@@ -150,6 +160,7 @@ public class BenefitService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.BENEFITS, key = "'partner'")
     public List<BenefitResponse> getPartnerBenefits() {
         return benefitRepository.findByCategoryAndActiveTrue(BenefitCategory.PARTNER).stream()
                 .map(BenefitResponse::fromEntity)
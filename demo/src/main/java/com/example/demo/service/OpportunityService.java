@@ -1,43 +1,69 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.CacheNames;
 import com.example.demo.dto.*;
 import com.example.demo.entity.*;
+import com.example.demo.event.PointsCreditedEvent;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.ApplicationRepository;
 import com.example.demo.repository.OpportunityRepository;
 import com.example.demo.repository.PromoterRepository;
 import com.example.demo.repository.VolunteerRepository;
+import com.example.demo.search.OpportunityColumnStore;
+import com.example.demo.search.OpportunityFacetIndex;
 import com.example.demo.specification.OpportunitySpecification;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class OpportunityService {
 
+    private static final int FETCH_CHUNK_SIZE = 1000;
+
     private final OpportunityRepository opportunityRepository;
     private final PromoterRepository promoterRepository;
     private final ApplicationRepository applicationRepository;
     private final VolunteerRepository volunteerRepository;
+    private final VolunteerStatsService volunteerStatsService;
+    private final VacancyReservationService vacancyReservationService;
+    private final OpportunityFacetIndex opportunityFacetIndex;
+    private final OpportunityColumnStore opportunityColumnStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OpportunityService(OpportunityRepository opportunityRepository,
                               PromoterRepository promoterRepository,
                               ApplicationRepository applicationRepository,
-                              VolunteerRepository volunteerRepository) {
+                              VolunteerRepository volunteerRepository,
+                              VolunteerStatsService volunteerStatsService,
+                              VacancyReservationService vacancyReservationService,
+                              OpportunityFacetIndex opportunityFacetIndex,
+                              OpportunityColumnStore opportunityColumnStore,
+                              ApplicationEventPublisher eventPublisher) {
         this.opportunityRepository = opportunityRepository;
         this.promoterRepository = promoterRepository;
         this.applicationRepository = applicationRepository;
         this.volunteerRepository = volunteerRepository;
+        this.volunteerStatsService = volunteerStatsService;
+        this.vacancyReservationService = vacancyReservationService;
+        this.opportunityFacetIndex = opportunityFacetIndex;
+        this.opportunityColumnStore = opportunityColumnStore;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public OpportunityResponse createOpportunity(CreateOpportunityRequest request) {
-        Promoter promoter = promoterRepository.findById(request.getPromoterId())
+        Promoter promoter = promoterRepository.findByIdAndDeletedAtIsNull(request.getPromoterId())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Promoter not found with id: " + request.getPromoterId()));
 
@@ -65,37 +91,33 @@ public class OpportunityService {
 
     @Transactional(readOnly = true)
     public List<OpportunityResponse> getAllOpportunities() {
-        return opportunityRepository.findAll().stream()
-                .map(OpportunityResponse::fromEntity)
-                .collect(Collectors.toList());
+        return opportunityRepository.findAllResponses();
     }
 
     @Transactional(readOnly = true)
     public List<OpportunityResponse> getOpportunitiesByPromoter(Long promoterId) {
-        if (!promoterRepository.existsById(promoterId)) {
+        if (!promoterRepository.existsByIdAndDeletedAtIsNull(promoterId)) {
             throw new ResourceNotFoundException("Promoter not found with id: " + promoterId);
         }
-        return opportunityRepository.findByPromoterId(promoterId).stream()
-                .map(OpportunityResponse::fromEntity)
-                .collect(Collectors.toList());
+        return opportunityRepository.findResponsesByPromoterId(promoterId);
     }
 
     @Transactional(readOnly = true)
     public List<OpportunityResponse> filterOpportunities(OpportunityFilterRequest filter) {
-        Specification<Opportunity> spec = OpportunitySpecification.withFilters(
+        return filterOpportunitiesByParams(
                 filter.getCategory(),
                 filter.getSkills(),
                 filter.getMinDuration(),
                 filter.getMaxDuration()
         );
-
-        return opportunityRepository.findAll(spec).stream()
-                .map(OpportunityResponse::fromEntity)
-                .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<OpportunityResponse> filterOpportunitiesByParams(String category, String skills, Integer minDuration, Integer maxDuration) {
+        if (opportunityColumnStore.canFilter(skills)) {
+            return findAllByIdInOrder(opportunityColumnStore.filter(category, skills, minDuration, maxDuration));
+        }
+
         Specification<Opportunity> spec = OpportunitySpecification.withFilters(
                 category,
                 skills,
@@ -108,9 +130,18 @@ public class OpportunityService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
     public List<String> getAllCategories() {
-        return opportunityRepository.findAllCategories();
+        return opportunityFacetIndex.getCategories();
+    }
+
+    public OpportunityFacetsResponse getFacets() {
+        return opportunityFacetIndex.getFacets();
+    }
+
+    @Transactional(readOnly = true)
+    public OpportunitySearchResponse searchOpportunities(String category, String skills, Integer minDuration, Integer maxDuration) {
+        List<OpportunityResponse> results = filterOpportunitiesByParams(category, skills, minDuration, maxDuration);
+        return new OpportunitySearchResponse(results, opportunityFacetIndex.getFacets());
     }
 
     @Transactional
@@ -118,6 +149,15 @@ public class OpportunityService {
         Opportunity opportunity = opportunityRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Opportunity not found with id: " + id));
+        if (opportunity.getPromoter().getDeletedAt() != null) {
+            throw new IllegalStateException("Opportunity " + id + " is being deleted");
+        }
+        // The cached entity's count may be stale; the row lock keeps it valid until the update commits
+        int acceptedCount = opportunityRepository.lockAcceptedCount(id);
+        if (request.getVacancies() < acceptedCount) {
+            throw new IllegalStateException("Vacancies cannot be lower than the " + acceptedCount
+                    + " applications already accepted");
+        }
 
         opportunity.setTitle(request.getTitle());
         opportunity.setDescription(request.getDescription());
@@ -128,6 +168,7 @@ public class OpportunityService {
         opportunity.setPoints(request.getPoints());
 
         Opportunity updatedOpportunity = opportunityRepository.save(opportunity);
+        vacancyReservationService.evict(id);
         return OpportunityResponse.fromEntity(updatedOpportunity);
     }
 
@@ -137,9 +178,11 @@ public class OpportunityService {
             throw new ResourceNotFoundException("Opportunity not found with id: " + id);
         }
         opportunityRepository.deleteById(id);
+        vacancyReservationService.evict(id);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.RANKING, allEntries = true)
     public ConcludeOpportunityResponse concludeOpportunity(Long opportunityId, ConfirmParticipationRequest request) {
         Opportunity opportunity = opportunityRepository.findById(opportunityId)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -181,6 +224,8 @@ public class OpportunityService {
             Volunteer volunteer = application.getVolunteer();
             volunteer.setTotalPoints(volunteer.getTotalPoints() + opportunity.getPoints());
             volunteerRepository.save(volunteer);
+            volunteerStatsService.recordPointsEarned(volunteer.getId(), opportunity.getPoints());
+            eventPublisher.publishEvent(PointsCreditedEvent.fromEntity(application));
 
             ConcludeOpportunityResponse.ParticipantSummary summary = new ConcludeOpportunityResponse.ParticipantSummary();
             summary.setVolunteerId(volunteer.getId());
@@ -210,6 +255,7 @@ public class OpportunityService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.RANKING, allEntries = true)
     public ApplicationResponse confirmParticipation(Long applicationId, Long promoterId) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -237,20 +283,20 @@ public class OpportunityService {
         Volunteer volunteer = application.getVolunteer();
         volunteer.setTotalPoints(volunteer.getTotalPoints() + opportunity.getPoints());
         volunteerRepository.save(volunteer);
+        volunteerStatsService.recordPointsEarned(volunteer.getId(), opportunity.getPoints());
+        eventPublisher.publishEvent(PointsCreditedEvent.fromEntity(application));
 
         return ApplicationResponse.fromEntity(application);
     }
 
     @Transactional(readOnly = true)
     public List<OpportunityResponse> getOpportunitiesByStatus(OpportunityStatus status) {
-        return opportunityRepository.findByStatus(status).stream()
-                .map(OpportunityResponse::fromEntity)
-                .collect(Collectors.toList());
+        return opportunityRepository.findResponsesByStatus(status);
     }
 
     @Transactional(readOnly = true)
     public List<OpportunityResponse> getOpportunitiesByPromoterAndStatus(Long promoterId, OpportunityStatus status) {
-        if (!promoterRepository.existsById(promoterId)) {
+        if (!promoterRepository.existsByIdAndDeletedAtIsNull(promoterId)) {
             throw new ResourceNotFoundException("Promoter not found with id: " + promoterId);
         }
         return opportunityRepository.findByPromoterIdAndStatus(promoterId, status).stream()
@@ -270,9 +316,27 @@ public class OpportunityService {
 
     @Transactional(readOnly = true)
     public long countConcludedOpportunitiesByPromoter(Long promoterId) {
-        if (!promoterRepository.existsById(promoterId)) {
+        if (!promoterRepository.existsByIdAndDeletedAtIsNull(promoterId)) {
             throw new ResourceNotFoundException("Promoter not found with id: " + promoterId);
         }
         return opportunityRepository.countByPromoterIdAndStatus(promoterId, OpportunityStatus.CONCLUDED);
     }
+
+    private List<OpportunityResponse> findAllByIdInOrder(long[] ids) {
+        List<OpportunityResponse> responses = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += FETCH_CHUNK_SIZE) {
+            long[] chunk = Arrays.copyOfRange(ids, from, Math.min(ids.length, from + FETCH_CHUNK_SIZE));
+            Map<Long, OpportunityResponse> byId = new HashMap<>();
+            opportunityRepository.findResponsesByIdIn(Arrays.stream(chunk).boxed().collect(Collectors.toList()))
+                    .forEach(response -> byId.put(response.getId(), response));
+            for (long id : chunk) {
+                OpportunityResponse response = byId.get(id);
+                // Deleted after the scan
+                if (response != null) {
+                    responses.add(response);
+                }
+            }
+        }
+        return responses;
+    }
 }
@@ -0,0 +1,26 @@
+package com.example.demo.service;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Field assignment for partial updates of managed entities. Only values that are present and
+ * differ from the current one are set: with {@code @DynamicUpdate} the flush writes only the
+ * changed columns, and an unchanged entity stays clean and is not written at all.
+ */
+final class PartialUpdate {
+
+    private PartialUpdate() {
+        // Utility class
+    }
+
+    /** Sets {@code value} when it is non-null and differs from the current value; returns whether it did. */
+    static <T> boolean apply(T value, Supplier<T> getter, Consumer<T> setter) {
+        if (value == null || Objects.equals(value, getter.get())) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+}
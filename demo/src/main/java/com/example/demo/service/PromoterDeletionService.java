@@ -0,0 +1,101 @@
+package com.example.demo.service;
+
+import com.example.demo.cache.CacheNames;
+import com.example.demo.cache.EntityCacheInvalidator;
+import com.example.demo.entity.Promoter;
+import com.example.demo.event.ApplicationChangedEvent;
+import com.example.demo.event.OpportunityChangedEvent;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.ApplicationRepository;
+import com.example.demo.repository.OpportunityRepository;
+import com.example.demo.repository.PromoterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based removal of a promoter's object graph. Each batch method deletes at most
+ * {@code batchSize} rows by id in its own short transaction, without loading entities or
+ * walking the cascade. Bulk deletes skip entity callbacks, so the change events the entity
+ * listeners would have sent are published here.
+ */
+@Service
+public class PromoterDeletionService {
+
+    private final PromoterRepository promoterRepository;
+    private final OpportunityRepository opportunityRepository;
+    private final ApplicationRepository applicationRepository;
+    private final VacancyReservationService vacancyReservationService;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public PromoterDeletionService(PromoterRepository promoterRepository,
+                                   OpportunityRepository opportunityRepository,
+                                   ApplicationRepository applicationRepository,
+                                   VacancyReservationService vacancyReservationService,
+                                   EntityCacheInvalidator entityCacheInvalidator,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${app.promoter-deletion.batch-size:500}") int batchSize) {
+        this.promoterRepository = promoterRepository;
+        this.opportunityRepository = opportunityRepository;
+        this.applicationRepository = applicationRepository;
+        this.vacancyReservationService = vacancyReservationService;
+        this.entityCacheInvalidator = entityCacheInvalidator;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /** Flags a live promoter as deleted; reads then skip it and writes to it are rejected. */
+    @Transactional
+    public void markDeleted(Long promoterId) {
+        Promoter promoter = promoterRepository.findByIdAndDeletedAtIsNull(promoterId)
+                .orElseThrow(() -> new ResourceNotFoundException("Promoter not found with id: " + promoterId));
+        promoter.setDeletedAt(LocalDateTime.now());
+    }
+
+    /** Deletes the next batch of applications to the promoter's opportunities; returns how many. */
+    @Transactional
+    public int deleteApplicationBatch(Long promoterId) {
+        List<Long> ids = applicationRepository.findIdsByPromoterId(promoterId, PageRequest.of(0, batchSize));
+        deleteApplications(ids);
+        return ids.size();
+    }
+
+    /** Deletes the next batch of the promoter's opportunities; returns how many. */
+    @Transactional
+    public int deleteOpportunityBatch(Long promoterId) {
+        List<Long> ids = opportunityRepository.findIdsByPromoterId(promoterId, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // Normally empty; catches applications submitted after the application batches finished
+        deleteApplications(applicationRepository.findIdsByOpportunityIdIn(ids));
+        opportunityRepository.deleteAllByIdInBatch(ids);
+        for (Long id : ids) {
+            eventPublisher.publishEvent(OpportunityChangedEvent.deleted(id));
+            entityCacheInvalidator.invalidate(CacheNames.OPPORTUNITY_ENTITIES, id);
+            vacancyReservationService.evict(id);
+        }
+        return ids.size();
+    }
+
+    @Transactional
+    public void deletePromoter(Long promoterId) {
+        promoterRepository.deleteAllByIdInBatch(List.of(promoterId));
+        entityCacheInvalidator.invalidate(CacheNames.PROMOTER_ENTITIES, promoterId);
+    }
+
+    private void deleteApplications(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        applicationRepository.deleteAllByIdInBatch(ids);
+        ids.forEach(id -> eventPublisher.publishEvent(ApplicationChangedEvent.deleted(id)));
+    }
+}
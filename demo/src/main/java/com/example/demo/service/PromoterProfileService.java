@@ -6,6 +6,8 @@ import com.example.demo.dto.PromoterProfileResponse;
 import com.example.demo.entity.Promoter;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.PromoterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,13 +15,17 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class PromoterProfileService {
 
     private final PromoterRepository promoterRepository;
+    private final PromoterDeletionService promoterDeletionService;
 
-    public PromoterProfileService(PromoterRepository promoterRepository) {
+    public PromoterProfileService(PromoterRepository promoterRepository,
+                                  PromoterDeletionService promoterDeletionService) {
         this.promoterRepository = promoterRepository;
+        this.promoterDeletionService = promoterDeletionService;
     }
 
     @Transactional
@@ -50,102 +56,105 @@ public class PromoterProfileService {
 
     @Transactional
     public PromoterProfileResponse updateProfile(Long promoterId, UpdatePromoterProfileRequest request) {
-        Promoter promoter = promoterRepository.findById(promoterId)
+        Promoter promoter = promoterRepository.findByIdAndDeletedAtIsNull(promoterId)
                 .orElseThrow(() -> new ResourceNotFoundException("Promoter not found with id: " + promoterId));
 
         if (!request.hasUpdates()) {
             throw new IllegalArgumentException("No fields to update provided");
         }
 
-        if (request.getName() != null) {
-            promoter.setName(request.getName());
+        boolean changed = PartialUpdate.apply(request.getName(), promoter::getName, promoter::setName)
+                | PartialUpdate.apply(request.getOrganization(), promoter::getOrganization, promoter::setOrganization)
+                | PartialUpdate.apply(request.getDescription(), promoter::getDescription, promoter::setDescription)
+                | PartialUpdate.apply(request.getPhone(), promoter::getPhone, promoter::setPhone)
+                | PartialUpdate.apply(request.getWebsite(), promoter::getWebsite, promoter::setWebsite)
+                | PartialUpdate.apply(request.getAddress(), promoter::getAddress, promoter::setAddress)
+                | PartialUpdate.apply(request.getLogoUrl(), promoter::getLogoUrl, promoter::setLogoUrl)
+                | PartialUpdate.apply(request.getOrganizationType(), promoter::getOrganizationType, promoter::setOrganizationType)
+                | PartialUpdate.apply(request.getAreaOfActivity(), promoter::getAreaOfActivity, promoter::setAreaOfActivity)
+                | PartialUpdate.apply(request.getFoundedYear(), promoter::getFoundedYear, promoter::setFoundedYear)
+                | PartialUpdate.apply(request.getNumberOfEmployees(), promoter::getNumberOfEmployees, promoter::setNumberOfEmployees)
+                | PartialUpdate.apply(request.getSocialMedia(), promoter::getSocialMedia, promoter::setSocialMedia);
+
+        if (changed) {
+            promoter.setProfileUpdatedAt(LocalDateTime.now());
         }
-        if (request.getOrganization() != null) {
-            promoter.setOrganization(request.getOrganization());
-        }
-        if (request.getDescription() != null) {
-            promoter.setDescription(request.getDescription());
-        }
-        if (request.getPhone() != null) {
-            promoter.setPhone(request.getPhone());
-        }
-        if (request.getWebsite() != null) {
-            promoter.setWebsite(request.getWebsite());
-        }
-        if (request.getAddress() != null) {
-            promoter.setAddress(request.getAddress());
-        }
-        if (request.getLogoUrl() != null) {
-            promoter.setLogoUrl(request.getLogoUrl());
-        }
-        if (request.getOrganizationType() != null) {
-            promoter.setOrganizationType(request.getOrganizationType());
-        }
-        if (request.getAreaOfActivity() != null) {
-            promoter.setAreaOfActivity(request.getAreaOfActivity());
-        }
-        if (request.getFoundedYear() != null) {
-            promoter.setFoundedYear(request.getFoundedYear());
-        }
-        if (request.getNumberOfEmployees() != null) {
-            promoter.setNumberOfEmployees(request.getNumberOfEmployees());
-        }
-        if (request.getSocialMedia() != null) {
-            promoter.setSocialMedia(request.getSocialMedia());
-        }
-
-        promoter.setProfileUpdatedAt(LocalDateTime.now());
-        Promoter updatedPromoter = promoterRepository.save(promoter);
-        return PromoterProfileResponse.fromEntity(updatedPromoter);
+        return PromoterProfileResponse.fromEntity(promoter);
     }
 
     @Transactional(readOnly = true)
     public PromoterProfileResponse getProfile(Long promoterId) {
-        Promoter promoter = promoterRepository.findById(promoterId)
+        Promoter promoter = promoterRepository.findByIdAndDeletedAtIsNull(promoterId)
                 .orElseThrow(() -> new ResourceNotFoundException("Promoter not found with id: " + promoterId));
         return PromoterProfileResponse.fromEntity(promoter);
     }
 
     @Transactional(readOnly = true)
     public PromoterProfileResponse getProfileByEmail(String email) {
-        Promoter promoter = promoterRepository.findByEmail(email)
+        Promoter promoter = promoterRepository.findByEmailAndDeletedAtIsNull(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Promoter not found with email: " + email));
         return PromoterProfileResponse.fromEntity(promoter);
     }
 
     @Transactional(readOnly = true)
     public List<PromoterProfileResponse> getAllProfiles() {
-        return promoterRepository.findAll().stream()
+        return promoterRepository.findByDeletedAtIsNull().stream()
                 .map(PromoterProfileResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<PromoterProfileResponse> findPromotersByOrganization(String organization) {
-        return promoterRepository.findByOrganizationContainingIgnoreCase(organization).stream()
+        return promoterRepository.findByOrganizationContainingIgnoreCaseAndDeletedAtIsNull(organization).stream()
                 .map(PromoterProfileResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<PromoterProfileResponse> findPromotersByAreaOfActivity(String areaOfActivity) {
-        return promoterRepository.findByAreaOfActivityContainingIgnoreCase(areaOfActivity).stream()
+        return promoterRepository.findByAreaOfActivityContainingIgnoreCaseAndDeletedAtIsNull(areaOfActivity).stream()
                 .map(PromoterProfileResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<PromoterProfileResponse> findPromotersByOrganizationType(String organizationType) {
-        return promoterRepository.findByOrganizationTypeContainingIgnoreCase(organizationType).stream()
+        return promoterRepository.findByOrganizationTypeContainingIgnoreCaseAndDeletedAtIsNull(organizationType).stream()
                 .map(PromoterProfileResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    /**
+     * Flags the promoter as deleted in its own transaction, which hides it and rejects further
+     * writes, then removes it with its opportunities and their applications in bounded batches,
+     * each in its own transaction, so no single transaction locks or loads the whole graph.
+     * A purge cut short is finished by {@link #purgeDeletedProfiles()}.
+     */
     public void deleteProfile(Long promoterId) {
-        if (!promoterRepository.existsById(promoterId)) {
-            throw new ResourceNotFoundException("Promoter not found with id: " + promoterId);
+        promoterDeletionService.markDeleted(promoterId);
+        purge(promoterId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.promoter-deletion.resume-interval:PT5M}",
+            initialDelayString = "${app.promoter-deletion.resume-interval:PT5M}")
+    public void purgeDeletedProfiles() {
+        for (Long promoterId : promoterRepository.findIdsMarkedDeleted()) {
+            try {
+                purge(promoterId);
+            } catch (RuntimeException ex) {
+                log.warn("Could not finish deleting promoter {}; retrying on the next run", promoterId, ex);
+            }
         }
-        promoterRepository.deleteById(promoterId);
+    }
+
+    private void purge(Long promoterId) {
+        int deleted;
+        do {
+            deleted = promoterDeletionService.deleteApplicationBatch(promoterId);
+        } while (deleted > 0);
+        do {
+            deleted = promoterDeletionService.deleteOpportunityBatch(promoterId);
+        } while (deleted > 0);
+        promoterDeletionService.deletePromoter(promoterId);
     }
 }
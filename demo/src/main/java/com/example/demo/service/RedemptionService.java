@@ -1,5 +1,6 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.CacheNames;
 import com.example.demo.dto.BenefitRedemptionDetailResponse;
 import com.example.demo.dto.PartnerRedemptionStatsResponse;
 import com.example.demo.dto.RedeemPointsRequest;
@@ -13,6 +14,7 @@ import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.BenefitRepository;
 import com.example.demo.repository.RedemptionRepository;
 import com.example.demo.repository.VolunteerRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,16 +29,20 @@ public class RedemptionService {
     private final RedemptionRepository redemptionRepository;
     private final VolunteerRepository volunteerRepository;
     private final BenefitRepository benefitRepository;
+    private final VolunteerStatsService volunteerStatsService;
 
     public RedemptionService(RedemptionRepository redemptionRepository,
                              VolunteerRepository volunteerRepository,
-                             BenefitRepository benefitRepository) {
+                             BenefitRepository benefitRepository,
+                             VolunteerStatsService volunteerStatsService) {
         this.redemptionRepository = redemptionRepository;
         this.volunteerRepository = volunteerRepository;
         this.benefitRepository = benefitRepository;
+        this.volunteerStatsService = volunteerStatsService;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.RANKING, allEntries = true)
     public RedemptionResponse redeemPoints(RedeemPointsRequest request) {
         Volunteer volunteer = volunteerRepository.findById(request.getVolunteerId())
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -67,6 +73,7 @@ public class RedemptionService {
         redemption.setRedeemedAt(LocalDateTime.now());
 
         Redemption savedRedemption = redemptionRepository.save(redemption);
+        volunteerStatsService.recordRedemption(volunteer.getId(), savedRedemption.getPointsSpent());
 
         return RedemptionResponse.fromEntity(savedRedemption);
     }
@@ -99,20 +106,12 @@ public class RedemptionService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
     public Integer getTotalPointsSpent(Long volunteerId) {
-        if (!volunteerRepository.existsById(volunteerId)) {
-            throw new ResourceNotFoundException("Volunteer not found with id: " + volunteerId);
-        }
-        return redemptionRepository.sumPointsSpentByVolunteerId(volunteerId);
+        return volunteerStatsService.getSummary(volunteerId).getPointsSpent().intValue();
     }
 
-    @Transactional(readOnly = true)
     public Long getRedemptionCount(Long volunteerId) {
-        if (!volunteerRepository.existsById(volunteerId)) {
-            throw new ResourceNotFoundException("Volunteer not found with id: " + volunteerId);
-        }
-        return redemptionRepository.countCompletedByVolunteerId(volunteerId);
+        return volunteerStatsService.getSummary(volunteerId).getRedemptionCount();
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,117 @@
+package com.example.demo.service;
+
+import com.example.demo.cache.CacheNames;
+import com.example.demo.cache.EntityCacheInvalidator;
+import com.example.demo.repository.OpportunityRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enforces {@code Opportunity.vacancies} on accept. A per-opportunity atomic counter of
+ * remaining slots is only a hint: accepts it admits still go through the conditional UPDATE
+ * on {@code acceptedCount}, and when it reads full it is reloaded from the database before
+ * rejecting, since slots may have been freed or added on another node. The UPDATEs are native
+ * so that they leave the Opportunity cache region alone; only the changed row is evicted.
+ */
+@Service
+public class VacancyReservationService {
+
+    private final OpportunityRepository opportunityRepository;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+    private final Map<Long, AtomicInteger> remainingSlots = new ConcurrentHashMap<>();
+
+    public VacancyReservationService(OpportunityRepository opportunityRepository,
+                                     EntityCacheInvalidator entityCacheInvalidator) {
+        this.opportunityRepository = opportunityRepository;
+        this.entityCacheInvalidator = entityCacheInvalidator;
+    }
+
+    @Transactional
+    public void reserve(Long opportunityId, int slots) {
+        AtomicInteger remaining = take(opportunityId, slots);
+
+        if (opportunityRepository.reserveVacancies(opportunityId, slots) == 0) {
+            // Counter was ahead of the database (e.g. vacancies changed elsewhere); reload on next use
+            remainingSlots.remove(opportunityId, remaining);
+            throw new IllegalStateException("No vacancies left for opportunity " + opportunityId);
+        }
+        entityCacheInvalidator.invalidate(CacheNames.OPPORTUNITY_ENTITIES, opportunityId);
+
+        onCompletion(() -> entityCacheInvalidator.evictLocal(CacheNames.OPPORTUNITY_ENTITIES, opportunityId),
+                () -> remaining.addAndGet(slots));
+    }
+
+    @Transactional
+    public void release(Long opportunityId, int slots) {
+        if (opportunityRepository.releaseVacancies(opportunityId, slots) > 0) {
+            entityCacheInvalidator.invalidate(CacheNames.OPPORTUNITY_ENTITIES, opportunityId);
+            onCompletion(() -> {
+                entityCacheInvalidator.evictLocal(CacheNames.OPPORTUNITY_ENTITIES, opportunityId);
+                AtomicInteger remaining = remainingSlots.get(opportunityId);
+                if (remaining != null) {
+                    remaining.addAndGet(slots);
+                }
+            }, () -> { });
+        }
+    }
+
+    public void evict(Long opportunityId) {
+        onCompletion(() -> remainingSlots.remove(opportunityId), () -> { });
+    }
+
+    public int getRemainingSlots(Long opportunityId) {
+        return remainingSlots.computeIfAbsent(opportunityId, this::loadRemaining).get();
+    }
+
+    private AtomicInteger take(Long opportunityId, int slots) {
+        AtomicInteger remaining = remainingSlots.computeIfAbsent(opportunityId, this::loadRemaining);
+        if (tryTake(remaining, slots)) {
+            return remaining;
+        }
+        AtomicInteger reloaded = loadRemaining(opportunityId);
+        remainingSlots.put(opportunityId, reloaded);
+        if (!tryTake(reloaded, slots)) {
+            throw new IllegalStateException("No vacancies left for opportunity " + opportunityId);
+        }
+        return reloaded;
+    }
+
+    private static boolean tryTake(AtomicInteger remaining, int slots) {
+        int current;
+        do {
+            current = remaining.get();
+            if (current < slots) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current - slots));
+        return true;
+    }
+
+    private AtomicInteger loadRemaining(Long opportunityId) {
+        Integer remaining = opportunityRepository.findRemainingVacancies(opportunityId);
+        return new AtomicInteger(remaining == null ? 0 : Math.max(remaining, 0));
+    }
+
+    private static void onCompletion(Runnable afterCommit, Runnable afterRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    afterCommit.run();
+                } else {
+                    afterRollback.run();
+                }
+            }
+        });
+    }
+}
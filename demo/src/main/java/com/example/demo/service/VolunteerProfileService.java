@@ -1,11 +1,13 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.CacheNames;
 import com.example.demo.dto.CreateVolunteerProfileRequest;
 import com.example.demo.dto.UpdateVolunteerProfileRequest;
 import com.example.demo.dto.VolunteerProfileResponse;
 import com.example.demo.entity.Volunteer;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.VolunteerRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,12 +19,16 @@ import java.util.stream.Collectors;
 public class VolunteerProfileService {
 
     private final VolunteerRepository volunteerRepository;
+    private final VolunteerStatsService volunteerStatsService;
 
-    public VolunteerProfileService(VolunteerRepository volunteerRepository) {
+    public VolunteerProfileService(VolunteerRepository volunteerRepository,
+                                   VolunteerStatsService volunteerStatsService) {
         this.volunteerRepository = volunteerRepository;
+        this.volunteerStatsService = volunteerStatsService;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.RANKING, allEntries = true)
     public VolunteerProfileResponse createProfile(CreateVolunteerProfileRequest request) {
         if (volunteerRepository.existsByEmail(request.getEmail())) {
             throw new IllegalArgumentException("Email already exists: " + request.getEmail());
@@ -44,6 +50,7 @@ public class VolunteerProfileService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.RANKING, allEntries = true)
     public VolunteerProfileResponse updateProfile(Long volunteerId, UpdateVolunteerProfileRequest request) {
         Volunteer volunteer = volunteerRepository.findById(volunteerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Volunteer not found with id: " + volunteerId));
@@ -52,28 +59,17 @@ public class VolunteerProfileService {
             throw new IllegalArgumentException("No fields to update provided");
         }
 
-        if (request.getName() != null) {
-            volunteer.setName(request.getName());
-        }
-        if (request.getPhone() != null) {
-            volunteer.setPhone(request.getPhone());
-        }
-        if (request.getSkills() != null) {
-            volunteer.setSkills(request.getSkills());
-        }
-        if (request.getInterests() != null) {
-            volunteer.setInterests(request.getInterests());
-        }
-        if (request.getAvailability() != null) {
-            volunteer.setAvailability(request.getAvailability());
-        }
-        if (request.getBio() != null) {
-            volunteer.setBio(request.getBio());
-        }
+        boolean changed = PartialUpdate.apply(request.getName(), volunteer::getName, volunteer::setName)
+                | PartialUpdate.apply(request.getPhone(), volunteer::getPhone, volunteer::setPhone)
+                | PartialUpdate.apply(request.getSkills(), volunteer::getSkills, volunteer::setSkills)
+                | PartialUpdate.apply(request.getInterests(), volunteer::getInterests, volunteer::setInterests)
+                | PartialUpdate.apply(request.getAvailability(), volunteer::getAvailability, volunteer::setAvailability)
+                | PartialUpdate.apply(request.getBio(), volunteer::getBio, volunteer::setBio);
 
-        volunteer.setProfileUpdatedAt(LocalDateTime.now());
-        Volunteer updatedVolunteer = volunteerRepository.save(volunteer);
-        return VolunteerProfileResponse.fromEntity(updatedVolunteer);
+        if (changed) {
+            volunteer.setProfileUpdatedAt(LocalDateTime.now());
+        }
+        return VolunteerProfileResponse.fromEntity(volunteer);
     }
 
     @Transactional(readOnly = true)
@@ -119,10 +115,12 @@ public class VolunteerProfileService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.RANKING, allEntries = true)
     public void deleteProfile(Long volunteerId) {
         if (!volunteerRepository.existsById(volunteerId)) {
             throw new ResourceNotFoundException("Volunteer not found with id: " + volunteerId);
         }
+        volunteerStatsService.deleteStats(volunteerId);
         volunteerRepository.deleteById(volunteerId);
     }
 }
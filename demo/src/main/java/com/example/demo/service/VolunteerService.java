@@ -1,14 +1,21 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.CacheNames;
 import com.example.demo.dto.ApplicationResponse;
 import com.example.demo.dto.PointsHistoryResponse;
+import com.example.demo.dto.RankingEntryResponse;
 import com.example.demo.dto.VolunteerPointsResponse;
+import com.example.demo.dto.VolunteerRankResponse;
 import com.example.demo.dto.VolunteerResponse;
 import com.example.demo.entity.Application;
 import com.example.demo.entity.Volunteer;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.ranking.PointsRankIndex;
+import com.example.demo.ranking.RankingWindow;
+import com.example.demo.ranking.WindowedPointsRanking;
 import com.example.demo.repository.ApplicationRepository;
 import com.example.demo.repository.VolunteerRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,12 +26,19 @@ import java.util.stream.Collectors;
 @Service
 public class VolunteerService {
 
+    private static final int MAX_RANK_NEIGHBOURS = 10;
+
     private final VolunteerRepository volunteerRepository;
     private final ApplicationRepository applicationRepository;
+    private final WindowedPointsRanking windowedPointsRanking;
+    private final PointsRankIndex pointsRankIndex;
 
-    public VolunteerService(VolunteerRepository volunteerRepository, ApplicationRepository applicationRepository) {
+    public VolunteerService(VolunteerRepository volunteerRepository, ApplicationRepository applicationRepository,
+                            WindowedPointsRanking windowedPointsRanking, PointsRankIndex pointsRankIndex) {
         this.volunteerRepository = volunteerRepository;
         this.applicationRepository = applicationRepository;
+        this.windowedPointsRanking = windowedPointsRanking;
+        this.pointsRankIndex = pointsRankIndex;
     }
 
     @Transactional(readOnly = true)
@@ -64,6 +78,7 @@ public class VolunteerService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.RANKING, key = "'all'")
     public List<VolunteerPointsResponse> getVolunteersRanking() {
         return volunteerRepository.findAll().stream()
                 .sorted(Comparator.comparing(Volunteer::getTotalPoints).reversed())
@@ -72,6 +87,7 @@ public class VolunteerService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.RANKING, key = "'top:' + #limit")
     public List<VolunteerPointsResponse> getTopVolunteers(int limit) {
         return volunteerRepository.findAll().stream()
                 .sorted(Comparator.comparing(Volunteer::getTotalPoints).reversed())
@@ -80,6 +96,22 @@ public class VolunteerService {
                 .collect(Collectors.toList());
     }
 
+    /** Ranking by points earned within the window ({@code 7d}, {@code 30d}, {@code 90d}, {@code 365d} or {@code all}). */
+    public List<RankingEntryResponse> getVolunteersRanking(String window, Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return windowedPointsRanking.top(RankingWindow.fromParam(window), limit == null ? Integer.MAX_VALUE : limit);
+    }
+
+    public VolunteerRankResponse getVolunteerRank(Long volunteerId, int neighbours) {
+        if (neighbours < 0 || neighbours > MAX_RANK_NEIGHBOURS) {
+            throw new IllegalArgumentException("Neighbours must be between 0 and " + MAX_RANK_NEIGHBOURS);
+        }
+        return pointsRankIndex.rank(volunteerId, neighbours)
+                .orElseThrow(() -> new ResourceNotFoundException("Volunteer not found with id: " + volunteerId));
+    }
+
     @Transactional(readOnly = true)
     public List<ApplicationResponse> getConfirmedParticipations(Long volunteerId) {
         if (!volunteerRepository.existsById(volunteerId)) {
@@ -0,0 +1,39 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.ApplicationRepository;
+import com.example.demo.repository.RedemptionRepository;
+import com.example.demo.repository.VolunteerStatsRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Creates a volunteer's stats row from the aggregates, in the caller's transaction. The
+ * aggregates include the caller's own flushed changes, so a row created here needs no further
+ * increment. The insert is an upsert that leaves an existing row alone: a concurrent first
+ * insert makes it wait for the other transaction instead of failing, and no second pool
+ * connection is needed.
+ */
+@Component
+public class VolunteerStatsInitializer {
+
+    private final VolunteerStatsRepository volunteerStatsRepository;
+    private final ApplicationRepository applicationRepository;
+    private final RedemptionRepository redemptionRepository;
+
+    public VolunteerStatsInitializer(VolunteerStatsRepository volunteerStatsRepository,
+                                     ApplicationRepository applicationRepository,
+                                     RedemptionRepository redemptionRepository) {
+        this.volunteerStatsRepository = volunteerStatsRepository;
+        this.applicationRepository = applicationRepository;
+        this.redemptionRepository = redemptionRepository;
+    }
+
+    /** @return false if the row already existed, in which case it was left unchanged */
+    @Transactional
+    public boolean createIfAbsent(Long volunteerId) {
+        return volunteerStatsRepository.insertIfAbsent(volunteerId,
+                applicationRepository.sumPointsAwardedByVolunteerId(volunteerId).longValue(),
+                redemptionRepository.sumPointsSpentByVolunteerId(volunteerId).longValue(),
+                redemptionRepository.countCompletedByVolunteerId(volunteerId)) > 0;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.VolunteerSummaryResponse;
+import com.example.demo.entity.VolunteerStats;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.ApplicationRepository;
+import com.example.demo.repository.RedemptionRepository;
+import com.example.demo.repository.VolunteerRepository;
+import com.example.demo.repository.VolunteerStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps one counter row per volunteer so summaries are a primary-key read instead of
+ * SUM/COUNT aggregates. Counters are bumped inside the caller's transaction; rows are
+ * created lazily from the aggregates by {@link VolunteerStatsInitializer}, in the same
+ * transaction, and a scheduled job repairs any drift.
+ */
+@Slf4j
+@Service
+public class VolunteerStatsService {
+
+    private final VolunteerStatsRepository volunteerStatsRepository;
+    private final VolunteerRepository volunteerRepository;
+    private final VolunteerStatsInitializer volunteerStatsInitializer;
+    private final ApplicationRepository applicationRepository;
+    private final RedemptionRepository redemptionRepository;
+    private final boolean repairDrift;
+
+    public VolunteerStatsService(VolunteerStatsRepository volunteerStatsRepository,
+                                 VolunteerRepository volunteerRepository,
+                                 VolunteerStatsInitializer volunteerStatsInitializer,
+                                 ApplicationRepository applicationRepository,
+                                 RedemptionRepository redemptionRepository,
+                                 @Value("${app.volunteer-stats.repair-drift:true}") boolean repairDrift) {
+        this.volunteerStatsRepository = volunteerStatsRepository;
+        this.volunteerRepository = volunteerRepository;
+        this.volunteerStatsInitializer = volunteerStatsInitializer;
+        this.applicationRepository = applicationRepository;
+        this.redemptionRepository = redemptionRepository;
+        this.repairDrift = repairDrift;
+    }
+
+    @Transactional
+    public VolunteerSummaryResponse getSummary(Long volunteerId) {
+        VolunteerStats stats = volunteerStatsRepository.findById(volunteerId)
+                .orElseGet(() -> {
+                    if (!volunteerRepository.existsById(volunteerId)) {
+                        throw new ResourceNotFoundException("Volunteer not found with id: " + volunteerId);
+                    }
+                    volunteerStatsInitializer.createIfAbsent(volunteerId);
+                    return volunteerStatsRepository.findById(volunteerId).orElseThrow();
+                });
+        return VolunteerSummaryResponse.fromEntity(stats);
+    }
+
+    @Transactional
+    public void recordPointsEarned(Long volunteerId, int points) {
+        // A row created here already counts the caller's change; one created concurrently does not
+        if (volunteerStatsRepository.incrementPointsEarned(volunteerId, points) == 0
+                && !volunteerStatsInitializer.createIfAbsent(volunteerId)) {
+            volunteerStatsRepository.incrementPointsEarned(volunteerId, points);
+        }
+    }
+
+    @Transactional
+    public void recordRedemption(Long volunteerId, int pointsSpent) {
+        if (volunteerStatsRepository.incrementPointsSpent(volunteerId, pointsSpent) == 0
+                && !volunteerStatsInitializer.createIfAbsent(volunteerId)) {
+            volunteerStatsRepository.incrementPointsSpent(volunteerId, pointsSpent);
+        }
+    }
+
+    @Transactional
+    public void deleteStats(Long volunteerId) {
+        if (volunteerStatsRepository.existsById(volunteerId)) {
+            volunteerStatsRepository.deleteById(volunteerId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.volunteer-stats.reconcile-interval:PT10M}",
+            initialDelayString = "${app.volunteer-stats.reconcile-interval:PT10M}")
+    @Transactional
+    public int reconcile() {
+        // Counters are read before the aggregates and repaired only if their version is unchanged,
+        // so an increment committed in between is never overwritten with a stale value.
+        List<VolunteerStats> allStats = volunteerStatsRepository.findAll();
+
+        Map<Long, Long> earnedByVolunteer = new HashMap<>();
+        for (Object[] row : applicationRepository.sumPointsAwardedGroupedByVolunteer()) {
+            earnedByVolunteer.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        Map<Long, long[]> spentByVolunteer = new HashMap<>();
+        for (Object[] row : redemptionRepository.sumPointsSpentAndCountGroupedByVolunteer()) {
+            spentByVolunteer.put((Long) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+
+        int drifted = 0;
+        for (VolunteerStats stats : allStats) {
+            long earned = earnedByVolunteer.getOrDefault(stats.getVolunteerId(), 0L);
+            long[] spent = spentByVolunteer.getOrDefault(stats.getVolunteerId(), new long[]{0L, 0L});
+
+            if (stats.getPointsEarned() == earned && stats.getPointsSpent() == spent[0]
+                    && stats.getRedemptionCount() == spent[1]) {
+                continue;
+            }
+
+            drifted++;
+            log.warn("Volunteer {} stats drifted: earned {}/{}, spent {}/{}, redemptions {}/{}",
+                    stats.getVolunteerId(), stats.getPointsEarned(), earned,
+                    stats.getPointsSpent(), spent[0], stats.getRedemptionCount(), spent[1]);
+            if (repairDrift) {
+                volunteerStatsRepository.overwriteIfUnchanged(
+                        stats.getVolunteerId(), stats.getVersion(), earned, spent[0], spent[1]);
+            }
+        }
+        return drifted;
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.demo.snapshot;
+
+import com.example.demo.entity.OpportunityStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of the opportunity facet rows ({@code id, category, skills, duration, status}).
+ * Strings are stored once in a dictionary and rows as fixed-width columns of dictionary
+ * references, followed by a CRC32 of everything before it. Both directions go through a
+ * memory-mapped buffer; writes land in a temporary file that is then moved into place.
+ */
+@Slf4j
+public final class OpportunitySnapshotFile {
+
+    private static final int MAGIC = 0x4F505053;
+    private static final int VERSION = 1;
+    private static final long NO_WATERMARK = Long.MIN_VALUE;
+
+    private OpportunitySnapshotFile() {
+        // Utility class
+    }
+
+    public record Snapshot(LocalDateTime watermark, List<Object[]> rows) {
+    }
+
+    public static void write(Path path, LocalDateTime watermark, List<Object[]> rows) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[] categories = new int[rows.size()];
+        int[] statuses = new int[rows.size()];
+        int[][] skills = new int[rows.size()][];
+        int skillRefs = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            categories[i] = intern((String) row[1], dictionary, strings);
+            statuses[i] = intern(((OpportunityStatus) row[4]).name(), dictionary, strings);
+            List<String> tags = skillTags((String) row[2]);
+            skills[i] = new int[tags.size()];
+            for (int t = 0; t < tags.size(); t++) {
+                skills[i][t] = intern(tags.get(t), dictionary, strings);
+            }
+            skillRefs += tags.size();
+        }
+
+        long size = 4 + 4 + 8 + 4 + 4 + 4L;
+        for (byte[] string : strings) {
+            size += 4 + string.length;
+        }
+        size += rows.size() * (8L + 4 + 4 + 4 + 4) + skillRefs * 4L + 8;
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            if (watermark == null) {
+                buffer.putLong(NO_WATERMARK);
+                buffer.putInt(0);
+            } else {
+                buffer.putLong(watermark.toEpochSecond(ZoneOffset.UTC));
+                buffer.putInt(watermark.getNano());
+            }
+            buffer.putInt(rows.size());
+            buffer.putInt(strings.size());
+            for (byte[] string : strings) {
+                buffer.putInt(string.length);
+                buffer.put(string);
+            }
+            for (Object[] row : rows) {
+                buffer.putLong((Long) row[0]);
+            }
+            for (Object[] row : rows) {
+                buffer.putInt((Integer) row[3]);
+            }
+            for (int category : categories) {
+                buffer.putInt(category);
+            }
+            for (int status : statuses) {
+                buffer.putInt(status);
+            }
+            for (int[] rowSkills : skills) {
+                buffer.putInt(rowSkills.length);
+                for (int skill : rowSkills) {
+                    buffer.putInt(skill);
+                }
+            }
+            buffer.putLong(checksum(buffer, buffer.position()));
+            buffer.force();
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Returns the snapshot, or empty when the file is missing, truncated or fails its checksum. */
+    public static Optional<Snapshot> read(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                log.warn("Ignoring opportunity snapshot {} with an unknown format", path);
+                return Optional.empty();
+            }
+            long checksumOffset = buffer.limit() - 8L;
+            if (checksum(buffer, (int) checksumOffset) != buffer.getLong((int) checksumOffset)) {
+                log.warn("Ignoring corrupt opportunity snapshot {}", path);
+                return Optional.empty();
+            }
+
+            long seconds = buffer.getLong();
+            int nanos = buffer.getInt();
+            LocalDateTime watermark = seconds == NO_WATERMARK
+                    ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+            int rowCount = buffer.getInt();
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            long[] ids = new long[rowCount];
+            buffer.asLongBuffer().get(ids);
+            buffer.position(buffer.position() + rowCount * 8);
+            int[] durations = readInts(buffer, rowCount);
+            int[] categories = readInts(buffer, rowCount);
+            int[] statuses = readInts(buffer, rowCount);
+
+            List<Object[]> rows = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                StringBuilder skills = new StringBuilder();
+                int skillCount = buffer.getInt();
+                for (int t = 0; t < skillCount; t++) {
+                    if (t > 0) {
+                        skills.append(',');
+                    }
+                    skills.append(strings[buffer.getInt()]);
+                }
+                rows.add(new Object[]{ids[i], strings[categories[i]], skills.toString(), durations[i],
+                        OpportunityStatus.valueOf(strings[statuses[i]])});
+            }
+            return Optional.of(new Snapshot(watermark, rows));
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable opportunity snapshot {}: {}", path, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * 4);
+        return values;
+    }
+
+    private static long checksum(ByteBuffer buffer, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(length));
+        return crc.getValue();
+    }
+
+    private static int intern(String value, Map<String, Integer> dictionary, List<byte[]> strings) {
+        return dictionary.computeIfAbsent(value, key -> {
+            strings.add(key.getBytes(StandardCharsets.UTF_8));
+            return strings.size() - 1;
+        });
+    }
+
+    private static List<String> skillTags(String skills) {
+        List<String> tags = new ArrayList<>();
+        for (String segment : skills.split(",")) {
+            String tag = segment.trim();
+            if (!tag.isEmpty()) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.snapshot;
+
+import com.example.demo.repository.OpportunityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Supplies the opportunity facet rows the in-memory indexes are built from, as
+ * {@code id, category, skills, duration, status, updatedAt}. When a warm-start snapshot exists,
+ * its rows are validated against the database: rows deleted since are dropped and only rows
+ * updated after the snapshot watermark (or never stamped) are read again.
+ */
+@Slf4j
+@Component
+public class OpportunitySnapshotLoader {
+
+    private static final int FETCH_CHUNK_SIZE = 1000;
+
+    private final OpportunityRepository opportunityRepository;
+    private final boolean enabled;
+    private final Path path;
+    private final Duration replayMargin;
+
+    public OpportunitySnapshotLoader(OpportunityRepository opportunityRepository,
+                                     @Value("${app.snapshot.enabled:true}") boolean enabled,
+                                     @Value("${app.snapshot.path:${java.io.tmpdir}/voluntariado/opportunity-facets.snap}") Path path,
+                                     @Value("${app.snapshot.replay-margin:PT1M}") Duration replayMargin) {
+        this.opportunityRepository = opportunityRepository;
+        this.enabled = enabled;
+        this.path = path;
+        this.replayMargin = replayMargin;
+    }
+
+    public List<Object[]> loadFacetFields() {
+        Optional<OpportunitySnapshotFile.Snapshot> snapshot =
+                enabled ? OpportunitySnapshotFile.read(path) : Optional.empty();
+        if (snapshot.isEmpty()) {
+            return opportunityRepository.findFacetFields();
+        }
+        return replay(snapshot.get());
+    }
+
+    /** Current facet rows of the given opportunities; ids that no longer exist are absent. */
+    public List<Object[]> loadFacetFields(Collection<Long> ids) {
+        return opportunityRepository.findFacetFieldsByIdIn(ids);
+    }
+
+    private List<Object[]> replay(OpportunitySnapshotFile.Snapshot snapshot) {
+        Map<Long, Object[]> rows = new LinkedHashMap<>();
+        snapshot.rows().forEach(row -> rows.put((Long) row[0], row));
+
+        // The margin covers commits whose events were still in flight and clock skew between nodes
+        LocalDateTime since = snapshot.watermark() == null ? null : snapshot.watermark().minus(replayMargin);
+        Map<Long, LocalDateTime> live = new HashMap<>();
+        List<Long> stale = new ArrayList<>();
+        for (Object[] row : opportunityRepository.findIdsAndUpdatedAt()) {
+            Long id = (Long) row[0];
+            LocalDateTime updatedAt = (LocalDateTime) row[1];
+            live.put(id, updatedAt);
+            if (since == null || updatedAt == null || updatedAt.isAfter(since) || !rows.containsKey(id)) {
+                stale.add(id);
+            }
+        }
+        if (stale.size() > live.size() / 2) {
+            log.info("Opportunity snapshot {} is mostly out of date; loading from the database", path);
+            return opportunityRepository.findFacetFields();
+        }
+
+        int snapshotSize = rows.size();
+        rows.keySet().retainAll(live.keySet());
+        int dropped = snapshotSize - rows.size();
+        stale.forEach(rows::remove);
+        rows.replaceAll((id, row) -> withUpdatedAt(row, live.get(id)));
+        for (int from = 0; from < stale.size(); from += FETCH_CHUNK_SIZE) {
+            List<Long> chunk = stale.subList(from, Math.min(stale.size(), from + FETCH_CHUNK_SIZE));
+            opportunityRepository.findFacetFieldsByIdIn(chunk).forEach(row -> rows.put((Long) row[0], row));
+        }
+        log.info("Warm start from opportunity snapshot {}: {} rows reused, {} replayed, {} dropped",
+                path, rows.size() - stale.size(), stale.size(), dropped);
+        return new ArrayList<>(rows.values());
+    }
+
+    private static Object[] withUpdatedAt(Object[] row, LocalDateTime updatedAt) {
+        Object[] stamped = Arrays.copyOf(row, 6);
+        stamped[5] = updatedAt;
+        return stamped;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.snapshot;
+
+import com.example.demo.search.OpportunityFacetIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Persists the opportunity facet index to the warm-start snapshot at a fixed interval and on
+ * shutdown, stamped with the newest {@code updatedAt} the index has applied.
+ */
+@Slf4j
+@Component
+public class OpportunitySnapshotWriter {
+
+    private final OpportunityFacetIndex opportunityFacetIndex;
+    private final boolean enabled;
+    private final Path path;
+
+    public OpportunitySnapshotWriter(OpportunityFacetIndex opportunityFacetIndex,
+                                     @Value("${app.snapshot.enabled:true}") boolean enabled,
+                                     @Value("${app.snapshot.path:${java.io.tmpdir}/voluntariado/opportunity-facets.snap}") Path path) {
+        this.opportunityFacetIndex = opportunityFacetIndex;
+        this.enabled = enabled;
+        this.path = path;
+    }
+
+    @Scheduled(fixedDelayString = "${app.snapshot.interval:PT5M}",
+            initialDelayString = "${app.snapshot.interval:PT5M}")
+    public void writeSnapshot() {
+        if (!enabled) {
+            return;
+        }
+        Optional<OpportunitySnapshotFile.Snapshot> snapshot = opportunityFacetIndex.exportSnapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        try {
+            OpportunitySnapshotFile.write(path, snapshot.get().watermark(), snapshot.get().rows());
+            log.debug("Wrote opportunity snapshot {} with {} rows", path, snapshot.get().rows().size());
+        } catch (IOException e) {
+            log.warn("Could not write opportunity snapshot {}", path, e);
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        try {
+            writeSnapshot();
+        } catch (RuntimeException e) {
+            log.warn("Skipping opportunity snapshot on shutdown", e);
+        }
+    }
+}
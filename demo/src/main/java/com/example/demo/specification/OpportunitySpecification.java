@@ -3,8 +3,13 @@ package com.example.demo.specification;
 import com.example.demo.entity.Opportunity;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Locale;
+
 public class OpportunitySpecification {
 
+    /** Escape character for {@link #containsPattern(String)}; SQL callers add {@code ESCAPE '\'}. */
+    public static final char LIKE_ESCAPE = '\\';
+
     private OpportunitySpecification() {
         // Utility class
     }
@@ -28,11 +33,24 @@ public class OpportunitySpecification {
             }
             return criteriaBuilder.like(
                 criteriaBuilder.lower(root.get("skills")),
-                "%" + skills.toLowerCase().trim() + "%"
+                containsPattern(skills),
+                LIKE_ESCAPE
             );
         };
     }
 
+    /**
+     * LIKE pattern matching the trimmed, lower-cased text anywhere in a value. Wildcards in the
+     * text are escaped, so % and _ match themselves, as they do in the in-memory skill filter.
+     */
+    public static String containsPattern(String text) {
+        String literal = text.toLowerCase(Locale.ROOT).trim()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + literal + "%";
+    }
+
     public static Specification<Opportunity> hasDurationBetween(Integer minDuration, Integer maxDuration) {
         return (root, query, criteriaBuilder) -> {
             if (minDuration == null && maxDuration == null) {
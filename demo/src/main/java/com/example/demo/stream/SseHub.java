@@ -0,0 +1,92 @@
+package com.example.demo.stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fans domain events out to Server-Sent Event subscribers grouped by topic.
+ * Idle connections hold no request thread, only an emitter in the topic map.
+ */
+@Component
+public class SseHub {
+
+    private final Map<String, Set<SseEmitter>> topics = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    public SseHub(@Value("${app.stream.timeout:30m}") Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public static String volunteerTopic(Long volunteerId) {
+        return "volunteer:" + volunteerId;
+    }
+
+    public static String promoterTopic(Long promoterId) {
+        return "promoter:" + promoterId;
+    }
+
+    public SseEmitter subscribe(String topic) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Set<SseEmitter> subscribers = topics.computeIfAbsent(topic, t -> ConcurrentHashMap.newKeySet());
+        subscribers.add(emitter);
+
+        Runnable remove = () -> unsubscribe(topic, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        try {
+            emitter.send(SseEmitter.event().name("connected").data(topic));
+        } catch (IOException e) {
+            remove.run();
+        }
+        return emitter;
+    }
+
+    public void publish(String topic, String eventName, Object payload) {
+        Set<SseEmitter> subscribers = topics.get(topic);
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(payload));
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(topic, emitter);
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        topics.forEach((topic, subscribers) -> {
+            for (SseEmitter emitter : subscribers) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(topic, emitter);
+                }
+            }
+        });
+    }
+
+    public int getSubscriberCount(String topic) {
+        Set<SseEmitter> subscribers = topics.get(topic);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    private void unsubscribe(String topic, SseEmitter emitter) {
+        topics.computeIfPresent(topic, (t, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
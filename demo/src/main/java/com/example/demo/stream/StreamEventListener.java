@@ -0,0 +1,31 @@
+package com.example.demo.stream;
+
+import com.example.demo.event.ApplicationStatusChangedEvent;
+import com.example.demo.event.PointsCreditedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class StreamEventListener {
+
+    public static final String APPLICATION_STATUS = "application-status";
+    public static final String POINTS_CREDITED = "points-credited";
+
+    private final SseHub sseHub;
+
+    public StreamEventListener(SseHub sseHub) {
+        this.sseHub = sseHub;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        sseHub.publish(SseHub.volunteerTopic(event.volunteerId()), APPLICATION_STATUS, event);
+        sseHub.publish(SseHub.promoterTopic(event.promoterId()), APPLICATION_STATUS, event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsCredited(PointsCreditedEvent event) {
+        sseHub.publish(SseHub.volunteerTopic(event.volunteerId()), POINTS_CREDITED, event);
+    }
+}
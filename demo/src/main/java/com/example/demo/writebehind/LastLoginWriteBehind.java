@@ -0,0 +1,86 @@
+package com.example.demo.writebehind;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buffers users' last login times and writes them in one batched UPDATE every flush interval
+ * and on shutdown, so a login does not need a write transaction. Only the latest time per user
+ * is kept, and an update never moves a stored time backwards. A failed flush keeps its entries
+ * for the next one; a crash loses at most one interval of login times.
+ */
+@Slf4j
+@Component
+public class LastLoginWriteBehind {
+
+    static final String UPDATE_SQL = "UPDATE users SET last_login_at = ? WHERE id = ? "
+            + "AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginWriteBehind(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void touch(Long userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, LastLoginWriteBehind::latest);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.last-login.flush-interval:PT5S}",
+            initialDelayString = "${app.last-login.flush-interval:PT5S}")
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        // Removing entry by entry lets a login that races the flush stay queued for the next one
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.put(userId, loginAt);
+            }
+        }
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        batch.forEach((userId, loginAt) -> {
+            Timestamp timestamp = Timestamp.valueOf(loginAt);
+            rows.add(new Object[]{timestamp, userId, timestamp});
+        });
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+        } catch (DataAccessException e) {
+            batch.forEach(this::touch);
+            log.warn("Could not write {} last login times, will retry: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+        return rows.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int written = flush();
+        if (written > 0) {
+            log.info("Wrote {} buffered last login times on shutdown", written);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -10,6 +10,13 @@ document.addEventListener('DOMContentLoaded', () => {
 function setupEventListeners() {
     document.getElementById('loadApplications').addEventListener('click', loadApplications);
     document.getElementById('statusFilter').addEventListener('change', filterApplications);
+    document.getElementById('selectAllPending').addEventListener('change', (e) => {
+        document.querySelectorAll('.bulk-select').forEach(checkbox => {
+            checkbox.checked = e.target.checked;
+        });
+    });
+    document.getElementById('acceptSelected').addEventListener('click', () => updateSelectedStatuses('ACCEPTED'));
+    document.getElementById('rejectSelected').addEventListener('click', () => updateSelectedStatuses('REJECTED'));
 }
 
 async function loadPromoters() {
@@ -99,6 +106,10 @@ function filterApplications() {
 
     displayApplications(filtered);
     updateResultsInfo(filtered.length, allApplications.length);
+
+    const hasPending = filtered.some(app => app.status === 'PENDING');
+    document.getElementById('bulkActions').style.display = hasPending ? 'flex' : 'none';
+    document.getElementById('selectAllPending').checked = false;
 }
 
 function updateResultsInfo(shown, total) {
@@ -156,6 +167,7 @@ function displayApplications(applications) {
                 </span>
                 ${application.status === 'PENDING' ? `
                     <div class="application-actions">
+                        <input type="checkbox" class="bulk-select" value="${application.id}" title="Selecionar">
                         <button class="btn btn-secondary" onclick="updateApplicationStatus(${application.id}, 'ACCEPTED')">
                             Aceitar
                         </button>
@@ -188,6 +200,47 @@ async function updateApplicationStatus(applicationId, newStatus) {
     }
 }
 
+async function updateSelectedStatuses(newStatus) {
+    const promoterId = document.getElementById('promoterSelect').value;
+    const updates = Array.from(document.querySelectorAll('.bulk-select:checked'))
+        .map(checkbox => ({ applicationId: Number(checkbox.value), status: newStatus }));
+
+    if (updates.length === 0) {
+        showMessage('Selecione pelo menos uma candidatura.', 'error');
+        return;
+    }
+
+    try {
+        // One request for the whole selection instead of one PATCH per application
+        const response = await fetch(`${API_BASE_URL}/applications/status:batch`, {
+            method: 'PATCH',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ promoterId: Number(promoterId), updates })
+        });
+
+        if (!response.ok) {
+            const error = await response.json().catch(() => ({}));
+            throw new Error(error.message || 'Erro ao atualizar status');
+        }
+
+        const result = await response.json();
+        const verb = newStatus === 'ACCEPTED' ? 'aceites' : 'rejeitadas';
+        showMessage(`${result.updated} candidaturas ${verb} com sucesso!`, 'success');
+
+        const targetIds = new Set(updates.map(update => update.applicationId));
+        allApplications.forEach(app => {
+            if (targetIds.has(app.id)) {
+                app.status = newStatus;
+            }
+        });
+        filterApplications();
+
+    } catch (error) {
+        console.error('Error updating application statuses:', error);
+        showMessage(`Erro ao atualizar candidaturas: ${error.message}`, 'error');
+    }
+}
+
 function getStatusText(status) {
     const statusMap = {
         'PENDING': 'Pendente',
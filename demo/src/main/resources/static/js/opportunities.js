@@ -74,13 +74,19 @@ async function loadOpportunities() {
         messageContainer.innerHTML = '';
         resultsInfo.innerHTML = '';
 
-        const response = await fetch(`${API_BASE_URL}/opportunities`);
+        const [response, facetsResponse] = await Promise.all([
+            fetch(`${API_BASE_URL}/opportunities`),
+            fetch(`${API_BASE_URL}/opportunities/facets`)
+        ]);
 
         if (!response.ok) {
             throw new Error('Erro ao carregar oportunidades');
         }
 
         allOpportunities = await response.json();
+        if (facetsResponse.ok) {
+            renderCategoryFacets(await facetsResponse.json());
+        }
 
         // Extract unique promoters
         allPromoters.clear();
@@ -106,6 +112,24 @@ async function loadOpportunities() {
     }
 }
 
+function renderCategoryFacets(facets) {
+    const filterCategory = document.getElementById('filterCategory');
+    const selected = filterCategory.value;
+
+    while (filterCategory.options.length > 1) {
+        filterCategory.remove(1);
+    }
+
+    Object.entries(facets.categories).forEach(([category, count]) => {
+        const option = document.createElement('option');
+        option.value = category;
+        option.textContent = `${category} (${count})`;
+        filterCategory.appendChild(option);
+    });
+
+    filterCategory.value = selected;
+}
+
 function populatePromoterFilter() {
     const filterPromoter = document.getElementById('filterPromoter');
 
@@ -156,14 +180,17 @@ async function applyFilters() {
         if (minDuration) params.append('minDuration', minDuration);
         if (maxDuration) params.append('maxDuration', maxDuration);
 
-        const url = `${API_BASE_URL}/opportunities/filter?${params.toString()}`;
+        // Search returns the facet counts with the results, so no separate categories request is needed
+        const url = `${API_BASE_URL}/opportunities/search?${params.toString()}`;
         const response = await fetch(url);
 
         if (!response.ok) {
             throw new Error('Erro ao filtrar oportunidades');
         }
 
-        let filteredOpportunities = await response.json();
+        const searchResult = await response.json();
+        renderCategoryFacets(searchResult.facets);
+        let filteredOpportunities = searchResult.results;
 
         // Apply promoter filter client-side (since API doesn't support it in filter endpoint)
         if (promoterId) {
@@ -1,5 +1,7 @@
 const API_BASE_URL = '/api';
 
+let applicationKey = null;
+
 document.addEventListener('DOMContentLoaded', () => {
     loadOpportunityDetails();
     setupEventListeners();
@@ -87,6 +89,7 @@ function displayOpportunityDetails(opportunity) {
 }
 
 function handleApply() {
+    applicationKey = newIdempotencyKey();
     const modal = document.getElementById('applyModal');
     modal.style.display = 'flex';
 }
@@ -120,7 +123,8 @@ async function submitApplication(event) {
         const response = await fetch(`${API_BASE_URL}/applications`, {
             method: 'POST',
             headers: {
-                'Content-Type': 'application/json'
+                'Content-Type': 'application/json',
+                'Idempotency-Key': applicationKey
             },
             body: JSON.stringify(applicationData)
         });
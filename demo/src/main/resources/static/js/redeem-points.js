@@ -3,6 +3,7 @@ const API_BASE_URL = '/api';
 let currentVolunteer = null;
 let allBenefits = [];
 let pendingRedeemBenefitId = null;
+let pendingRedeemKey = null;
 
 document.addEventListener('DOMContentLoaded', () => {
     setupEventListeners();
@@ -91,13 +92,11 @@ async function loadRedeemPage() {
 
 async function loadStatistics() {
     try {
-        const [totalSpentResponse, countResponse] = await Promise.all([
-            fetch(`${API_BASE_URL}/redemptions/volunteer/${currentVolunteer.id}/total-spent`),
-            fetch(`${API_BASE_URL}/redemptions/volunteer/${currentVolunteer.id}/count`)
-        ]);
+        const summaryResponse = await fetch(`${API_BASE_URL}/volunteers/${currentVolunteer.id}/summary`);
+        const summary = summaryResponse.ok ? await summaryResponse.json() : null;
 
-        const totalSpent = totalSpentResponse.ok ? await totalSpentResponse.json() : 0;
-        const totalCount = countResponse.ok ? await countResponse.json() : 0;
+        const totalSpent = summary ? summary.pointsSpent : 0;
+        const totalCount = summary ? summary.redemptionCount : 0;
 
         const volunteerPoints = currentVolunteer.totalPoints || 0;
         const affordableCount = allBenefits.filter(b => b.pointsRequired <= volunteerPoints).length;
@@ -169,6 +168,7 @@ function displayBenefits() {
 
 function openRedeemModal(benefitId, benefitName, pointsRequired) {
     pendingRedeemBenefitId = benefitId;
+    pendingRedeemKey = newIdempotencyKey();
     const modal = document.getElementById('confirmModal');
     const message = document.getElementById('confirmMessage');
 
@@ -179,6 +179,7 @@ function openRedeemModal(benefitId, benefitName, pointsRequired) {
 
 function closeModal() {
     pendingRedeemBenefitId = null;
+    pendingRedeemKey = null;
     document.getElementById('confirmModal').classList.remove('active');
 }
 
@@ -195,7 +196,8 @@ async function confirmRedeem() {
         const response = await fetch(`${API_BASE_URL}/redemptions`, {
             method: 'POST',
             headers: {
-                'Content-Type': 'application/json'
+                'Content-Type': 'application/json',
+                'Idempotency-Key': pendingRedeemKey
             },
             body: JSON.stringify({
                 volunteerId: currentVolunteer.id,
@@ -2,6 +2,7 @@ const API_BASE_URL = '/api';
 
 let allApplications = [];
 let currentVolunteer = null;
+let applicationStream = null;
 
 document.addEventListener('DOMContentLoaded', () => {
     setupEventListeners();
@@ -86,6 +87,7 @@ async function loadVolunteerApplications() {
         statusSummary.style.display = 'flex';
 
         filterApplications();
+        subscribeToApplicationUpdates();
 
     } catch (error) {
         console.error('Error loading applications:', error);
@@ -99,6 +101,37 @@ async function loadVolunteerApplications() {
     }
 }
 
+function subscribeToApplicationUpdates() {
+    if (applicationStream) {
+        applicationStream.close();
+    }
+    if (!window.EventSource) {
+        return;
+    }
+
+    // Receive only the applications that changed instead of polling the full list
+    applicationStream = new EventSource(`${API_BASE_URL}/stream/volunteers/${currentVolunteer.id}`);
+    applicationStream.addEventListener('application-status', (event) => {
+        const change = JSON.parse(event.data);
+        const application = allApplications.find(app => app.id === change.applicationId);
+
+        if (application) {
+            application.status = change.status;
+        } else {
+            allApplications.unshift({
+                id: change.applicationId,
+                opportunityId: change.opportunityId,
+                opportunityTitle: change.opportunityTitle,
+                status: change.status,
+                appliedAt: new Date().toISOString()
+            });
+        }
+
+        updateStatusSummary();
+        filterApplications();
+    });
+}
+
 function updateStatusSummary() {
     const pending = allApplications.filter(app => app.status === 'PENDING').length;
     const accepted = allApplications.filter(app => app.status === 'ACCEPTED').length;
@@ -2,6 +2,7 @@ const API_BASE_URL = '/api';
 
 let currentVolunteer = null;
 let confirmedParticipations = [];
+let pointsStream = null;
 
 document.addEventListener('DOMContentLoaded', () => {
     setupEventListeners();
@@ -86,6 +87,8 @@ async function loadVolunteerPoints() {
         // Show content
         pointsContent.style.display = 'block';
 
+        subscribeToPointsUpdates();
+
     } catch (error) {
         console.error('Error loading points:', error);
         showMessage('Erro ao carregar informacoes. Por favor, tente novamente.', 'error');
@@ -94,6 +97,37 @@ async function loadVolunteerPoints() {
     }
 }
 
+function subscribeToPointsUpdates() {
+    if (pointsStream) {
+        pointsStream.close();
+    }
+    if (!window.EventSource) {
+        return;
+    }
+
+    // Apply credited points as they happen instead of reloading everything
+    pointsStream = new EventSource(`${API_BASE_URL}/stream/volunteers/${currentVolunteer.id}`);
+    pointsStream.addEventListener('points-credited', (event) => {
+        const credit = JSON.parse(event.data);
+
+        currentVolunteer.totalPoints = credit.totalPoints;
+        document.getElementById('totalPoints').textContent = credit.totalPoints;
+
+        if (!confirmedParticipations.some(p => p.id === credit.applicationId)) {
+            confirmedParticipations.unshift({
+                id: credit.applicationId,
+                opportunityTitle: credit.opportunityTitle,
+                pointsAwarded: credit.pointsAwarded,
+                confirmedAt: credit.confirmedAt
+            });
+        }
+
+        updateStatistics();
+        displayParticipations();
+        loadRankingPosition();
+    });
+}
+
 function updateStatistics() {
     const participationsCount = confirmedParticipations.length;
     const totalPoints = currentVolunteer.totalPoints || 0;
@@ -105,17 +139,15 @@ function updateStatistics() {
 
 async function loadRankingPosition() {
     try {
-        const rankingResponse = await fetch(`${API_BASE_URL}/volunteers/ranking`);
+        const rankResponse = await fetch(`${API_BASE_URL}/volunteers/${currentVolunteer.id}/rank?neighbours=0`);
 
-        if (rankingResponse.ok) {
-            const ranking = await rankingResponse.json();
-            const position = ranking.findIndex(v => v.id === currentVolunteer.id) + 1;
+        if (rankResponse.ok) {
+            const rank = await rankResponse.json();
+            const topPercent = Math.max(1, Math.ceil(rank.rank * 100 / rank.totalVolunteers));
 
-            if (position > 0) {
-                const rankingPositionEl = document.getElementById('rankingPosition');
-                rankingPositionEl.textContent = `#${position} no Ranking`;
-                rankingPositionEl.style.display = 'block';
-            }
+            const rankingPositionEl = document.getElementById('rankingPosition');
+            rankingPositionEl.textContent = `#${rank.rank.toLocaleString('pt-PT')} no Ranking (top ${topPercent}%)`;
+            rankingPositionEl.style.display = 'block';
         }
     } catch (error) {
         console.error('Error loading ranking position:', error);
@@ -0,0 +1,75 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.entity.OpportunityStatus;
+import com.example.demo.snapshot.OpportunitySnapshotLoader;
+import com.example.demo.search.OpportunityColumnStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Scan latency of the opportunity column store over 100k rows for the filter shapes the
+ * opportunities page sends. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Opportunity Filter Benchmark")
+class OpportunityFilterBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1000;
+    private static final String[] CATEGORIES = {"Environment", "Social", "Education", "Health", "Animals"};
+    private static final String[] SKILLS = {"teamwork", "communication", "first aid", "driving", "cooking",
+            "java", "photography", "translation", "gardening", "teaching"};
+
+    @Test
+    @DisplayName("Filter 100k opportunities from primitive columns")
+    void filterFromColumns() {
+        OpportunitySnapshotLoader loader = mock(OpportunitySnapshotLoader.class);
+        when(loader.loadFacetFields()).thenReturn(rows());
+        OpportunityColumnStore store = new OpportunityColumnStore(loader);
+        store.reload();
+
+        System.out.printf("%n%-40s %10s %12s%n", "filter", "matches", "us/op");
+        measure("category", store, "Environment", null, null, null);
+        measure("duration 5-20", store, null, null, 5, 20);
+        measure("skill substring", store, null, "aid", null, null);
+        measure("category + skill + duration", store, "Health", "teach", 2, 10);
+    }
+
+    private static void measure(String label, OpportunityColumnStore store,
+                                String category, String skills, Integer min, Integer max) {
+        int matches = store.filter(category, skills, min, max).length;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            store.filter(category, skills, min, max);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            store.filter(category, skills, min, max);
+        }
+        double micros = (System.nanoTime() - start) / 1000.0 / MEASURED_ITERATIONS;
+
+        System.out.printf("%-40s %10d %12.1f%n", label, matches, micros);
+        assertThat(matches).isPositive();
+    }
+
+    private static List<Object[]> rows() {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (long id = 1; id <= ROWS; id++) {
+            String skills = SKILLS[random.nextInt(SKILLS.length)] + ", " + SKILLS[random.nextInt(SKILLS.length)];
+            rows.add(new Object[]{id, CATEGORIES[random.nextInt(CATEGORIES.length)], skills,
+                    1 + random.nextInt(60), OpportunityStatus.OPEN});
+        }
+        return rows;
+    }
+}
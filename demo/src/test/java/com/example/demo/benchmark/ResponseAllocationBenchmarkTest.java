@@ -0,0 +1,130 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.JacksonConfig;
+import com.example.demo.dto.OpportunityResponse;
+import com.example.demo.entity.Opportunity;
+import com.example.demo.entity.OpportunityStatus;
+import com.example.demo.entity.Promoter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes allocated per GET /api/opportunities response of 10k rows: the previous entity to DTO
+ * mapping with the stock mapper, DTOs built by the query, and those DTOs through the tuned
+ * mapper from {@link JacksonConfig}. Output goes to a discarding stream, as the converters write
+ * straight to the socket. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Response Allocation Benchmark")
+class ResponseAllocationBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 100;
+    // Unlike OutputStream.nullOutputStream() this survives the close at the end of each write
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("Compare bytes allocated per opportunity list response")
+    void compareAllocationPerResponse() throws IOException {
+        List<Opportunity> entities = entities();
+        List<OpportunityResponse> projected = entities.stream()
+                .map(OpportunityResponse::fromEntity)
+                .collect(Collectors.toList());
+        ObjectWriter stock = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(List.class);
+        ObjectWriter tuned = tunedMapper().writerFor(List.class);
+
+        System.out.printf("%n%-40s %14s %12s%n", "path", "bytes/response", "bytes/row");
+        long mapped = measure("entities -> fromEntity -> stock mapper", () -> stock.writeValue(DISCARD,
+                entities.stream().map(OpportunityResponse::fromEntity).collect(Collectors.toList())));
+        long projectedStock = measure("projected DTOs -> stock mapper", () -> stock.writeValue(DISCARD, projected));
+        long projectedTuned = measure("projected DTOs -> tuned mapper", () -> tuned.writeValue(DISCARD, projected));
+
+        assertThat(projectedStock).isLessThan(mapped);
+        assertThat(projectedTuned).isLessThan(projectedStock);
+        assertThat(tuned.writeValueAsString(projected.subList(0, 100)))
+                .isEqualTo(stock.writeValueAsString(projected.subList(0, 100)));
+    }
+
+    private long measure(String path, Action action) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            action.run();
+        }
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            action.run();
+        }
+        long perResponse = (threads.getThreadAllocatedBytes(thread) - before) / MEASURED_ITERATIONS;
+        System.out.printf("%-40s %14d %12d%n", path, perResponse, perResponse / ROWS);
+        return perResponse;
+    }
+
+    private static ObjectMapper tunedMapper() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new JacksonConfig().responseSerializationCustomizer().customize(builder);
+        return builder.build();
+    }
+
+    private static List<Opportunity> entities() {
+        Promoter promoter = new Promoter();
+        promoter.setId(1L);
+        promoter.setName("Promoter");
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 12, 30, 5, 123_000_000);
+        List<Opportunity> list = new ArrayList<>();
+        for (long i = 1; i <= ROWS; i++) {
+            Opportunity opportunity = new Opportunity();
+            opportunity.setId(i);
+            opportunity.setTitle("Opportunity " + i);
+            opportunity.setDescription("Help the local community with activity " + i);
+            opportunity.setSkills("communication, teamwork");
+            opportunity.setCategory(i % 2 == 0 ? "Environment" : "Social");
+            opportunity.setDuration(4);
+            opportunity.setVacancies(10);
+            opportunity.setPoints(50);
+            opportunity.setPromoter(promoter);
+            opportunity.setCreatedAt(createdAt.plusMinutes(i));
+            opportunity.setStatus(i % 5 == 0 ? OpportunityStatus.CONCLUDED : OpportunityStatus.OPEN);
+            opportunity.setConcludedAt(i % 5 == 0 ? createdAt.plusDays(7) : null);
+            list.add(opportunity);
+        }
+        return list;
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run() throws IOException;
+    }
+}
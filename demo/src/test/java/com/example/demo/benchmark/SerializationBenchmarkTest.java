@@ -0,0 +1,175 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.BenefitRedemptionDetailResponse;
+import com.example.demo.dto.OpportunityResponse;
+import com.example.demo.dto.PartnerRedemptionStatsResponse;
+import com.example.demo.dto.RedemptionResponse;
+import com.example.demo.dto.VolunteerProfileResponse;
+import com.example.demo.entity.OpportunityStatus;
+import com.example.demo.entity.Redemption;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares bytes on the wire and serialization CPU for JSON vs CBOR, with and
+ * without gzip, for the largest list payloads. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Serialization Benchmark")
+class SerializationBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 300;
+    private static final int MEASURED_ITERATIONS = 1000;
+
+    private final ObjectMapper json = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper cbor = CBORMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    @DisplayName("Compare JSON and CBOR payloads per endpoint")
+    void compareRepresentations() throws IOException {
+        System.out.printf("%n%-36s %-5s %10s %10s %12s %12s%n",
+                "endpoint", "fmt", "bytes", "gzip", "ser us/op", "gzip us/op");
+
+        assertSmallerAsCbor("/api/opportunities", opportunities(200));
+        assertSmallerAsCbor("/api/volunteers/profiles", profiles(200));
+        assertSmallerAsCbor("/api/redemptions/partner/{p}/stats", partnerStats(50));
+    }
+
+    private void assertSmallerAsCbor(String endpoint, Object payload) throws IOException {
+        Result jsonResult = measure(json, payload);
+        Result cborResult = measure(cbor, payload);
+        print(endpoint, "json", jsonResult);
+        print(endpoint, "cbor", cborResult);
+
+        assertThat(cborResult.bytes).isLessThan(jsonResult.bytes);
+        assertThat(jsonResult.gzipBytes).isLessThan(jsonResult.bytes);
+    }
+
+    private Result measure(ObjectMapper mapper, Object payload) throws IOException {
+        byte[] body = mapper.writeValueAsBytes(payload);
+        byte[] compressed = gzip(body);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            gzip(mapper.writeValueAsBytes(payload));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.writeValueAsBytes(payload);
+        }
+        long serializeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            gzip(body);
+        }
+        long gzipNanos = System.nanoTime() - start;
+
+        return new Result(body.length, compressed.length,
+                serializeNanos / 1000.0 / MEASURED_ITERATIONS,
+                gzipNanos / 1000.0 / MEASURED_ITERATIONS);
+    }
+
+    private static void print(String endpoint, String format, Result result) {
+        System.out.printf("%-36s %-5s %10d %10d %12.1f %12.1f%n",
+                endpoint, format, result.bytes, result.gzipBytes, result.serializeMicros, result.gzipMicros);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<OpportunityResponse> opportunities(int count) {
+        List<OpportunityResponse> list = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            OpportunityResponse response = new OpportunityResponse();
+            response.setId(i);
+            response.setTitle("Opportunity " + i);
+            response.setDescription(("Help the local community with activity " + i + ". ").repeat(20));
+            response.setSkills("communication, teamwork, organisation");
+            response.setCategory(i % 2 == 0 ? "Environment" : "Social");
+            response.setDuration(4);
+            response.setVacancies(10);
+            response.setPoints(50);
+            response.setPromoterId(i % 10);
+            response.setPromoterName("Promoter " + i % 10);
+            response.setCreatedAt(LocalDateTime.now());
+            response.setStatus(OpportunityStatus.OPEN);
+            list.add(response);
+        }
+        return list;
+    }
+
+    private static List<VolunteerProfileResponse> profiles(int count) {
+        List<VolunteerProfileResponse> list = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            VolunteerProfileResponse response = new VolunteerProfileResponse();
+            response.setId(i);
+            response.setName("Volunteer " + i);
+            response.setEmail("volunteer" + i + "@example.com");
+            response.setPhone("912345678");
+            response.setSkills("first aid, driving, cooking");
+            response.setInterests("environment, animals");
+            response.setAvailability("weekends");
+            response.setBio(("Volunteer number " + i + " likes helping. ").repeat(10));
+            response.setTotalPoints((int) i * 10);
+            response.setProfileCreatedAt(LocalDateTime.now());
+            response.setProfileUpdatedAt(LocalDateTime.now());
+            list.add(response);
+        }
+        return list;
+    }
+
+    private static PartnerRedemptionStatsResponse partnerStats(int benefits) {
+        List<BenefitRedemptionDetailResponse> details = new ArrayList<>();
+        List<RedemptionResponse> recent = new ArrayList<>();
+        for (long i = 1; i <= benefits; i++) {
+            details.add(new BenefitRedemptionDetailResponse(i, "Benefit " + i,
+                    "Discount voucher for partner store " + i, 100, "Partner", true, i * 3, i * 300));
+
+            RedemptionResponse redemption = new RedemptionResponse();
+            redemption.setId(i);
+            redemption.setVolunteerId(i);
+            redemption.setVolunteerName("Volunteer " + i);
+            redemption.setVolunteerEmail("volunteer" + i + "@example.com");
+            redemption.setBenefitId(i);
+            redemption.setBenefitName("Benefit " + i);
+            redemption.setBenefitDescription("Discount voucher for partner store " + i);
+            redemption.setBenefitProvider("Partner");
+            redemption.setPointsSpent(100);
+            redemption.setStatus(Redemption.RedemptionStatus.COMPLETED);
+            redemption.setRedeemedAt(LocalDateTime.now());
+            redemption.setRemainingPoints(50);
+            recent.add(redemption);
+        }
+        return new PartnerRedemptionStatsResponse("Partner", benefits, (long) benefits * 3,
+                (long) benefits * 300, details, recent);
+    }
+
+    private record Result(int bytes, int gzipBytes, double serializeMicros, double gzipMicros) {
+    }
+}
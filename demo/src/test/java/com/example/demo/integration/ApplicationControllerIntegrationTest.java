@@ -3,6 +3,8 @@ package com.example.demo.integration;
 import com.example.demo.dto.*;
 import com.example.demo.entity.*;
 import com.example.demo.repository.*;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -34,6 +36,9 @@ class ApplicationControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private RedemptionRepository redemptionRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Promoter promoter;
     private Opportunity opportunity;
 
@@ -198,6 +203,30 @@ class ApplicationControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).hasSize(1);
         }
+
+        @Test
+        @DisplayName("Should reflect volunteer and opportunity changes in application listings")
+        void shouldReflectRelatedChangesInListings() {
+            Application application = createAndSaveApplication("renamed@test.com");
+
+            Volunteer volunteer = volunteerRepository.findById(application.getVolunteer().getId()).orElseThrow();
+            volunteer.setName("Renamed Volunteer");
+            volunteerRepository.save(volunteer);
+            opportunity.setTitle("Renamed Opportunity");
+            opportunity = opportunityRepository.save(opportunity);
+
+            ResponseEntity<List<ApplicationResponse>> response = restTemplate.exchange(
+                    "/api/applications/promoter/" + promoter.getId(),
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<List<ApplicationResponse>>() {});
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).singleElement().satisfies(listed -> {
+                assertThat(listed.getVolunteerName()).isEqualTo("Renamed Volunteer");
+                assertThat(listed.getOpportunityTitle()).isEqualTo("Renamed Opportunity");
+            });
+        }
     }
 
     @Nested
@@ -223,6 +252,32 @@ class ApplicationControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(updated.getStatus()).isEqualTo(ApplicationStatus.ACCEPTED);
         }
 
+        @Test
+        @DisplayName("Should evict only the accepted opportunity from the entity cache")
+        void shouldEvictOnlyAcceptedOpportunity() {
+            Opportunity other = new Opportunity();
+            other.setTitle("Other Opportunity");
+            other.setDescription("Description");
+            other.setSkills("Java");
+            other.setCategory("Tech");
+            other.setDuration(4);
+            other.setVacancies(5);
+            other.setPoints(100);
+            other.setPromoter(promoter);
+            other = opportunityRepository.save(other);
+            Application application = createAndSaveApplication("evict@test.com");
+            restTemplate.getForEntity("/api/opportunities/" + opportunity.getId(), String.class);
+            restTemplate.getForEntity("/api/opportunities/" + other.getId(), String.class);
+            Cache cache = entityManagerFactory.getCache();
+            assertThat(cache.contains(Opportunity.class, other.getId())).isTrue();
+
+            restTemplate.exchange("/api/applications/" + application.getId() + "/status?status=ACCEPTED",
+                    HttpMethod.PATCH, null, ApplicationResponse.class);
+
+            assertThat(cache.contains(Opportunity.class, other.getId())).isTrue();
+            assertThat(cache.contains(Opportunity.class, opportunity.getId())).isFalse();
+        }
+
         @Test
         @DisplayName("Should update application status to REJECTED")
         void shouldUpdateStatusToRejected() {
@@ -239,6 +294,84 @@ class ApplicationControllerIntegrationTest extends AbstractIntegrationTest {
             Application updated = applicationRepository.findById(application.getId()).orElseThrow();
             assertThat(updated.getStatus()).isEqualTo(ApplicationStatus.REJECTED);
         }
+
+        @Test
+        @DisplayName("Should not accept more applications than vacancies")
+        void shouldEnforceVacancies() {
+            opportunity.setVacancies(1);
+            opportunity = opportunityRepository.save(opportunity);
+            Application first = createAndSaveApplication("first@test.com");
+            Application second = createAndSaveApplication("second@test.com");
+
+            ResponseEntity<String> accepted = updateStatus(first, ApplicationStatus.ACCEPTED);
+            ResponseEntity<String> overbooked = updateStatus(second, ApplicationStatus.ACCEPTED);
+
+            assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(overbooked.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(applicationRepository.findById(second.getId()).orElseThrow().getStatus())
+                    .isEqualTo(ApplicationStatus.PENDING);
+
+            // Rejecting an accepted application frees its slot
+            updateStatus(first, ApplicationStatus.REJECTED);
+            assertThat(updateStatus(second, ApplicationStatus.ACCEPTED).getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(opportunityRepository.findById(opportunity.getId()).orElseThrow().getAcceptedCount())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should update many application statuses in one request")
+        void shouldBatchUpdateStatuses() {
+            Application first = createAndSaveApplication("batch1@test.com");
+            Application second = createAndSaveApplication("batch2@test.com");
+            Application third = createAndSaveApplication("batch3@test.com");
+
+            BatchApplicationStatusRequest request = new BatchApplicationStatusRequest(promoter.getId(), List.of(
+                    new BatchApplicationStatusRequest.StatusUpdate(first.getId(), ApplicationStatus.ACCEPTED),
+                    new BatchApplicationStatusRequest.StatusUpdate(second.getId(), ApplicationStatus.ACCEPTED),
+                    new BatchApplicationStatusRequest.StatusUpdate(third.getId(), ApplicationStatus.REJECTED)));
+
+            ResponseEntity<BatchApplicationStatusResponse> response = restTemplate.exchange(
+                    "/api/applications/status:batch",
+                    HttpMethod.PATCH,
+                    new HttpEntity<>(request),
+                    BatchApplicationStatusResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().getUpdated()).isEqualTo(3);
+            assertThat(applicationRepository.findById(first.getId()).orElseThrow().getStatus())
+                    .isEqualTo(ApplicationStatus.ACCEPTED);
+            assertThat(applicationRepository.findById(third.getId()).orElseThrow().getStatus())
+                    .isEqualTo(ApplicationStatus.REJECTED);
+            assertThat(opportunityRepository.findById(opportunity.getId()).orElseThrow().getAcceptedCount())
+                    .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should reject batch from a promoter who does not own the opportunity")
+        void shouldRejectBatchFromOtherPromoter() {
+            Application application = createAndSaveApplication("foreign@test.com");
+
+            BatchApplicationStatusRequest request = new BatchApplicationStatusRequest(promoter.getId() + 1000, List.of(
+                    new BatchApplicationStatusRequest.StatusUpdate(application.getId(), ApplicationStatus.ACCEPTED)));
+
+            ResponseEntity<String> response = restTemplate.exchange(
+                    "/api/applications/status:batch",
+                    HttpMethod.PATCH,
+                    new HttpEntity<>(request),
+                    String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(applicationRepository.findById(application.getId()).orElseThrow().getStatus())
+                    .isEqualTo(ApplicationStatus.PENDING);
+        }
+
+        private ResponseEntity<String> updateStatus(Application application, ApplicationStatus status) {
+            return restTemplate.exchange(
+                    "/api/applications/" + application.getId() + "/status?status=" + status,
+                    HttpMethod.PATCH,
+                    null,
+                    String.class);
+        }
     }
 
     private Application createAndSaveApplication(String volunteerEmail) {
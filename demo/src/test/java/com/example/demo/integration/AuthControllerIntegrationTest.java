@@ -5,6 +5,7 @@ import com.example.demo.dto.LoginRequest;
 import com.example.demo.dto.RegisterRequest;
 import com.example.demo.entity.UserType;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.writebehind.LastLoginWriteBehind;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -23,6 +24,9 @@ class AuthControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private LastLoginWriteBehind lastLoginWriteBehind;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
@@ -112,6 +116,9 @@ class AuthControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody().isSuccess()).isTrue();
             assertThat(response.getBody().getEmail()).isEqualTo("login@test.com");
+
+            lastLoginWriteBehind.flush();
+            assertThat(userRepository.findByEmail("login@test.com").orElseThrow().getLastLoginAt()).isNotNull();
         }
 
         @Test
@@ -3,6 +3,9 @@ package com.example.demo.integration;
 import com.example.demo.dto.*;
 import com.example.demo.entity.*;
 import com.example.demo.repository.*;
+import com.example.demo.specification.OpportunitySpecification;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -99,6 +102,30 @@ class OpportunityControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(response.getBody()).hasSize(2);
         }
 
+        @Test
+        @DisplayName("Should serve CBOR only when explicitly requested")
+        void shouldServeCborWhenRequested() throws Exception {
+            createAndSaveOpportunity("Opp 1", "Environment");
+
+            HttpHeaders cborHeaders = new HttpHeaders();
+            cborHeaders.setAccept(List.of(MediaType.APPLICATION_CBOR));
+            ResponseEntity<byte[]> cborResponse = restTemplate.exchange(
+                    "/api/opportunities", HttpMethod.GET, new HttpEntity<>(cborHeaders), byte[].class);
+
+            assertThat(cborResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(cborResponse.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+            List<OpportunityResponse> decoded = new CBORMapper().findAndRegisterModules()
+                    .readValue(cborResponse.getBody(), new TypeReference<List<OpportunityResponse>>() {});
+            assertThat(decoded).extracting(OpportunityResponse::getTitle).containsExactly("Opp 1");
+
+            HttpHeaders anyHeaders = new HttpHeaders();
+            anyHeaders.setAccept(List.of(MediaType.ALL));
+            ResponseEntity<String> defaultResponse = restTemplate.exchange(
+                    "/api/opportunities", HttpMethod.GET, new HttpEntity<>(anyHeaders), String.class);
+
+            assertThat(defaultResponse.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        }
+
         @Test
         @DisplayName("Should update opportunity")
         void shouldUpdateOpportunity() {
@@ -124,6 +151,42 @@ class OpportunityControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(response.getBody().getTitle()).isEqualTo("Updated Title");
         }
 
+        @Test
+        @DisplayName("Should reject vacancies below the accepted applications")
+        void shouldRejectVacanciesBelowAcceptedCount() {
+            Opportunity opportunity = createAndSaveOpportunity("Vacancies", "Environment");
+            for (int i = 0; i < 2; i++) {
+                Volunteer volunteer = new Volunteer();
+                volunteer.setName("Volunteer " + i);
+                volunteer.setEmail("volunteer" + i + "@test.com");
+                volunteer = volunteerRepository.save(volunteer);
+                Application application = new Application();
+                application.setVolunteer(volunteer);
+                application.setOpportunity(opportunity);
+                application = applicationRepository.save(application);
+                ResponseEntity<ApplicationResponse> accepted = restTemplate.exchange(
+                        "/api/applications/" + application.getId() + "/status?status=ACCEPTED",
+                        HttpMethod.PATCH, null, ApplicationResponse.class);
+                assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.OK);
+            }
+
+            UpdateOpportunityRequest updateRequest = new UpdateOpportunityRequest("Vacancies", "Description",
+                    "skills", "Environment", 4, 1, 50);
+            ResponseEntity<String> rejected = restTemplate.exchange("/api/opportunities/" + opportunity.getId(),
+                    HttpMethod.PUT, new HttpEntity<>(updateRequest), String.class);
+
+            assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(opportunityRepository.findById(opportunity.getId()).orElseThrow().getVacancies()).isEqualTo(10);
+
+            updateRequest.setVacancies(2);
+            ResponseEntity<OpportunityResponse> updated = restTemplate.exchange(
+                    "/api/opportunities/" + opportunity.getId(), HttpMethod.PUT, new HttpEntity<>(updateRequest),
+                    OpportunityResponse.class);
+
+            assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(updated.getBody().getVacancies()).isEqualTo(2);
+        }
+
         @Test
         @DisplayName("Should delete opportunity")
         void shouldDeleteOpportunity() {
@@ -142,6 +205,37 @@ class OpportunityControllerIntegrationTest extends AbstractIntegrationTest {
     @DisplayName("Filter and Search Tests")
     class FilterAndSearchTests {
 
+        @Test
+        @DisplayName("Should return facet counts alongside search results")
+        void shouldReturnFacetsWithSearchResults() {
+            createAndSaveOpportunity("Opp 1", "Environment");
+            createAndSaveOpportunity("Opp 2", "Environment");
+            Opportunity social = createAndSaveOpportunity("Opp 3", "Social");
+
+            // Direct repository writes must be reflected too
+            social.setCategory("Health");
+            opportunityRepository.save(social);
+
+            ResponseEntity<OpportunitySearchResponse> response = restTemplate.getForEntity(
+                    "/api/opportunities/search?category=Environment", OpportunitySearchResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().getResults()).hasSize(2);
+            assertThat(response.getBody().getFacets().getTotal()).isEqualTo(3);
+            assertThat(response.getBody().getFacets().getCategories())
+                    .containsEntry("Environment", 2L)
+                    .containsEntry("Health", 1L)
+                    .doesNotContainKey("Social");
+            assertThat(response.getBody().getFacets().getStatuses()).containsEntry("OPEN", 3L);
+
+            ResponseEntity<List<String>> categories = restTemplate.exchange(
+                    "/api/opportunities/categories",
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<List<String>>() {});
+            assertThat(categories.getBody()).containsExactly("Environment", "Health");
+        }
+
         @Test
         @DisplayName("Should get opportunities by promoter")
         void shouldGetOpportunitiesByPromoter() {
@@ -175,6 +269,34 @@ class OpportunityControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(response.getBody().get(0).getCategory()).isEqualTo("Environment");
         }
 
+        @Test
+        @DisplayName("Should treat LIKE wildcards in skills literally on both filter paths")
+        void shouldMatchSkillWildcardsLiterally() {
+            createAndSaveOpportunity("Underscore", "Health", "first_aid");
+            createAndSaveOpportunity("Any character", "Health", "firstxaid");
+            createAndSaveOpportunity("Percent", "Health", "100% effort");
+
+            for (String skills : List.of("t_a", "%", "0% e", "_")) {
+                ResponseEntity<List<OpportunityResponse>> columnStore = restTemplate.exchange(
+                        "/api/opportunities/filter?skills={skills}",
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<List<OpportunityResponse>>() {},
+                        skills);
+                List<String> database = opportunityRepository
+                        .findAll(OpportunitySpecification.withFilters(null, skills, null, null)).stream()
+                        .map(Opportunity::getTitle)
+                        .toList();
+
+                assertThat(columnStore.getBody()).extracting(OpportunityResponse::getTitle)
+                        .as("skills=%s", skills)
+                        .containsExactlyInAnyOrderElementsOf(database);
+            }
+            assertThat(opportunityRepository.findAll(OpportunitySpecification.withFilters(null, "t_a", null, null)))
+                    .extracting(Opportunity::getTitle)
+                    .containsExactly("Underscore");
+        }
+
         @Test
         @DisplayName("Should get all categories")
         void shouldGetAllCategories() {
@@ -299,10 +421,14 @@ class OpportunityControllerIntegrationTest extends AbstractIntegrationTest {
     }
 
     private Opportunity createAndSaveOpportunity(String title, String category) {
+        return createAndSaveOpportunity(title, category, "skills");
+    }
+
+    private Opportunity createAndSaveOpportunity(String title, String category, String skills) {
         Opportunity opportunity = new Opportunity();
         opportunity.setTitle(title);
         opportunity.setDescription("Description");
-        opportunity.setSkills("skills");
+        opportunity.setSkills(skills);
         opportunity.setCategory(category);
         opportunity.setDuration(4);
         opportunity.setVacancies(10);
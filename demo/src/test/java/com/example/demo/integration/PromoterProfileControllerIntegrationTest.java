@@ -4,6 +4,8 @@ import com.example.demo.dto.*;
 import com.example.demo.repository.ApplicationRepository;
 import com.example.demo.repository.OpportunityRepository;
 import com.example.demo.repository.PromoterRepository;
+import com.example.demo.service.PromoterDeletionService;
+import com.example.demo.service.PromoterProfileService;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -29,6 +31,12 @@ class PromoterProfileControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private PromoterDeletionService promoterDeletionService;
+
+    @Autowired
+    private PromoterProfileService promoterProfileService;
+
     @BeforeEach
     void setUp() {
         // Delete in correct order respecting foreign key constraints
@@ -138,6 +146,64 @@ class PromoterProfileControllerIntegrationTest extends AbstractIntegrationTest {
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         }
+
+        @Test
+        @DisplayName("Should delete profile together with its opportunities and their applications")
+        void shouldDeleteProfileWithOpportunitiesAndApplications() {
+            Long promoterId = restTemplate.postForEntity("/api/promoters/profile",
+                    createProfileRequest("graph@test.com"), PromoterProfileResponse.class).getBody().getId();
+            Long volunteerId = null;
+            for (int i = 0; i < 3; i++) {
+                CreateOpportunityRequest opportunity = new CreateOpportunityRequest("Opportunity " + i,
+                        "Description", "Teamwork", "Social", 2, 5, 10, promoterId);
+                Long opportunityId = restTemplate.postForEntity("/api/opportunities", opportunity,
+                        OpportunityResponse.class).getBody().getId();
+                CreateApplicationRequest application = new CreateApplicationRequest(opportunityId,
+                        "Volunteer", "graph-volunteer@test.com", null, null, "Motivation");
+                volunteerId = restTemplate.postForEntity("/api/applications", application,
+                        ApplicationResponse.class).getBody().getVolunteerId();
+            }
+
+            ResponseEntity<Void> response = restTemplate.exchange(
+                    "/api/promoters/profile/" + promoterId, HttpMethod.DELETE, null, Void.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            assertThat(promoterRepository.existsById(promoterId)).isFalse();
+            assertThat(opportunityRepository.count()).isZero();
+            assertThat(applicationRepository.count()).isZero();
+            ResponseEntity<List<ApplicationResponse>> listing = restTemplate.exchange(
+                    "/api/applications/volunteer/" + volunteerId, HttpMethod.GET, null,
+                    new ParameterizedTypeReference<List<ApplicationResponse>>() {});
+            assertThat(listing.getBody()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should hide a promoter flagged for deletion, reject its writes and finish the purge later")
+        void shouldHideFlaggedPromoterUntilPurged() {
+            Long promoterId = restTemplate.postForEntity("/api/promoters/profile",
+                    createProfileRequest("flagged@test.com"), PromoterProfileResponse.class).getBody().getId();
+            CreateOpportunityRequest opportunity = new CreateOpportunityRequest("Opportunity",
+                    "Description", "Teamwork", "Social", 2, 5, 10, promoterId);
+            Long opportunityId = restTemplate.postForEntity("/api/opportunities", opportunity,
+                    OpportunityResponse.class).getBody().getId();
+
+            // As if the node had died right after flagging the promoter
+            promoterDeletionService.markDeleted(promoterId);
+
+            assertThat(restTemplate.getForEntity("/api/promoters/profile/" + promoterId, String.class)
+                    .getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(restTemplate.postForEntity("/api/opportunities", opportunity, String.class)
+                    .getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            CreateApplicationRequest application = new CreateApplicationRequest(opportunityId,
+                    "Volunteer", "flagged-volunteer@test.com", null, null, "Motivation");
+            assertThat(restTemplate.postForEntity("/api/applications", application, String.class)
+                    .getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+            promoterProfileService.purgeDeletedProfiles();
+
+            assertThat(promoterRepository.existsById(promoterId)).isFalse();
+            assertThat(opportunityRepository.existsById(opportunityId)).isFalse();
+        }
     }
 
     @Nested
@@ -0,0 +1,210 @@
+package com.example.demo.integration;
+
+import com.example.demo.dto.*;
+import com.example.demo.entity.*;
+import com.example.demo.entity.Benefit.BenefitCategory;
+import com.example.demo.reactive.ReactiveReadServer;
+import com.example.demo.repository.*;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Reactive Read API Integration Tests")
+class ReactiveReadApiIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Autowired
+    private OpportunityRepository opportunityRepository;
+
+    @Autowired
+    private PromoterRepository promoterRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Autowired
+    private RedemptionRepository redemptionRepository;
+
+    @Autowired
+    private BenefitRepository benefitRepository;
+
+    private WebTestClient reactiveClient;
+
+    private Promoter promoter;
+
+    @BeforeEach
+    void setUp() {
+        redemptionRepository.deleteAll();
+        applicationRepository.deleteAll();
+        opportunityRepository.deleteAll();
+        benefitRepository.deleteAll();
+        volunteerRepository.deleteAll();
+        promoterRepository.deleteAll();
+
+        promoter = new Promoter();
+        promoter.setName("Test Promoter");
+        promoter.setEmail("promoter@test.com");
+        promoter.setOrganization("Test Org");
+        promoter = promoterRepository.save(promoter);
+
+        reactiveClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveReadServer.getPort())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should serve the same opportunity listing as the MVC endpoint")
+    void shouldMatchOpportunityListing() {
+        createAndSaveOpportunity("Beach Cleanup", "Environment", "Teamwork", 4);
+        createAndSaveOpportunity("Tutoring", "Education", "Teaching, Java", 8);
+
+        List<OpportunityResponse> reactive = reactiveClient.get().uri("/api/opportunities")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(OpportunityResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(reactive).hasSize(2).containsExactlyInAnyOrderElementsOf(mvcList("/api/opportunities",
+                new ParameterizedTypeReference<List<OpportunityResponse>>() {}));
+    }
+
+    @Test
+    @DisplayName("Should filter opportunities like the MVC endpoint")
+    void shouldFilterOpportunities() {
+        createAndSaveOpportunity("Beach Cleanup", "Environment", "Teamwork", 4);
+        createAndSaveOpportunity("Park Cleanup", "Environment", "Teamwork", 12);
+        createAndSaveOpportunity("Tutoring", "Education", "Teaching, Java", 8);
+
+        String query = "/api/opportunities/filter?category=environment&skills=TEAM&maxDuration=10";
+        List<OpportunityResponse> reactive = reactiveClient.get().uri(query)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(OpportunityResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(reactive).extracting(OpportunityResponse::getTitle).containsExactly("Beach Cleanup");
+        assertThat(reactive).containsExactlyElementsOf(mvcList(query,
+                new ParameterizedTypeReference<List<OpportunityResponse>>() {}));
+    }
+
+    @Test
+    @DisplayName("Should match an underscore in skills literally, like the MVC endpoint")
+    void shouldEscapeSkillWildcards() {
+        createAndSaveOpportunity("Underscore", "Health", "first_aid", 4);
+        createAndSaveOpportunity("Any character", "Health", "firstxaid", 4);
+
+        String query = "/api/opportunities/filter?skills=t_a";
+        List<OpportunityResponse> reactive = reactiveClient.get().uri(query)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(OpportunityResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(reactive).extracting(OpportunityResponse::getTitle).containsExactly("Underscore");
+        assertThat(reactive).containsExactlyElementsOf(mvcList(query,
+                new ParameterizedTypeReference<List<OpportunityResponse>>() {}));
+    }
+
+    @Test
+    @DisplayName("Should stream the ranking as NDJSON in points order")
+    void shouldStreamRanking() {
+        Volunteer low = createAndSaveVolunteer("Low", "low@test.com", 10);
+        Volunteer high = createAndSaveVolunteer("High", "high@test.com", 300);
+
+        List<VolunteerPointsResponse> ranking = reactiveClient.get().uri("/api/volunteers/ranking")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .returnResult(VolunteerPointsResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(ranking).extracting(VolunteerPointsResponse::getId).containsExactly(high.getId(), low.getId());
+        assertThat(ranking.get(0).getTotalPoints()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("Should serve the benefit catalog and 404 for unknown volunteers")
+    void shouldServeBenefitCatalog() {
+        Volunteer volunteer = createAndSaveVolunteer("Volunteer", "volunteer@test.com", 50);
+        createAndSaveBenefit("Expensive", 500, true);
+        createAndSaveBenefit("Cheap", 100, true);
+        createAndSaveBenefit("Retired", 50, false);
+
+        String path = "/api/benefits/volunteer/" + volunteer.getId() + "/catalog";
+        List<BenefitResponse> reactive = reactiveClient.get().uri(path)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BenefitResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(reactive).extracting(BenefitResponse::getName).containsExactly("Cheap", "Expensive");
+        // The MVC catalog comes from the price index, which keeps creation times at the JVM's precision
+        assertThat(reactive).usingRecursiveFieldByFieldElementComparatorIgnoringFields("createdAt")
+                .containsExactlyElementsOf(mvcList(path, new ParameterizedTypeReference<List<BenefitResponse>>() {}));
+
+        reactiveClient.get().uri("/api/benefits/volunteer/999999/catalog")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private <T> List<T> mvcList(String path, ParameterizedTypeReference<List<T>> type) {
+        ResponseEntity<List<T>> response = restTemplate.exchange(path, HttpMethod.GET, null, type);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private void createAndSaveOpportunity(String title, String category, String skills, int duration) {
+        Opportunity opportunity = new Opportunity();
+        opportunity.setTitle(title);
+        opportunity.setDescription("Description");
+        opportunity.setSkills(skills);
+        opportunity.setCategory(category);
+        opportunity.setDuration(duration);
+        opportunity.setVacancies(10);
+        opportunity.setPoints(50);
+        opportunity.setStatus(OpportunityStatus.OPEN);
+        opportunity.setPromoter(promoter);
+        opportunityRepository.save(opportunity);
+    }
+
+    private Volunteer createAndSaveVolunteer(String name, String email, int points) {
+        Volunteer volunteer = new Volunteer();
+        volunteer.setName(name);
+        volunteer.setEmail(email);
+        volunteer.setTotalPoints(points);
+        return volunteerRepository.save(volunteer);
+    }
+
+    private void createAndSaveBenefit(String name, int points, boolean active) {
+        Benefit benefit = new Benefit();
+        benefit.setName(name);
+        benefit.setDescription("Description for " + name);
+        benefit.setPointsRequired(points);
+        benefit.setCategory(BenefitCategory.UA);
+        benefit.setProvider("Provider");
+        benefit.setActive(active);
+        benefitRepository.save(benefit);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.integration;
 
+import com.example.demo.cache.CacheNames;
 import com.example.demo.dto.*;
 import com.example.demo.entity.Benefit;
 import com.example.demo.entity.Benefit.BenefitCategory;
@@ -8,6 +9,7 @@ import com.example.demo.entity.Redemption.RedemptionStatus;
 import com.example.demo.entity.Volunteer;
 import com.example.demo.repository.ApplicationRepository;
 import com.example.demo.repository.BenefitRepository;
+import com.example.demo.repository.IdempotencyRecordRepository;
 import com.example.demo.repository.RedemptionRepository;
 import com.example.demo.repository.VolunteerRepository;
 import org.junit.jupiter.api.*;
@@ -17,6 +19,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,6 +41,9 @@ class RedemptionControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
     private Volunteer volunteer;
     private Benefit benefit;
 
@@ -88,6 +94,79 @@ class RedemptionControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(updated.getTotalPoints()).isEqualTo(400); // 500 - 100
         }
 
+        @Test
+        @DisplayName("Should keep volunteer summary counters in step with redemptions")
+        void shouldUpdateSummaryCountersOnRedemption() {
+            RedeemPointsRequest request = new RedeemPointsRequest();
+            request.setVolunteerId(volunteer.getId());
+            request.setBenefitId(benefit.getId());
+
+            restTemplate.postForEntity("/api/redemptions", request, RedemptionResponse.class);
+            restTemplate.postForEntity("/api/redemptions", request, RedemptionResponse.class);
+
+            ResponseEntity<VolunteerSummaryResponse> response = restTemplate.getForEntity(
+                    "/api/volunteers/" + volunteer.getId() + "/summary", VolunteerSummaryResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().getPointsSpent()).isEqualTo(200L);
+            assertThat(response.getBody().getRedemptionCount()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("Should replay retried redemption without debiting twice")
+        void shouldReplayRetriedRedemption() {
+            RedeemPointsRequest request = new RedeemPointsRequest();
+            request.setVolunteerId(volunteer.getId());
+            request.setBenefitId(benefit.getId());
+
+            String key = UUID.randomUUID().toString();
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Idempotency-Key", key);
+            HttpEntity<RedeemPointsRequest> entity = new HttpEntity<>(request, headers);
+
+            ResponseEntity<RedemptionResponse> first = restTemplate.postForEntity(
+                    "/api/redemptions", entity, RedemptionResponse.class);
+            ResponseEntity<RedemptionResponse> retry = restTemplate.postForEntity(
+                    "/api/redemptions", entity, RedemptionResponse.class);
+
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+            assertThat(retry.getBody().getId()).isEqualTo(first.getBody().getId());
+
+            Volunteer updated = volunteerRepository.findById(volunteer.getId()).orElseThrow();
+            assertThat(updated.getTotalPoints()).isEqualTo(400);
+            assertThat(redemptionRepository.findByVolunteerId(volunteer.getId())).hasSize(1);
+            assertThat(idempotencyRecordRepository.findByScopeAndIdempotencyKey("redemptions", key)).isPresent();
+        }
+
+        @Test
+        @DisplayName("Should run a retry again when the keyed attempt failed")
+        void shouldRetryFailedKeyedRedemption() {
+            volunteer.setTotalPoints(50);
+            volunteerRepository.save(volunteer);
+
+            RedeemPointsRequest request = new RedeemPointsRequest();
+            request.setVolunteerId(volunteer.getId());
+            request.setBenefitId(benefit.getId());
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Idempotency-Key", UUID.randomUUID().toString());
+            HttpEntity<RedeemPointsRequest> entity = new HttpEntity<>(request, headers);
+
+            ResponseEntity<String> failed = restTemplate.postForEntity("/api/redemptions", entity, String.class);
+            assertThat(failed.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+            volunteer.setTotalPoints(500);
+            volunteerRepository.save(volunteer);
+            ResponseEntity<RedemptionResponse> retry = restTemplate.postForEntity(
+                    "/api/redemptions", entity, RedemptionResponse.class);
+
+            assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isNull();
+            assertThat(redemptionRepository.findByVolunteerId(volunteer.getId())).hasSize(1);
+        }
+
         @Test
         @DisplayName("Should fail when insufficient points")
         void shouldFailWhenInsufficientPoints() {
@@ -122,6 +201,36 @@ class RedemptionControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
         }
 
+        @Test
+        @DisplayName("Should serve repeated benefit lookups from the entity cache and see later updates")
+        void shouldCacheBenefitLookups() {
+            RedeemPointsRequest request = new RedeemPointsRequest();
+            request.setVolunteerId(volunteer.getId());
+            request.setBenefitId(benefit.getId());
+            long hitsBefore = benefitCacheStats().getHits();
+
+            restTemplate.postForEntity("/api/redemptions", request, RedemptionResponse.class);
+            restTemplate.postForEntity("/api/redemptions", request, RedemptionResponse.class);
+            assertThat(benefitCacheStats().getHits()).isGreaterThan(hitsBefore);
+
+            Benefit stored = benefitRepository.findById(benefit.getId()).orElseThrow();
+            stored.setActive(false);
+            benefitRepository.save(stored);
+
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    "/api/redemptions", request, String.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        }
+
+        private EntityCacheStatsResponse benefitCacheStats() {
+            ResponseEntity<List<EntityCacheStatsResponse>> response = restTemplate.exchange(
+                    "/api/cache/entity-stats", HttpMethod.GET, null,
+                    new ParameterizedTypeReference<List<EntityCacheStatsResponse>>() {});
+            return response.getBody().stream()
+                    .filter(stats -> stats.getRegion().equals(CacheNames.BENEFIT_ENTITIES))
+                    .findFirst().orElseThrow();
+        }
+
         @Test
         @DisplayName("Should fail when volunteer not found")
         void shouldFailWhenVolunteerNotFound() {
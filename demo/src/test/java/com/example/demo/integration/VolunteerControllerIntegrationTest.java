@@ -239,6 +239,42 @@ class VolunteerControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(response.getBody().get(2).getTotalPoints()).isEqualTo(50);
         }
 
+        @Test
+        @DisplayName("Should get windowed ranking and reject unknown windows")
+        void shouldGetWindowedRanking() {
+            ResponseEntity<List<RankingEntryResponse>> response = restTemplate.exchange(
+                    "/api/volunteers/ranking?window=30d&limit=5",
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<List<RankingEntryResponse>>() {});
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).hasSizeLessThanOrEqualTo(5);
+
+            ResponseEntity<String> invalid = restTemplate.getForEntity(
+                    "/api/volunteers/ranking?window=fortnight", String.class);
+            assertThat(invalid.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @Test
+        @DisplayName("Should get volunteer rank with neighbours")
+        void shouldGetVolunteerRank() {
+            Volunteer first = createAndSaveVolunteer("rankfirst@test.com", 900_000);
+            Volunteer second = createAndSaveVolunteer("ranksecond@test.com", 800_000);
+
+            ResponseEntity<VolunteerRankResponse> response = restTemplate.getForEntity(
+                    "/api/volunteers/" + second.getId() + "/rank?neighbours=1", VolunteerRankResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().getRank()).isEqualTo(2);
+            assertThat(response.getBody().getPoints()).isEqualTo(800_000);
+            assertThat(response.getBody().getAbove()).singleElement()
+                    .satisfies(entry -> assertThat(entry.getVolunteerId()).isEqualTo(first.getId()));
+
+            ResponseEntity<String> missing = restTemplate.getForEntity("/api/volunteers/999999/rank", String.class);
+            assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+
         @Test
         @DisplayName("Should get top volunteers")
         void shouldGetTopVolunteers() {
@@ -0,0 +1,98 @@
+package com.example.demo.unit.cache;
+
+import com.example.demo.cache.CacheNames;
+import com.example.demo.cache.CachedEntityChangedEvent;
+import com.example.demo.cache.EntityCacheInvalidator;
+import com.example.demo.cache.InMemoryCacheInvalidationBus;
+import com.example.demo.cache.InMemorySharedCacheStore;
+import com.example.demo.cache.TwoLevelCacheManager;
+import com.example.demo.entity.Application;
+import com.example.demo.entity.Benefit;
+import com.example.demo.entity.Opportunity;
+import com.example.demo.entity.Promoter;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EntityCacheInvalidator Unit Tests")
+class EntityCacheInvalidatorTest {
+
+    private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node(bus);
+        nodeB = new Node(bus);
+    }
+
+    @Test
+    @DisplayName("Should evict committed changes on other nodes only")
+    void shouldEvictOnOtherNodes() {
+        nodeA.invalidator.onCommitted(new CachedEntityChangedEvent(CacheNames.OPPORTUNITY_ENTITIES, 7L));
+
+        verify(nodeB.hibernateCache).evictEntityData(Opportunity.class, 7L);
+        verifyNoInteractions(nodeA.hibernateCache);
+        assertThat(nodeA.invalidator.getStats().get(CacheNames.OPPORTUNITY_ENTITIES).getInvalidationsPublished())
+                .isEqualTo(1);
+        assertThat(nodeB.invalidator.getStats().get(CacheNames.OPPORTUNITY_ENTITIES).getInvalidationsReceived())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop the whole region when no id is given")
+    void shouldEvictRegion() {
+        nodeA.invalidator.onCommitted(new CachedEntityChangedEvent(CacheNames.BENEFIT_ENTITIES, null));
+
+        verify(nodeB.hibernateCache).evictEntityData(Benefit.class);
+    }
+
+    @Test
+    @DisplayName("Should publish changes of cached entities with their region and id")
+    void shouldPublishCachedEntityChanges() {
+        Promoter promoter = new Promoter();
+        when(nodeA.persistenceUnitUtil.getIdentifier(promoter)).thenReturn(3L);
+
+        nodeA.invalidator.onChanged(promoter);
+        nodeA.invalidator.onChanged(new Application());
+
+        verify(nodeA.eventPublisher).publishEvent(new CachedEntityChangedEvent(CacheNames.PROMOTER_ENTITIES, 3L));
+        verify(nodeA.eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class Node {
+
+        final Cache hibernateCache = mock(Cache.class);
+        final PersistenceUnitUtil persistenceUnitUtil = mock(PersistenceUnitUtil.class);
+        final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        final EntityCacheInvalidator invalidator;
+
+        Node(InMemoryCacheInvalidationBus bus) {
+            EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+            jakarta.persistence.Cache jpaCache = mock(jakarta.persistence.Cache.class);
+            lenient().when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+            lenient().when(jpaCache.unwrap(Cache.class)).thenReturn(hibernateCache);
+            lenient().when(entityManagerFactory.getPersistenceUnitUtil()).thenReturn(persistenceUnitUtil);
+            ObjectProvider<EntityManagerFactory> provider = mock(ObjectProvider.class);
+            lenient().when(provider.getObject()).thenReturn(entityManagerFactory);
+
+            TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(new InMemorySharedCacheStore(), bus,
+                    List.of(), Duration.ofMinutes(1), 10);
+            invalidator = new EntityCacheInvalidator(cacheManager, bus, eventPublisher, provider);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.unit.cache;
+
+import com.example.demo.cache.InMemoryCacheInvalidationBus;
+import com.example.demo.cache.InMemorySharedCacheStore;
+import com.example.demo.cache.TwoLevelCache;
+import com.example.demo.cache.TwoLevelCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TwoLevelCache Unit Tests")
+class TwoLevelCacheTest {
+
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        InMemorySharedCacheStore sharedStore = new InMemorySharedCacheStore();
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        nodeA = newNode(sharedStore, bus, Duration.ofMinutes(5));
+        nodeB = newNode(sharedStore, bus, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should serve second read from near cache")
+    void shouldServeSecondReadFromNearCache() {
+        TwoLevelCache cache = cache(nodeA);
+        cache.put("key", "value");
+
+        assertThat(cache.get("key").get()).isEqualTo("value");
+        assertThat(cache.getNearStats().getHits()).isEqualTo(1);
+        assertThat(cache.getSharedStats().getHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fall through to shared tier on another node")
+    void shouldFallThroughToSharedTier() {
+        cache(nodeA).put("key", "value");
+
+        TwoLevelCache other = cache(nodeB);
+        assertThat(other.get("key").get()).isEqualTo("value");
+        assertThat(other.getNearStats().getMisses()).isEqualTo(1);
+        assertThat(other.getSharedStats().getHits()).isEqualTo(1);
+
+        other.get("key");
+        assertThat(other.getNearStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict near copy on every node after a write")
+    void shouldEvictOnAllNodes() {
+        cache(nodeA).put("key", "value");
+        cache(nodeB).get("key");
+        assertThat(cache(nodeB).getNearSize()).isEqualTo(1);
+
+        cache(nodeA).evict("key");
+
+        assertThat(cache(nodeB).getNearSize()).isZero();
+        assertThat(cache(nodeB).get("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should clear near copies on every node")
+    void shouldClearOnAllNodes() {
+        cache(nodeA).put("a", 1);
+        cache(nodeA).put("b", 2);
+        cache(nodeB).get("a");
+        cache(nodeB).get("b");
+
+        cache(nodeA).clear();
+
+        assertThat(cache(nodeB).getNearSize()).isZero();
+        assertThat(cache(nodeB).get("a")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should expire near entries after TTL")
+    void shouldExpireNearEntries() {
+        InMemorySharedCacheStore sharedStore = new InMemorySharedCacheStore();
+        TwoLevelCacheManager node = newNode(sharedStore, new InMemoryCacheInvalidationBus(), Duration.ZERO);
+        TwoLevelCache cache = cache(node);
+        cache.put("key", "value");
+
+        assertThat(cache.get("key").get()).isEqualTo("value");
+        assertThat(cache.getNearStats().getHits()).isZero();
+        assertThat(cache.getSharedStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cache null values")
+    void shouldCacheNullValues() {
+        TwoLevelCache cache = cache(nodeA);
+        cache.put("key", null);
+
+        assertThat(cache.get("key")).isNotNull();
+        assertThat(cache.get("key").get()).isNull();
+    }
+
+    private TwoLevelCacheManager newNode(InMemorySharedCacheStore sharedStore,
+                                         InMemoryCacheInvalidationBus bus, Duration nearTtl) {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(sharedStore, bus, List.of("test"), nearTtl, 100);
+        manager.setTransactionAware(false);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    private TwoLevelCache cache(TwoLevelCacheManager manager) {
+        return (TwoLevelCache) manager.getCache("test");
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.unit.config;
+
+import com.example.demo.config.IsoLocalDateTimeSerializer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IsoLocalDateTimeSerializer Unit Tests")
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new SimpleModule().addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer()))
+            .build();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2026-03-01T00:00:00", "2026-12-31T23:59:59.999999999", "2026-03-01T12:30:05.5",
+            "2026-03-01T12:30:05.120", "2026-03-01T12:30:05.000001", "0001-01-01T01:02:03.04",
+            "+10000-01-01T00:00:00.1", "-0001-06-15T10:00:00"})
+    @DisplayName("Should write the same text as ISO_LOCAL_DATE_TIME")
+    void shouldMatchIsoFormatter(String text) throws JsonProcessingException {
+        LocalDateTime value = LocalDateTime.parse(text);
+
+        assertThat(mapper.writeValueAsString(value))
+                .isEqualTo('"' + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) + '"');
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.unit.config;
+
+import com.example.demo.config.NativeRuntimeHints;
+import com.example.demo.dto.OpportunityResponse;
+import com.example.demo.dto.OpportunitySearchResponse;
+import com.example.demo.entity.Application;
+import com.example.demo.entity.Opportunity;
+import com.example.demo.entity.Volunteer;
+import com.example.demo.event.OpportunityEntityListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NativeRuntimeHints Unit Tests")
+class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register fields, constructors and accessors of every entity")
+    void shouldRegisterEntities() throws NoSuchMethodException {
+        for (Class<?> entity : new Class<?>[]{Opportunity.class, Application.class, Volunteer.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(entity)).accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onMethod(entity.getMethod("getId"))).accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onField(entity, "id")).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Opportunity.class.getDeclaredMethod("onUpdate")))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register entity listeners declared on entities")
+    void shouldRegisterEntityListeners() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(OpportunityEntityListener.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register DTOs and the types they expose for JSON binding")
+    void shouldRegisterDtos() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onMethod(OpportunitySearchResponse.class.getMethod("getResults"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onMethod(OpportunityResponse.class.getMethod("setTitle", String.class))).accepts(hints);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.unit.datagen;
+
+import com.example.demo.datagen.DatagenProperties;
+import com.example.demo.datagen.DatasetGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatasetGenerator Unit Tests")
+class DatasetGeneratorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private DatagenProperties properties;
+    private final Map<String, List<Object[]>> written = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        properties = new DatagenProperties();
+        properties.setBatchSize(7);
+        properties.setPromoters(5);
+        properties.setBenefits(4);
+        properties.setVolunteers(20);
+        properties.setOpportunities(10);
+        properties.setApplications(60);
+        properties.setRedemptions(100);
+    }
+
+    @Test
+    @DisplayName("Should write a skewed dataset whose counters match the generated history")
+    void shouldGenerateConsistentDataset() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any())).thenReturn(0L);
+        stubIds("SELECT id FROM promoters", 100, 5);
+        stubIds("SELECT id FROM benefits", 200, 4);
+        stubIds("SELECT id FROM volunteers", 300, 20);
+        stubIds("SELECT o.id FROM opportunities", 400, 10);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            // Inserts are keyed by table; the UPDATE statements all land under "SET"
+            String table = invocation.<String>getArgument(0).split(" ")[2];
+            written.computeIfAbsent(table, key -> new ArrayList<>()).addAll(invocation.getArgument(1));
+            return new int[0];
+        });
+
+        new DatasetGenerator(jdbcTemplate, properties).run(new DefaultApplicationArguments());
+
+        assertThat(written.get("volunteers")).hasSize(20);
+        assertThat(written.get("opportunities")).hasSize(10);
+        assertThat(written.get("redemptions")).hasSize(100);
+        assertThat(written.get("applications")).hasSizeBetween(1, 60)
+                .extracting(row -> List.of(row[0], row[1])).doesNotHaveDuplicates();
+
+        Map<Object, Long> earned = new HashMap<>();
+        written.get("applications").forEach(row -> earned.merge(row[0], ((Integer) row[6]).longValue(), Long::sum));
+        Map<Object, Long> spent = new HashMap<>();
+        written.get("redemptions").stream().filter(row -> "COMPLETED".equals(row[3]))
+                .forEach(row -> spent.merge(row[0], ((Integer) row[2]).longValue(), Long::sum));
+        assertThat(written.get("volunteer_stats")).hasSize(20).allSatisfy(row -> {
+            assertThat(row[1]).isEqualTo(earned.getOrDefault(row[0], 0L));
+            assertThat(row[2]).isEqualTo(spent.getOrDefault(row[0], 0L));
+        });
+    }
+
+    @Test
+    @DisplayName("Should skip generation when generated rows already exist")
+    void shouldSkipWhenAlreadyGenerated() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any())).thenReturn(20L);
+
+        new DatasetGenerator(jdbcTemplate, properties).run(new DefaultApplicationArguments());
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private void stubIds(String prefix, long first, int count) {
+        when(jdbcTemplate.queryForList(startsWith(prefix), eq(Long.class), any()))
+                .thenReturn(LongStream.range(first, first + count).boxed().toList());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.unit.datagen;
+
+import com.example.demo.datagen.ZipfSampler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ZipfSampler Unit Tests")
+class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("Should concentrate draws on the lowest ranks")
+    void shouldSkewTowardsLowRanks() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1.1, new SplittableRandom(7));
+        int[] counts = new int[1000];
+        for (int i = 0; i < 100_000; i++) {
+            counts[sampler.next()]++;
+        }
+
+        int top10 = 0;
+        for (int rank = 0; rank < 10; rank++) {
+            top10 += counts[rank];
+        }
+        assertThat(counts[0]).isGreaterThan(counts[1]).isGreaterThan(counts[100]);
+        assertThat(top10).isGreaterThan(40_000);
+        assertThat(counts[999]).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("Should stay within range and repeat for the same seed")
+    void shouldBeDeterministicAndBounded() {
+        ZipfSampler first = new ZipfSampler(5, 0.5, new SplittableRandom(42));
+        ZipfSampler second = new ZipfSampler(5, 0.5, new SplittableRandom(42));
+
+        for (int i = 0; i < 1000; i++) {
+            int rank = first.next();
+            assertThat(rank).isBetween(0, 4).isEqualTo(second.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an empty range")
+    void shouldRejectEmptyRange() {
+        assertThatThrownBy(() -> new ZipfSampler(0, 1.0, new SplittableRandom()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,9 +2,12 @@ package com.example.demo.unit.exception;
 
 import com.example.demo.exception.GlobalExceptionHandler;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.exception.ServiceOverloadedException;
+import com.example.demo.exception.TooManyRequestsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -56,6 +59,34 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().message()).isEqualTo("Invalid state");
     }
 
+    @Test
+    @DisplayName("Given TooManyRequestsException when handling then return TOO_MANY_REQUESTS with Retry-After")
+    void givenTooManyRequestsException_whenHandling_thenReturnTooManyRequestsResponse() {
+        TooManyRequestsException exception = new TooManyRequestsException("Rate limit exceeded", 3);
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                exceptionHandler.handleTooManyRequestsException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Given ServiceOverloadedException when handling then return SERVICE_UNAVAILABLE with Retry-After")
+    void givenServiceOverloadedException_whenHandling_thenReturnServiceUnavailableResponse() {
+        ServiceOverloadedException exception = new ServiceOverloadedException("Server is busy", 1);
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                exceptionHandler.handleServiceOverloadedException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(503);
+    }
+
     @Test
     @DisplayName("Given IllegalArgumentException when handling then return BAD_REQUEST response")
     void givenIllegalArgumentException_whenHandling_thenReturnBadRequestResponse() {
@@ -0,0 +1,164 @@
+package com.example.demo.unit.idempotency;
+
+import com.example.demo.entity.IdempotencyRecord;
+import com.example.demo.idempotency.IdempotencyStore;
+import com.example.demo.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyStore Unit Tests")
+class IdempotencyStoreTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyStore store;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(repository, transactionManager, new ObjectMapper(), Duration.ofHours(24),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should store the response with the key in the action's transaction")
+    void shouldStoreResponseWithKey() {
+        IdempotencyRecord stored = runFirstAttempt("request");
+
+        assertThat(stored.getScope()).isEqualTo("scope");
+        assertThat(stored.getIdempotencyKey()).isEqualTo("key-1");
+        assertThat(stored.getResponseStatus()).isEqualTo(201);
+        assertThat(stored.getResponseBody()).isEqualTo("\"response-1\"");
+        assertThat(stored.getExpiresAt()).isEqualTo(LocalDateTime.of(2024, 1, 2, 0, 0));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should replay a stored response without running the action again")
+    void shouldReplayStoredResponse() {
+        IdempotencyRecord stored = runFirstAttempt("request");
+        keyTaken(Optional.of(stored));
+
+        ResponseEntity<String> replayed = store.execute("scope", "key-1", "request", String.class, this::created);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getBody()).isEqualTo("response-1");
+        assertThat(replayed.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Should reject key reused with a different request")
+    void shouldRejectKeyReuseWithDifferentRequest() {
+        IdempotencyRecord stored = runFirstAttempt("request");
+        keyTaken(Optional.of(stored));
+
+        assertThatThrownBy(() -> store.execute("scope", "key-1", "other", String.class, this::created))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a duplicate while the first attempt is still running")
+    void shouldRejectDuplicateInProgress() {
+        keyTaken(Optional.empty());
+
+        assertThatThrownBy(() -> store.execute("scope", "key-1", "request", String.class, this::created))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("still being processed");
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run action every time when no key is given")
+    void shouldRunWithoutKey() {
+        store.execute("scope", null, "request", String.class, this::created);
+        store.execute("scope", " ", "request", String.class, this::created);
+
+        assertThat(calls.get()).isEqualTo(2);
+        verifyNoInteractions(repository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should roll the key back with a failed attempt")
+    void shouldNotRememberFailures() {
+        beginTransactions();
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThatThrownBy(() -> store.execute("scope", "key-1", "request", String.class, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should purge keys past their TTL")
+    void shouldPurgeExpiredKeys() {
+        beginTransactions();
+        when(repository.deleteExpired(LocalDateTime.of(2024, 1, 1, 0, 0))).thenReturn(3);
+
+        assertThat(store.purgeExpired()).isEqualTo(3);
+    }
+
+    private IdempotencyRecord runFirstAttempt(String request) {
+        beginTransactions();
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        store.execute("scope", "key-1", request, String.class, this::created);
+
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(repository).saveAndFlush(captor.capture());
+        return captor.getValue();
+    }
+
+    private void keyTaken(Optional<IdempotencyRecord> committed) {
+        beginTransactions();
+        when(repository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.findByScopeAndIdempotencyKey("scope", "key-1")).thenReturn(committed);
+    }
+
+    private void beginTransactions() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    private ResponseEntity<String> created() {
+        return ResponseEntity.status(HttpStatus.CREATED).body("response-" + calls.incrementAndGet());
+    }
+}
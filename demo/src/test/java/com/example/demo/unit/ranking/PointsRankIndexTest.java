@@ -0,0 +1,147 @@
+package com.example.demo.unit.ranking;
+
+import com.example.demo.dto.RankingEntryResponse;
+import com.example.demo.dto.VolunteerPointsResponse;
+import com.example.demo.dto.VolunteerRankResponse;
+import com.example.demo.event.VolunteerChangedEvent;
+import com.example.demo.ranking.PointsRankIndex;
+import com.example.demo.readmodel.ProjectionSource;
+import com.example.demo.repository.VolunteerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PointsRankIndex Unit Tests")
+class PointsRankIndexTest {
+
+    @Mock
+    private VolunteerRepository volunteerRepository;
+
+    @InjectMocks
+    private PointsRankIndex index;
+
+    private final List<VolunteerPointsResponse> volunteers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(volunteerRepository.findAllPoints()).thenReturn(volunteers);
+    }
+
+    @Test
+    @DisplayName("Should return rank, percentile and neighbours from a single load")
+    void shouldRankOnLoad() {
+        volunteers.add(volunteer(1L, 300));
+        volunteers.add(volunteer(2L, 100));
+        volunteers.add(volunteer(3L, 200));
+        volunteers.add(volunteer(4L, 0));
+        volunteers.add(volunteer(5L, 200));
+
+        VolunteerRankResponse rank = index.rank(5L, 2).orElseThrow();
+
+        assertThat(rank.getPoints()).isEqualTo(200);
+        assertThat(rank.getRank()).isEqualTo(2);
+        assertThat(rank.getTotalVolunteers()).isEqualTo(5);
+        assertThat(rank.getPercentile()).isEqualTo(40.0);
+        assertThat(rank.getAbove()).extracting(RankingEntryResponse::getVolunteerId).containsExactly(1L, 3L);
+        assertThat(rank.getAbove()).extracting(RankingEntryResponse::getRank).containsExactly(1, 2);
+        assertThat(rank.getBelow()).extracting(RankingEntryResponse::getVolunteerId).containsExactly(2L, 4L);
+        assertThat(rank.getBelow()).extracting(RankingEntryResponse::getRank).containsExactly(4, 5);
+        assertThat(rank.getBelow().get(0).getName()).isEqualTo("Volunteer 2");
+
+        assertThat(index.rank(99L, 2)).isEmpty();
+        verify(volunteerRepository, times(1)).findAllPoints();
+    }
+
+    @Test
+    @DisplayName("Should move volunteers as their points change and drop deleted ones")
+    void shouldApplyVolunteerChanges() {
+        volunteers.add(volunteer(1L, 300));
+        volunteers.add(volunteer(2L, 100));
+        index.reload();
+
+        index.onVolunteerChanged(saved(3L, 0));
+        index.onVolunteerChanged(saved(2L, 450));
+        index.onVolunteerChanged(VolunteerChangedEvent.deleted(1L));
+
+        VolunteerRankResponse top = index.rank(2L, 5).orElseThrow();
+        assertThat(top.getRank()).isEqualTo(1);
+        assertThat(top.getTotalVolunteers()).isEqualTo(2);
+        assertThat(top.getPercentile()).isEqualTo(50.0);
+        assertThat(top.getAbove()).isEmpty();
+        assertThat(top.getBelow()).extracting(RankingEntryResponse::getVolunteerId).containsExactly(3L);
+        assertThat(index.rank(1L, 0)).isEmpty();
+        assertThat(index.balance(2L)).contains(450);
+        assertThat(index.balance(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should agree with a full sort for random balances beyond the initial histogram size")
+    void shouldMatchFullSort() {
+        Random random = new Random(42);
+        for (long id = 1; id <= 500; id++) {
+            volunteers.add(volunteer(id, random.nextInt(5000)));
+        }
+        index.reload();
+        for (long id = 1; id <= 100; id++) {
+            int points = random.nextInt(20_000);
+            index.onVolunteerChanged(saved(id, points));
+            volunteers.set((int) id - 1, volunteer(id, points));
+        }
+
+        List<VolunteerPointsResponse> sorted = new ArrayList<>(volunteers);
+        sorted.sort(Comparator.comparing(VolunteerPointsResponse::getTotalPoints).reversed()
+                .thenComparing(VolunteerPointsResponse::getId));
+        for (int position = 0; position < sorted.size(); position += 37) {
+            VolunteerPointsResponse expected = sorted.get(position);
+            int expectedRank = (int) sorted.stream().filter(v -> v.getTotalPoints() > expected.getTotalPoints()).count() + 1;
+
+            VolunteerRankResponse rank = index.rank(expected.getId(), 1).orElseThrow();
+
+            assertThat(rank.getRank()).isEqualTo(expectedRank);
+            if (position > 0) {
+                assertThat(rank.getAbove()).extracting(RankingEntryResponse::getVolunteerId)
+                        .containsExactly(sorted.get(position - 1).getId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should re-read volunteers changed or deleted on another node")
+    void shouldRefreshRemoteChanges() {
+        volunteers.add(volunteer(1L, 100));
+        volunteers.add(volunteer(2L, 50));
+        index.rank(1L, 0);
+        when(volunteerRepository.findPointsById(2L)).thenReturn(Optional.of(volunteer(2L, 500)));
+        when(volunteerRepository.findPointsById(1L)).thenReturn(Optional.empty());
+
+        index.onRemoteChange(ProjectionSource.VOLUNTEER, 2L);
+        index.onRemoteChange(ProjectionSource.VOLUNTEER, 1L);
+
+        assertThat(index.balance(2L)).contains(500);
+        assertThat(index.rank(1L, 0)).isEmpty();
+        assertThat(index.rank(2L, 0).orElseThrow().getTotalVolunteers()).isEqualTo(1);
+    }
+
+    private static VolunteerChangedEvent saved(Long id, int points) {
+        return new VolunteerChangedEvent(VolunteerChangedEvent.ChangeType.SAVED, id, "Volunteer " + id,
+                "volunteer" + id + "@test.com", points);
+    }
+
+    private static VolunteerPointsResponse volunteer(Long id, int points) {
+        return new VolunteerPointsResponse(id, "Volunteer " + id, "volunteer" + id + "@test.com", points);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.demo.unit.ranking;
+
+import com.example.demo.dto.RankingEntryResponse;
+import com.example.demo.event.PointsCreditedEvent;
+import com.example.demo.event.VolunteerChangedEvent;
+import com.example.demo.ranking.RankingWindow;
+import com.example.demo.ranking.WindowedPointsRanking;
+import com.example.demo.repository.ApplicationRepository;
+import com.example.demo.repository.AwardedPointsView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WindowedPointsRanking Unit Tests")
+class WindowedPointsRankingTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 15, 12, 0);
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    private final MutableClock clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+    private final List<AwardedPointsView> awarded = new ArrayList<>();
+    private WindowedPointsRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(applicationRepository.findAllAwardedPoints()).thenReturn(awarded);
+        ranking = new WindowedPointsRanking(applicationRepository, clock);
+    }
+
+    @Test
+    @DisplayName("Should rank each window by the points earned inside it")
+    void shouldRankByWindow() {
+        awarded.add(view(1L, 50, NOW.minusDays(2)));
+        awarded.add(view(2L, 80, NOW.minusDays(20)));
+        awarded.add(view(3L, 30, NOW.minusDays(6)));
+        awarded.add(view(3L, 100, NOW.minusDays(400)));
+
+        assertThat(ranking.top(RankingWindow.WEEK, 10)).extracting(RankingEntryResponse::getVolunteerId)
+                .containsExactly(1L, 3L);
+        assertThat(ranking.top(RankingWindow.MONTH, 10)).extracting(RankingEntryResponse::getVolunteerId)
+                .containsExactly(2L, 1L, 3L);
+        assertThat(ranking.top(RankingWindow.ALL, 10)).extracting(RankingEntryResponse::getPoints)
+                .containsExactly(130, 80, 50);
+
+        RankingEntryResponse first = ranking.top(RankingWindow.WEEK, 1).get(0);
+        assertThat(first.getRank()).isEqualTo(1);
+        assertThat(first.getName()).isEqualTo("Volunteer 1");
+        assertThat(first.getEmail()).isEqualTo("volunteer1@test.com");
+        verify(applicationRepository, times(1)).findAllAwardedPoints();
+    }
+
+    @Test
+    @DisplayName("Should apply credited points and share ranks between ties")
+    void shouldApplyCreditsAndShareTies() {
+        awarded.add(view(1L, 50, NOW.minusDays(1)));
+        ranking.reload();
+
+        ranking.onPointsCredited(credit(2L, 50, NOW));
+        ranking.onPointsCredited(credit(3L, 20, NOW));
+
+        List<RankingEntryResponse> week = ranking.top(RankingWindow.WEEK, 10);
+        assertThat(week).extracting(RankingEntryResponse::getVolunteerId).containsExactly(1L, 2L, 3L);
+        assertThat(week).extracting(RankingEntryResponse::getRank).containsExactly(1, 1, 3);
+
+        ranking.onPointsCredited(credit(3L, 40, NOW));
+        assertThat(ranking.top(RankingWindow.WEEK, 1)).extracting(RankingEntryResponse::getVolunteerId)
+                .containsExactly(3L);
+        assertThat(ranking.top(RankingWindow.ALL, 10)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should drop points from a window once its days have passed")
+    void shouldRollForward() {
+        awarded.add(view(1L, 50, NOW));
+        awarded.add(view(2L, 10, NOW.minusDays(25)));
+        ranking.reload();
+
+        clock.advance(Duration.ofDays(8));
+
+        assertThat(ranking.top(RankingWindow.WEEK, 10)).isEmpty();
+        assertThat(ranking.top(RankingWindow.MONTH, 10)).extracting(RankingEntryResponse::getVolunteerId)
+                .containsExactly(1L);
+        assertThat(ranking.top(RankingWindow.QUARTER, 10)).extracting(RankingEntryResponse::getVolunteerId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should keep compacted buckets counting towards the longer windows")
+    void shouldCompactOldBuckets() {
+        awarded.add(view(1L, 10, NOW.minusDays(60)));
+        awarded.add(view(1L, 15, NOW.minusDays(61)));
+        awarded.add(view(2L, 40, NOW.minusDays(200)));
+        awarded.add(view(3L, 70, NOW.minusDays(500)));
+
+        assertThat(ranking.top(RankingWindow.MONTH, 10)).isEmpty();
+        assertThat(ranking.top(RankingWindow.QUARTER, 10)).extracting(RankingEntryResponse::getPoints)
+                .containsExactly(25);
+        assertThat(ranking.top(RankingWindow.YEAR, 10)).extracting(RankingEntryResponse::getVolunteerId)
+                .containsExactly(2L, 1L);
+        assertThat(ranking.top(RankingWindow.ALL, 10)).extracting(RankingEntryResponse::getVolunteerId)
+                .containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should follow volunteer renames and deletions")
+    void shouldFollowVolunteerChanges() {
+        awarded.add(view(1L, 50, NOW));
+        awarded.add(view(2L, 30, NOW));
+        ranking.reload();
+
+        ranking.onVolunteerChanged(new VolunteerChangedEvent(
+                VolunteerChangedEvent.ChangeType.SAVED, 2L, "Renamed", "renamed@test.com", 30));
+        ranking.onVolunteerChanged(VolunteerChangedEvent.deleted(1L));
+
+        assertThat(ranking.top(RankingWindow.WEEK, 10)).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getVolunteerId()).isEqualTo(2L);
+                    assertThat(entry.getName()).isEqualTo("Renamed");
+                    assertThat(entry.getRank()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("Should reject unknown window parameters")
+    void shouldRejectUnknownWindow() {
+        assertThat(RankingWindow.fromParam("30D")).isEqualTo(RankingWindow.MONTH);
+        assertThatThrownBy(() -> RankingWindow.fromParam("2w"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("7d, 30d, 90d, 365d, all");
+    }
+
+    private static PointsCreditedEvent credit(Long volunteerId, int points, LocalDateTime confirmedAt) {
+        return new PointsCreditedEvent(volunteerId, 100L + volunteerId, 10L, "Opportunity", points, points, confirmedAt);
+    }
+
+    private static AwardedPointsView view(Long volunteerId, int points, LocalDateTime confirmedAt) {
+        return new AwardedPointsView() {
+            public Long getVolunteerId() { return volunteerId; }
+            public String getVolunteerName() { return "Volunteer " + volunteerId; }
+            public String getVolunteerEmail() { return "volunteer" + volunteerId + "@test.com"; }
+            public Integer getPoints() { return points; }
+            public LocalDateTime getConfirmedAt() { return confirmedAt; }
+        };
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
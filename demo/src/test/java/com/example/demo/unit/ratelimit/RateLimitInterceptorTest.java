@@ -0,0 +1,97 @@
+package com.example.demo.unit.ratelimit;
+
+import com.example.demo.exception.ServiceOverloadedException;
+import com.example.demo.exception.TooManyRequestsException;
+import com.example.demo.ratelimit.EndpointRateLimiter;
+import com.example.demo.ratelimit.RateLimitInterceptor;
+import com.example.demo.ratelimit.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RateLimitInterceptor Unit Tests")
+class RateLimitInterceptorTest {
+
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.EndpointClass ranking = new RateLimitProperties.EndpointClass();
+        ranking.setPaths(List.of("/api/volunteers/ranking"));
+        ranking.setCapacity(100);
+        ranking.setPerClientCapacity(1);
+        ranking.setPerClientRefillPerSecond(0.001);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxTrackedClients(2);
+        properties.getClasses().put("ranking", ranking);
+        interceptor = new RateLimitInterceptor(new EndpointRateLimiter(properties));
+    }
+
+    @Test
+    @DisplayName("Should key clients by remote address and ignore a raw X-Forwarded-For header")
+    void shouldIgnoreForwardedForHeader() {
+        MockHttpServletRequest first = request("203.0.113.7");
+        first.addHeader("X-Forwarded-For", "10.0.0.1");
+        assertThat(handle(first)).isTrue();
+
+        MockHttpServletRequest second = request("203.0.113.7");
+        second.addHeader("X-Forwarded-For", "10.0.0.2");
+        assertThatThrownBy(() -> handle(second)).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("Should share one bucket among clients beyond the tracked-client cap")
+    void shouldCapTrackedClients() {
+        assertThat(handle(request("203.0.113.1"))).isTrue();
+        assertThat(handle(request("203.0.113.2"))).isTrue();
+
+        assertThat(handle(request("203.0.113.3"))).isTrue();
+        assertThatThrownBy(() -> handle(request("203.0.113.4")))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessageContaining("Client rate limit");
+    }
+
+    @Test
+    @DisplayName("Should shed a request over the concurrency limit without waiting for a permit")
+    void shouldShedOverConcurrencyLimit() {
+        RateLimitProperties.EndpointClass ranking = new RateLimitProperties.EndpointClass();
+        ranking.setPaths(List.of("/api/volunteers/ranking"));
+        ranking.setMaxConcurrency(2);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getClasses().put("ranking", ranking);
+        interceptor = new RateLimitInterceptor(new EndpointRateLimiter(properties));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletRequest first = request("203.0.113.1");
+        MockHttpServletRequest second = request("203.0.113.2");
+        assertThat(interceptor.preHandle(first, response, new Object())).isTrue();
+        assertThat(interceptor.preHandle(second, response, new Object())).isTrue();
+
+        assertThatThrownBy(() -> interceptor.preHandle(request("203.0.113.3"), response, new Object()))
+                .isInstanceOf(ServiceOverloadedException.class);
+
+        interceptor.afterCompletion(first, response, new Object(), null);
+        assertThat(interceptor.preHandle(request("203.0.113.4"), response, new Object())).isTrue();
+    }
+
+    private boolean handle(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean allowed = interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+        return allowed;
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/volunteers/ranking");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
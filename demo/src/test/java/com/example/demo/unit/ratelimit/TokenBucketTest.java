@@ -0,0 +1,51 @@
+package com.example.demo.unit.ratelimit;
+
+import com.example.demo.ratelimit.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucket Unit Tests")
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity then reject")
+    void shouldAllowBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1, now::get);
+
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refill tokens over time without exceeding capacity")
+    void shouldRefillOverTime() {
+        TokenBucket bucket = new TokenBucket(2, 2, now::get);
+        bucket.tryConsume();
+        bucket.tryConsume();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(bucket.isFull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report seconds until next token")
+    void shouldReportRetryAfter() {
+        TokenBucket bucket = new TokenBucket(1, 0.5, now::get);
+        bucket.tryConsume();
+
+        assertThat(bucket.secondsUntilNextToken()).isEqualTo(2);
+    }
+}
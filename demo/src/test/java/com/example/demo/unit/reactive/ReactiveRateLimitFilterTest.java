@@ -0,0 +1,89 @@
+package com.example.demo.unit.reactive;
+
+import com.example.demo.dto.VolunteerPointsResponse;
+import com.example.demo.ratelimit.EndpointRateLimiter;
+import com.example.demo.ratelimit.RateLimitProperties;
+import com.example.demo.reactive.ReactiveRateLimitFilter;
+import com.example.demo.reactive.ReactiveReadHandler;
+import com.example.demo.reactive.ReactiveReadRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveRateLimitFilter Unit Tests")
+class ReactiveRateLimitFilterTest {
+
+    @Mock
+    private ReactiveReadRepository repository;
+
+    private RateLimitProperties.EndpointClass ranking;
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new RateLimitProperties.EndpointClass();
+        ranking.setPaths(List.of("/api/volunteers/ranking"));
+        properties = new RateLimitProperties();
+        properties.getClasses().put("ranking", ranking);
+        lenient().when(repository.findRanking()).thenReturn(Flux.just(
+                new VolunteerPointsResponse(1L, "Volunteer", "volunteer@example.com", 10)));
+        lenient().when(repository.findAllOpportunities()).thenReturn(Flux.empty());
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once the client bucket is empty")
+    void shouldRejectOverClientLimit() {
+        ranking.setPerClientCapacity(1);
+        ranking.setPerClientRefillPerSecond(0.001);
+        WebTestClient client = client();
+
+        client.get().uri("/api/volunteers/ranking").exchange().expectStatus().isOk();
+        client.get().uri("/api/volunteers/ranking")
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().exists(HttpHeaders.RETRY_AFTER)
+                .expectBody().jsonPath("$.status").isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should release the concurrency permit once the response is written")
+    void shouldReleasePermitAfterResponse() {
+        ranking.setMaxConcurrency(1);
+        WebTestClient client = client();
+
+        for (int i = 0; i < 3; i++) {
+            client.get().uri("/api/volunteers/ranking").exchange().expectStatus().isOk();
+        }
+    }
+
+    @Test
+    @DisplayName("Should pass requests outside every endpoint class straight through")
+    void shouldPassUnlimitedPaths() {
+        ranking.setCapacity(0);
+        WebTestClient client = client();
+
+        client.get().uri("/api/opportunities").exchange().expectStatus().isOk();
+        client.get().uri("/api/volunteers/ranking").exchange().expectStatus().isEqualTo(429);
+    }
+
+    private WebTestClient client() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        ReactiveRateLimitFilter filter = new ReactiveRateLimitFilter(new EndpointRateLimiter(properties), objectMapper);
+        return WebTestClient.bindToRouterFunction(new ReactiveReadHandler(repository).routes())
+                .webFilter(filter)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.unit.reactive;
+
+import com.example.demo.dto.BenefitResponse;
+import com.example.demo.dto.OpportunityResponse;
+import com.example.demo.dto.VolunteerPointsResponse;
+import com.example.demo.entity.Benefit.BenefitCategory;
+import com.example.demo.entity.OpportunityStatus;
+import com.example.demo.reactive.ReactiveReadHandler;
+import com.example.demo.reactive.ReactiveReadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveReadHandler Unit Tests")
+class ReactiveReadHandlerTest {
+
+    @Mock
+    private ReactiveReadRepository repository;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToRouterFunction(new ReactiveReadHandler(repository).routes()).build();
+    }
+
+    @Test
+    @DisplayName("Should write the opportunity listing as a JSON array")
+    void shouldListOpportunitiesAsJsonArray() {
+        when(repository.findAllOpportunities()).thenReturn(Flux.just(opportunity(1L), opportunity(2L)));
+
+        client.get().uri("/api/opportunities")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBodyList(OpportunityResponse.class)
+                .value(list -> assertThat(list).extracting(OpportunityResponse::getId).containsExactly(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should stream one JSON document per line when NDJSON is accepted")
+    void shouldStreamNdjson() {
+        when(repository.findRanking()).thenReturn(Flux.just(
+                new VolunteerPointsResponse(1L, "Maria", "maria@email.com", 500),
+                new VolunteerPointsResponse(2L, "Joao", "joao@email.com", 350)));
+
+        String body = client.get().uri("/api/volunteers/ranking")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        assertThat(body.split("\n")).hasSize(2).allMatch(line -> line.startsWith("{") && line.endsWith("}"));
+    }
+
+    @Test
+    @DisplayName("Should pass the filter criteria to the repository")
+    void shouldFilterOpportunities() {
+        when(repository.filterOpportunities("Environment", "java", 2, null)).thenReturn(Flux.just(opportunity(3L)));
+
+        client.get().uri("/api/opportunities/filter?category=Environment&skills=java&minDuration=2&maxDuration=")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(OpportunityResponse.class).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-numeric duration with 400")
+    void shouldRejectInvalidDuration() {
+        client.get().uri("/api/opportunities/filter?maxDuration=long")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("Invalid value for maxDuration: long");
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should serve the benefit catalog to an existing volunteer")
+    void shouldServeCatalog() {
+        when(repository.volunteerExists(7L)).thenReturn(Mono.just(true));
+        when(repository.findActiveBenefits()).thenReturn(Flux.just(new BenefitResponse(1L, "Cantina", "10% off", 100,
+                BenefitCategory.UA, "UA", null, true, LocalDateTime.of(2026, 1, 1, 9, 0))));
+
+        client.get().uri("/api/benefits/volunteer/7/catalog")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BenefitResponse.class).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should return 404 for the catalog of an unknown volunteer")
+    void shouldReturnNotFoundForUnknownVolunteer() {
+        when(repository.volunteerExists(99L)).thenReturn(Mono.just(false));
+
+        client.get().uri("/api/benefits/volunteer/99/catalog")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Volunteer not found with id: 99");
+
+        verify(repository, never()).findActiveBenefits();
+    }
+
+    private static OpportunityResponse opportunity(Long id) {
+        return new OpportunityResponse(id, "Opportunity " + id, "Description", "Java", "Environment", 4, 10, 50,
+                1L, "Promoter", LocalDateTime.of(2026, 3, 1, 12, 0), OpportunityStatus.OPEN, null);
+    }
+}
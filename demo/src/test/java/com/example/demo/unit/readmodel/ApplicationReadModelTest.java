@@ -0,0 +1,166 @@
+package com.example.demo.unit.readmodel;
+
+import com.example.demo.dto.ApplicationResponse;
+import com.example.demo.entity.ApplicationStatus;
+import com.example.demo.entity.OpportunityStatus;
+import com.example.demo.event.ApplicationChangedEvent;
+import com.example.demo.event.ApplicationStatusChangedEvent;
+import com.example.demo.event.OpportunityChangedEvent;
+import com.example.demo.event.VolunteerChangedEvent;
+import com.example.demo.readmodel.ApplicationReadModel;
+import com.example.demo.repository.ApplicationListingView;
+import com.example.demo.repository.ApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplicationReadModel Unit Tests")
+class ApplicationReadModelTest {
+
+    private static final LocalDateTime APPLIED_AT = LocalDateTime.of(2026, 1, 10, 9, 0);
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @InjectMocks
+    private ApplicationReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(applicationRepository.findAllListingViews()).thenReturn(List.of(
+                view(2L, 1L, 10L, 100L, ApplicationStatus.PENDING),
+                view(1L, 1L, 20L, 100L, ApplicationStatus.ACCEPTED),
+                view(3L, 2L, 10L, 100L, ApplicationStatus.PENDING)));
+    }
+
+    @Test
+    @DisplayName("Should index applications by volunteer, opportunity and promoter from a single load")
+    void shouldIndexOnLoad() {
+        assertThat(readModel.findByVolunteer(1L)).extracting(ApplicationResponse::getId).containsExactly(1L, 2L);
+        assertThat(readModel.findByOpportunity(10L)).extracting(ApplicationResponse::getId).containsExactly(2L, 3L);
+        assertThat(readModel.findByPromoter(100L)).hasSize(3);
+        assertThat(readModel.findByVolunteer(99L)).isEmpty();
+
+        ApplicationResponse response = readModel.findByOpportunity(20L).get(0);
+        assertThat(response.getVolunteerName()).isEqualTo("Volunteer 1");
+        assertThat(response.getOpportunityTitle()).isEqualTo("Opportunity 20");
+        assertThat(response.getOpportunityPoints()).isEqualTo(50);
+        verify(applicationRepository, times(1)).findAllListingViews();
+    }
+
+    @Test
+    @DisplayName("Should patch existing rows in place and fetch only new applications")
+    void shouldApplyApplicationChanges() {
+        readModel.findByVolunteer(1L);
+        when(applicationRepository.findListingViewById(4L))
+                .thenReturn(Optional.of(view(4L, 2L, 20L, 100L, ApplicationStatus.PENDING)));
+
+        readModel.onApplicationChanged(new ApplicationChangedEvent(ApplicationChangedEvent.ChangeType.SAVED,
+                2L, 1L, 10L, ApplicationStatus.ACCEPTED, "motivation", APPLIED_AT, true, 50, APPLIED_AT, 1L));
+        readModel.onApplicationChanged(new ApplicationChangedEvent(ApplicationChangedEvent.ChangeType.SAVED,
+                4L, 2L, 20L, ApplicationStatus.PENDING, "motivation", APPLIED_AT, false, 0, null, 0L));
+        readModel.onApplicationChanged(ApplicationChangedEvent.deleted(1L));
+        readModel.onApplicationStatusChanged(new ApplicationStatusChangedEvent(3L, 2L, 10L, 100L,
+                "Opportunity 10", ApplicationStatus.REJECTED, 1L));
+
+        List<ApplicationResponse> volunteerOne = readModel.findByVolunteer(1L);
+        assertThat(volunteerOne).extracting(ApplicationResponse::getId).containsExactly(2L);
+        assertThat(volunteerOne.get(0).getPointsAwarded()).isEqualTo(50);
+        assertThat(volunteerOne.get(0).getParticipationConfirmed()).isTrue();
+        assertThat(readModel.findByVolunteer(2L)).extracting(ApplicationResponse::getStatus)
+                .containsExactly(ApplicationStatus.REJECTED, ApplicationStatus.PENDING);
+        verify(applicationRepository, never()).findListingViewById(2L);
+    }
+
+    @Test
+    @DisplayName("Should ignore events older than the stored row")
+    void shouldIgnoreStaleEvents() {
+        readModel.findByVolunteer(1L);
+
+        readModel.onApplicationChanged(new ApplicationChangedEvent(ApplicationChangedEvent.ChangeType.SAVED,
+                2L, 1L, 10L, ApplicationStatus.ACCEPTED, "motivation", APPLIED_AT, false, 0, null, 2L));
+        readModel.onApplicationChanged(new ApplicationChangedEvent(ApplicationChangedEvent.ChangeType.SAVED,
+                2L, 1L, 10L, ApplicationStatus.PENDING, "motivation", APPLIED_AT, false, 0, null, 1L));
+        readModel.onApplicationStatusChanged(new ApplicationStatusChangedEvent(2L, 1L, 10L, 100L,
+                "Opportunity 10", ApplicationStatus.REJECTED, 1L));
+
+        assertThat(readModel.findByOpportunity(10L)).extracting(ApplicationResponse::getStatus)
+                .containsExactly(ApplicationStatus.ACCEPTED, ApplicationStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should look up a new application without holding the write lock")
+    void shouldLookUpNewApplicationOutsideWriteLock() {
+        readModel.findByVolunteer(1L);
+        when(applicationRepository.findListingViewById(4L)).thenAnswer(invocation -> {
+            // Another reader only gets through if no write lock is held
+            List<ApplicationResponse> concurrent = CompletableFuture.supplyAsync(() -> readModel.findByVolunteer(1L))
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(concurrent).hasSize(2);
+            return Optional.of(view(4L, 2L, 20L, 100L, ApplicationStatus.PENDING));
+        });
+
+        readModel.onApplicationChanged(new ApplicationChangedEvent(ApplicationChangedEvent.ChangeType.SAVED,
+                4L, 2L, 20L, ApplicationStatus.PENDING, "motivation", APPLIED_AT, false, 0, null, 0L));
+
+        assertThat(readModel.findByVolunteer(2L)).extracting(ApplicationResponse::getId).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should copy volunteer and opportunity changes into their applications")
+    void shouldApplyVolunteerAndOpportunityChanges() {
+        readModel.findByVolunteer(1L);
+
+        readModel.onVolunteerChanged(new VolunteerChangedEvent(VolunteerChangedEvent.ChangeType.SAVED,
+                1L, "Renamed", "renamed@example.com", 0));
+        readModel.onOpportunityChanged(new OpportunityChangedEvent(OpportunityChangedEvent.ChangeType.SAVED,
+                10L, "Environment", "teamwork", 4, OpportunityStatus.OPEN, "Beach Cleanup", 75, null));
+        readModel.onVolunteerChanged(VolunteerChangedEvent.deleted(2L));
+
+        assertThat(readModel.findByVolunteer(1L)).extracting(ApplicationResponse::getVolunteerName)
+                .containsOnly("Renamed");
+        assertThat(readModel.findByOpportunity(10L)).singleElement().satisfies(response -> {
+            assertThat(response.getOpportunityTitle()).isEqualTo("Beach Cleanup");
+            assertThat(response.getOpportunityPoints()).isEqualTo(75);
+            assertThat(response.getVolunteerEmail()).isEqualTo("renamed@example.com");
+        });
+
+        readModel.onOpportunityChanged(OpportunityChangedEvent.deleted(10L));
+        assertThat(readModel.findByPromoter(100L)).extracting(ApplicationResponse::getId).containsExactly(1L);
+    }
+
+    private static ApplicationListingView view(Long id, Long volunteerId, Long opportunityId, Long promoterId,
+                                               ApplicationStatus status) {
+        return new ApplicationListingView() {
+            public Long getId() { return id; }
+            public Long getVolunteerId() { return volunteerId; }
+            public String getVolunteerName() { return "Volunteer " + volunteerId; }
+            public String getVolunteerEmail() { return "volunteer" + volunteerId + "@example.com"; }
+            public Long getOpportunityId() { return opportunityId; }
+            public String getOpportunityTitle() { return "Opportunity " + opportunityId; }
+            public Integer getOpportunityPoints() { return 50; }
+            public Long getPromoterId() { return promoterId; }
+            public ApplicationStatus getStatus() { return status; }
+            public String getMotivation() { return "motivation"; }
+            public LocalDateTime getAppliedAt() { return APPLIED_AT; }
+            public Boolean getParticipationConfirmed() { return false; }
+            public Integer getPointsAwarded() { return 0; }
+            public LocalDateTime getConfirmedAt() { return null; }
+            public Long getVersion() { return 0L; }
+        };
+    }
+}
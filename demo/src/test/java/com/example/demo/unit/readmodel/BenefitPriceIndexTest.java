@@ -0,0 +1,86 @@
+package com.example.demo.unit.readmodel;
+
+import com.example.demo.dto.BenefitResponse;
+import com.example.demo.entity.Benefit;
+import com.example.demo.entity.Benefit.BenefitCategory;
+import com.example.demo.event.BenefitChangedEvent;
+import com.example.demo.readmodel.BenefitPriceIndex;
+import com.example.demo.repository.BenefitRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BenefitPriceIndex Unit Tests")
+class BenefitPriceIndexTest {
+
+    @Mock
+    private BenefitRepository benefitRepository;
+
+    @InjectMocks
+    private BenefitPriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(benefitRepository.findByActiveTrueOrderByPointsRequiredAsc()).thenReturn(List.of(
+                benefit(1L, 100, true), benefit(2L, 250, true), benefit(3L, 100, true), benefit(4L, 500, true)));
+    }
+
+    @Test
+    @DisplayName("Should answer affordability by price from a single load")
+    void shouldAnswerAffordabilityOnLoad() {
+        assertThat(index.affordable(99)).isEmpty();
+        assertThat(index.affordable(100)).extracting(BenefitResponse::getId).containsExactly(1L, 3L);
+        assertThat(index.affordable(499)).extracting(BenefitResponse::getId).containsExactly(1L, 3L, 2L);
+        assertThat(index.affordable(Integer.MAX_VALUE)).hasSize(4);
+        assertThat(index.catalog()).extracting(BenefitResponse::getPointsRequired).containsExactly(100, 100, 250, 500);
+        assertThatThrownBy(() -> index.catalog().clear()).isInstanceOf(UnsupportedOperationException.class);
+        verify(benefitRepository, times(1)).findByActiveTrueOrderByPointsRequiredAsc();
+    }
+
+    @Test
+    @DisplayName("Should swap in a new catalog for created, repriced, deactivated and deleted benefits")
+    void shouldApplyBenefitChanges() {
+        List<BenefitResponse> before = index.catalog();
+
+        index.onBenefitChanged(BenefitChangedEvent.saved(benefit(5L, 150, true)));
+        index.onBenefitChanged(BenefitChangedEvent.saved(benefit(4L, 50, true)));
+        index.onBenefitChanged(BenefitChangedEvent.saved(benefit(2L, 250, false)));
+        index.onBenefitChanged(BenefitChangedEvent.deleted(3L));
+
+        assertThat(index.catalog()).extracting(BenefitResponse::getId).containsExactly(4L, 1L, 5L);
+        assertThat(index.affordable(120)).extracting(BenefitResponse::getId).containsExactly(4L, 1L);
+        assertThat(before).extracting(BenefitResponse::getId).containsExactly(1L, 3L, 2L, 4L);
+        verify(benefitRepository, times(1)).findByActiveTrueOrderByPointsRequiredAsc();
+    }
+
+    @Test
+    @DisplayName("Should ignore changes committed before the first load")
+    void shouldIgnoreChangesBeforeLoad() {
+        index.onBenefitChanged(BenefitChangedEvent.saved(benefit(5L, 150, true)));
+
+        assertThat(index.catalog()).extracting(BenefitResponse::getId).containsExactly(1L, 3L, 2L, 4L);
+    }
+
+    private static Benefit benefit(Long id, int points, boolean active) {
+        Benefit benefit = new Benefit();
+        benefit.setId(id);
+        benefit.setName("Benefit " + id);
+        benefit.setDescription("Description");
+        benefit.setPointsRequired(points);
+        benefit.setCategory(BenefitCategory.PARTNER);
+        benefit.setProvider("Provider");
+        benefit.setActive(active);
+        return benefit;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.unit.readmodel;
+
+import com.example.demo.cache.InMemoryCacheInvalidationBus;
+import com.example.demo.cache.InMemorySharedCacheStore;
+import com.example.demo.cache.TwoLevelCacheManager;
+import com.example.demo.entity.ApplicationStatus;
+import com.example.demo.event.ApplicationStatusChangedEvent;
+import com.example.demo.event.OpportunityChangedEvent;
+import com.example.demo.readmodel.CommittedEventProjection;
+import com.example.demo.readmodel.ProjectionChangeRelay;
+import com.example.demo.readmodel.ProjectionSource;
+import com.example.demo.search.OpportunityFacetIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ProjectionChangeRelay Unit Tests")
+class ProjectionChangeRelayTest {
+
+    private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node(bus);
+        nodeB = new Node(bus);
+    }
+
+    @Test
+    @DisplayName("Should have other nodes re-read a committed change")
+    void shouldRelayToOtherNodes() {
+        nodeA.relay.onOpportunityChanged(OpportunityChangedEvent.deleted(7L));
+
+        verify(nodeB.projection).onRemoteChange(ProjectionSource.OPPORTUNITY, 7L);
+        verify(nodeA.projection, never()).onRemoteChange(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should relay bulk status changes as application changes")
+    void shouldRelayBulkStatusChanges() {
+        nodeA.relay.onApplicationStatusChanged(new ApplicationStatusChangedEvent(4L, 1L, 2L, 3L, "Opportunity",
+                ApplicationStatus.ACCEPTED, 1L));
+
+        verify(nodeB.projection).onRemoteChange(ProjectionSource.APPLICATION, 4L);
+    }
+
+    private static final class Node {
+
+        final CommittedEventProjection projection = mock(OpportunityFacetIndex.class);
+        final ProjectionChangeRelay relay;
+
+        Node(InMemoryCacheInvalidationBus bus) {
+            TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(new InMemorySharedCacheStore(), bus,
+                    List.of(), Duration.ofMinutes(1), 10);
+            relay = new ProjectionChangeRelay(cacheManager, bus, List.of(projection));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.unit.search;
+
+import com.example.demo.entity.OpportunityStatus;
+import com.example.demo.event.OpportunityChangedEvent;
+import com.example.demo.snapshot.OpportunitySnapshotLoader;
+import com.example.demo.search.OpportunityColumnStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpportunityColumnStore Unit Tests")
+class OpportunityColumnStoreTest {
+
+    @Mock
+    private OpportunitySnapshotLoader snapshotLoader;
+
+    @InjectMocks
+    private OpportunityColumnStore columnStore;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, "Environment", "Java, Teamwork", 1, OpportunityStatus.OPEN});
+        rows.add(new Object[]{2L, "environment", "teamwork", 5, OpportunityStatus.OPEN});
+        rows.add(new Object[]{3L, "Social", "Cooking", 40, OpportunityStatus.CONCLUDED});
+        lenient().when(snapshotLoader.loadFacetFields()).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("Should match category case-insensitively and duration bounds inclusively")
+    void shouldFilterByCategoryAndDuration() {
+        assertThat(columnStore.filter(" ENVIRONMENT ", null, null, null)).containsExactly(1L, 2L);
+        assertThat(columnStore.filter(null, null, 1, 5)).containsExactly(1L, 2L);
+        assertThat(columnStore.filter(null, null, 6, null)).containsExactly(3L);
+        assertThat(columnStore.filter("", "", null, null)).containsExactly(1L, 2L, 3L);
+        assertThat(columnStore.filter("Health", null, null, null)).isEmpty();
+        verify(snapshotLoader, times(1)).loadFacetFields();
+    }
+
+    @Test
+    @DisplayName("Should match skills by substring of any tag")
+    void shouldFilterBySkillSubstring() {
+        assertThat(columnStore.filter(null, "team", null, null)).containsExactly(1L, 2L);
+        assertThat(columnStore.filter(null, "JAVA", null, null)).containsExactly(1L);
+        assertThat(columnStore.filter(null, "rust", null, null)).isEmpty();
+        assertThat(columnStore.canFilter("java, teamwork")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should apply committed changes and keep rows compact after deletes")
+    void shouldApplyChangesIncrementally() {
+        columnStore.size();
+
+        columnStore.onOpportunityChanged(new OpportunityChangedEvent(OpportunityChangedEvent.ChangeType.SAVED,
+                2L, "Health", "First aid", 2, OpportunityStatus.OPEN, "Opportunity", 10, null));
+        columnStore.onOpportunityChanged(new OpportunityChangedEvent(OpportunityChangedEvent.ChangeType.SAVED,
+                4L, "Environment", "teamwork", 3, OpportunityStatus.OPEN, "Opportunity", 10, null));
+        columnStore.onOpportunityChanged(OpportunityChangedEvent.deleted(1L));
+
+        assertThat(columnStore.size()).isEqualTo(3);
+        assertThat(columnStore.filter("environment", "teamwork", null, null)).containsExactly(4L);
+        assertThat(columnStore.filter("health", "aid", 2, 2)).containsExactly(2L);
+        assertThat(columnStore.filter(null, "java", null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep matching after the skill dictionary outgrows one word per row")
+    void shouldWidenSkillBitsets() {
+        columnStore.size();
+        for (long id = 10; id < 210; id++) {
+            columnStore.onOpportunityChanged(new OpportunityChangedEvent(OpportunityChangedEvent.ChangeType.SAVED,
+                    id, "Tech", "skill-" + id + ", shared", 1, OpportunityStatus.OPEN, "Opportunity", 10, null));
+        }
+
+        assertThat(columnStore.filter(null, "skill-209", null, null)).containsExactly(209L);
+        assertThat(columnStore.filter("tech", "shared", null, null)).hasSize(200);
+        assertThat(columnStore.filter(null, "cooking", null, null)).containsExactly(3L);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.demo.unit.search;
+
+import com.example.demo.dto.OpportunityFacetsResponse;
+import com.example.demo.entity.OpportunityStatus;
+import com.example.demo.event.OpportunityChangedEvent;
+import com.example.demo.readmodel.ProjectionSource;
+import com.example.demo.snapshot.OpportunitySnapshotLoader;
+import com.example.demo.search.OpportunityFacetIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpportunityFacetIndex Unit Tests")
+class OpportunityFacetIndexTest {
+
+    private static final LocalDateTime LOADED_AT = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Mock
+    private OpportunitySnapshotLoader snapshotLoader;
+
+    @InjectMocks
+    private OpportunityFacetIndex facetIndex;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, "Environment", "Java, Teamwork", 1, OpportunityStatus.OPEN, LOADED_AT.minusDays(1)});
+        rows.add(new Object[]{2L, "Environment", "teamwork", 5, OpportunityStatus.OPEN, LOADED_AT});
+        rows.add(new Object[]{3L, "Social", "Cooking", 40, OpportunityStatus.CONCLUDED, null});
+        lenient().when(snapshotLoader.loadFacetFields()).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("Should count opportunities per facet from a single load")
+    void shouldCountFacetsOnLoad() {
+        OpportunityFacetsResponse facets = facetIndex.getFacets();
+        facetIndex.getFacets();
+
+        assertThat(facets.getTotal()).isEqualTo(3);
+        assertThat(facets.getCategories()).containsEntry("Environment", 2L).containsEntry("Social", 1L);
+        assertThat(facets.getSkills()).containsEntry("teamwork", 2L).containsEntry("java", 1L);
+        assertThat(facets.getDurations()).containsEntry("1", 1L).containsEntry("2-7", 1L).containsEntry("31+", 1L);
+        assertThat(facets.getStatuses()).containsEntry("OPEN", 2L).containsEntry("CONCLUDED", 1L);
+        verify(snapshotLoader, times(1)).loadFacetFields();
+    }
+
+    @Test
+    @DisplayName("Should move counts when an opportunity changes and drop empty facets")
+    void shouldApplyChangesIncrementally() {
+        facetIndex.getFacets();
+
+        facetIndex.onOpportunityChanged(new OpportunityChangedEvent(OpportunityChangedEvent.ChangeType.SAVED,
+                3L, "Health", "Cooking", 40, OpportunityStatus.CONCLUDED, "Opportunity", 10, null));
+        facetIndex.onOpportunityChanged(new OpportunityChangedEvent(OpportunityChangedEvent.ChangeType.SAVED,
+                4L, "Health", "First aid", 2, OpportunityStatus.OPEN, "Opportunity", 10, null));
+        facetIndex.onOpportunityChanged(OpportunityChangedEvent.deleted(1L));
+
+        OpportunityFacetsResponse facets = facetIndex.getFacets();
+        assertThat(facets.getTotal()).isEqualTo(3);
+        assertThat(facets.getCategories()).containsOnlyKeys("Environment", "Health");
+        assertThat(facets.getCategories()).containsEntry("Health", 2L);
+        assertThat(facets.getSkills()).doesNotContainKey("java").containsEntry("first aid", 1L);
+        assertThat(facetIndex.getCategories()).containsExactly("Environment", "Health");
+    }
+
+    @Test
+    @DisplayName("Should export normalized rows only once loaded")
+    void shouldExportRowsOnceLoaded() {
+        assertThat(facetIndex.exportSnapshot()).isEmpty();
+
+        facetIndex.getFacets();
+
+        assertThat(facetIndex.exportSnapshot()).hasValueSatisfying(snapshot -> assertThat(snapshot.rows())
+                .hasSize(3)
+                .anySatisfy(row -> assertThat(row)
+                        .containsExactly(1L, "Environment", "java,teamwork", 1, OpportunityStatus.OPEN)));
+    }
+
+    @Test
+    @DisplayName("Should stamp the export with the newest change the index applied")
+    void shouldStampExportWithAppliedWatermark() {
+        facetIndex.getFacets();
+        assertThat(facetIndex.exportSnapshot().orElseThrow().watermark()).isEqualTo(LOADED_AT);
+
+        facetIndex.onOpportunityChanged(new OpportunityChangedEvent(OpportunityChangedEvent.ChangeType.SAVED,
+                4L, "Health", "First aid", 2, OpportunityStatus.OPEN, "Opportunity", 10, LOADED_AT.plusMinutes(5)));
+        facetIndex.onOpportunityChanged(OpportunityChangedEvent.deleted(2L));
+
+        assertThat(facetIndex.exportSnapshot().orElseThrow().watermark()).isEqualTo(LOADED_AT.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should ignore events received before the index is loaded")
+    void shouldIgnoreEventsBeforeLoad() {
+        facetIndex.onOpportunityChanged(new OpportunityChangedEvent(OpportunityChangedEvent.ChangeType.SAVED,
+                9L, "Ignored", "x", 1, OpportunityStatus.OPEN, "Opportunity", 10, null));
+
+        assertThat(facetIndex.getFacets().getCategories()).doesNotContainKey("Ignored");
+    }
+
+    @Test
+    @DisplayName("Should re-read an opportunity changed on another node")
+    void shouldRefreshRemoteChange() {
+        facetIndex.getFacets();
+        List<Object[]> changed = new ArrayList<>();
+        changed.add(new Object[]{3L, "Education", "Teaching", 40, OpportunityStatus.OPEN, LOADED_AT.plusHours(1)});
+        when(snapshotLoader.loadFacetFields(List.of(3L))).thenReturn(changed);
+
+        facetIndex.onRemoteChange(ProjectionSource.OPPORTUNITY, 3L);
+        facetIndex.onRemoteChange(ProjectionSource.VOLUNTEER, 1L);
+
+        OpportunityFacetsResponse facets = facetIndex.getFacets();
+        assertThat(facets.getCategories()).containsEntry("Education", 1L).doesNotContainKey("Social");
+        assertThat(facets.getStatuses()).containsEntry("OPEN", 3L).doesNotContainKey("CONCLUDED");
+        verify(snapshotLoader, never()).loadFacetFields(List.of(1L));
+    }
+}
@@ -1,14 +1,20 @@
 package com.example.demo.unit.service;
 
 import com.example.demo.dto.ApplicationResponse;
+import com.example.demo.dto.BatchApplicationStatusRequest;
+import com.example.demo.dto.BatchApplicationStatusResponse;
 import com.example.demo.dto.CreateApplicationRequest;
 import com.example.demo.entity.*;
+import com.example.demo.event.ApplicationStatusChangedEvent;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.readmodel.ApplicationReadModel;
 import com.example.demo.repository.ApplicationRepository;
+import com.example.demo.repository.ApplicationStatusView;
 import com.example.demo.repository.OpportunityRepository;
 import com.example.demo.repository.PromoterRepository;
 import com.example.demo.repository.VolunteerRepository;
 import com.example.demo.service.ApplicationService;
+import com.example.demo.service.VacancyReservationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -47,6 +54,15 @@ class ApplicationServiceTest {
     @Mock
     private PromoterRepository promoterRepository;
 
+    @Mock
+    private VacancyReservationService vacancyReservationService;
+
+    @Mock
+    private ApplicationReadModel applicationReadModel;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ApplicationService applicationService;
 
@@ -106,6 +122,17 @@ class ApplicationServiceTest {
         verify(applicationRepository).save(any(Application.class));
     }
 
+    @Test
+    @DisplayName("Should reject applications to opportunities of a promoter being deleted")
+    void shouldRejectApplicationToDeletedPromoter() {
+        opportunity.getPromoter().setDeletedAt(LocalDateTime.now());
+        when(opportunityRepository.findById(1L)).thenReturn(Optional.of(opportunity));
+
+        assertThatThrownBy(() -> applicationService.createApplication(createRequest))
+                .isInstanceOf(IllegalStateException.class);
+        verify(applicationRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Should fail for duplicate application")
     void shouldFailForDuplicateApplication() {
@@ -131,11 +158,13 @@ class ApplicationServiceTest {
     @DisplayName("Should get applications by opportunity")
     void shouldGetApplicationsByOpportunity() {
         when(opportunityRepository.existsById(1L)).thenReturn(true);
-        when(applicationRepository.findByOpportunityId(1L)).thenReturn(Collections.singletonList(application));
+        when(applicationReadModel.findByOpportunity(1L))
+                .thenReturn(Collections.singletonList(ApplicationResponse.fromEntity(application)));
 
         List<ApplicationResponse> responses = applicationService.getApplicationsByOpportunity(1L);
 
         assertThat(responses).hasSize(1);
+        verify(applicationRepository, never()).findByOpportunityId(anyLong());
     }
 
     @Test
@@ -148,6 +177,35 @@ class ApplicationServiceTest {
 
         assertThat(response).isNotNull();
         verify(applicationRepository).save(any(Application.class));
+        verify(eventPublisher).publishEvent(any(ApplicationStatusChangedEvent.class));
+        verify(vacancyReservationService).reserve(1L, 1);
+    }
+
+    @Test
+    @DisplayName("Should not accept application when opportunity is full")
+    void shouldNotAcceptWhenOpportunityFull() {
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(application));
+        doThrow(new IllegalStateException("No vacancies left for opportunity 1"))
+                .when(vacancyReservationService).reserve(1L, 1);
+
+        assertThatThrownBy(() -> applicationService.updateApplicationStatus(1L, ApplicationStatus.ACCEPTED))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(application.getStatus()).isEqualTo(ApplicationStatus.PENDING);
+        verify(applicationRepository, never()).save(any(Application.class));
+    }
+
+    @Test
+    @DisplayName("Should release vacancy when accepted application is rejected")
+    void shouldReleaseVacancyWhenAcceptedApplicationRejected() {
+        application.setStatus(ApplicationStatus.ACCEPTED);
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(application));
+        when(applicationRepository.save(any(Application.class))).thenReturn(application);
+
+        applicationService.updateApplicationStatus(1L, ApplicationStatus.REJECTED);
+
+        verify(vacancyReservationService).release(1L, 1);
+        verify(vacancyReservationService, never()).reserve(anyLong(), anyInt());
     }
 
     @Test
@@ -158,4 +216,84 @@ class ApplicationServiceTest {
         assertThatThrownBy(() -> applicationService.getApplicationById(999L))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("Should apply batch status changes with one update per transition")
+    void shouldApplyBatchStatusChanges() {
+        when(applicationRepository.findStatusViewsByIdIn(any())).thenReturn(List.of(
+                statusView(1L, ApplicationStatus.PENDING, 10L, 1L),
+                statusView(2L, ApplicationStatus.PENDING, 10L, 1L),
+                statusView(3L, ApplicationStatus.PENDING, 10L, 1L),
+                statusView(4L, ApplicationStatus.ACCEPTED, 10L, 1L)));
+        when(applicationRepository.updateStatusByIdIn(List.of(1L, 2L), ApplicationStatus.PENDING, ApplicationStatus.ACCEPTED))
+                .thenReturn(2);
+        when(applicationRepository.updateStatusByIdIn(List.of(3L), ApplicationStatus.PENDING, ApplicationStatus.REJECTED))
+                .thenReturn(1);
+
+        BatchApplicationStatusResponse response = applicationService.updateApplicationStatuses(batchRequest(1L,
+                update(1L, ApplicationStatus.ACCEPTED),
+                update(2L, ApplicationStatus.ACCEPTED),
+                update(3L, ApplicationStatus.REJECTED),
+                update(4L, ApplicationStatus.ACCEPTED)));
+
+        assertThat(response.getRequested()).isEqualTo(4);
+        assertThat(response.getUpdated()).isEqualTo(3);
+        assertThat(response.getUnchanged()).isEqualTo(1);
+        assertThat(response.getUpdatedByStatus())
+                .containsEntry(ApplicationStatus.ACCEPTED, 2)
+                .containsEntry(ApplicationStatus.REJECTED, 1);
+        verify(vacancyReservationService).reserve(10L, 2);
+        verify(eventPublisher, times(3)).publishEvent(any(ApplicationStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject batch containing applications of another promoter")
+    void shouldRejectBatchForForeignApplications() {
+        when(applicationRepository.findStatusViewsByIdIn(any())).thenReturn(List.of(
+                statusView(1L, ApplicationStatus.PENDING, 10L, 1L),
+                statusView(2L, ApplicationStatus.PENDING, 20L, 2L)));
+
+        assertThatThrownBy(() -> applicationService.updateApplicationStatuses(batchRequest(1L,
+                update(1L, ApplicationStatus.ACCEPTED),
+                update(2L, ApplicationStatus.ACCEPTED))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("application 2");
+
+        verify(applicationRepository, never()).updateStatusByIdIn(any(), any(), any());
+        verifyNoInteractions(vacancyReservationService);
+    }
+
+    @Test
+    @DisplayName("Should reject batch referencing unknown applications")
+    void shouldRejectBatchWithUnknownApplications() {
+        when(applicationRepository.findStatusViewsByIdIn(any())).thenReturn(List.of(
+                statusView(1L, ApplicationStatus.PENDING, 10L, 1L)));
+
+        assertThatThrownBy(() -> applicationService.updateApplicationStatuses(batchRequest(1L,
+                update(1L, ApplicationStatus.ACCEPTED),
+                update(99L, ApplicationStatus.ACCEPTED))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+
+    private static BatchApplicationStatusRequest batchRequest(Long promoterId,
+                                                              BatchApplicationStatusRequest.StatusUpdate... updates) {
+        return new BatchApplicationStatusRequest(promoterId, List.of(updates));
+    }
+
+    private static BatchApplicationStatusRequest.StatusUpdate update(Long applicationId, ApplicationStatus status) {
+        return new BatchApplicationStatusRequest.StatusUpdate(applicationId, status);
+    }
+
+    private static ApplicationStatusView statusView(Long id, ApplicationStatus status, Long opportunityId, Long promoterId) {
+        return new ApplicationStatusView() {
+            public Long getId() { return id; }
+            public ApplicationStatus getStatus() { return status; }
+            public Long getVersion() { return 0L; }
+            public Long getVolunteerId() { return id; }
+            public Long getOpportunityId() { return opportunityId; }
+            public String getOpportunityTitle() { return "Opportunity " + opportunityId; }
+            public Long getPromoterId() { return promoterId; }
+        };
+    }
 }
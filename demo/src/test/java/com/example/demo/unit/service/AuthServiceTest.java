@@ -7,6 +7,7 @@ import com.example.demo.entity.User;
 import com.example.demo.entity.UserType;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.service.AuthService;
+import com.example.demo.writebehind.LastLoginWriteBehind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,11 +16,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +32,9 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private LastLoginWriteBehind lastLoginWriteBehind;
+
     @InjectMocks
     private AuthService authService;
 
@@ -89,12 +95,13 @@ class AuthServiceTest {
     void shouldLoginSuccessfully() {
         user.setPassword(hashPassword("password123"));
         when(userRepository.findByEmailAndActiveTrue("test@example.com")).thenReturn(Optional.of(user));
-        when(userRepository.save(any(User.class))).thenReturn(user);
 
         AuthResponse response = authService.login(loginRequest);
 
         assertThat(response.isSuccess()).isTrue();
         assertThat(response.getEmail()).isEqualTo("test@example.com");
+        verify(lastLoginWriteBehind).touch(eq(1L), any(LocalDateTime.class));
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
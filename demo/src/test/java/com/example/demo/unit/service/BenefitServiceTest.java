@@ -6,6 +6,7 @@ import com.example.demo.entity.Benefit;
 import com.example.demo.entity.Benefit.BenefitCategory;
 import com.example.demo.entity.Volunteer;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.readmodel.BenefitPriceIndex;
 import com.example.demo.repository.BenefitRepository;
 import com.example.demo.repository.VolunteerRepository;
 import com.example.demo.service.BenefitService;
@@ -24,6 +25,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +35,9 @@ class BenefitServiceTest {
     @Mock
     private BenefitRepository benefitRepository;
 
+    @Mock
+    private BenefitPriceIndex benefitPriceIndex;
+
     @Mock
     private VolunteerRepository volunteerRepository;
 
@@ -99,14 +104,25 @@ class BenefitServiceTest {
         Volunteer volunteer = new Volunteer();
         volunteer.setId(1L);
         volunteer.setTotalPoints(150);
-
         when(volunteerRepository.findById(1L)).thenReturn(Optional.of(volunteer));
-        when(benefitRepository.findByPointsRequiredLessThanEqualAndActiveTrue(150))
-                .thenReturn(Arrays.asList(benefit));
+        when(benefitPriceIndex.affordable(150)).thenReturn(List.of(BenefitResponse.fromEntity(benefit)));
 
         List<BenefitResponse> responses = benefitService.getAffordableBenefitsForVolunteer(1L);
 
         assertThat(responses).hasSize(1);
+        verifyNoInteractions(benefitRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject catalog and affordable lookups for unknown volunteers")
+    void shouldRejectUnknownVolunteer() {
+        when(volunteerRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> benefitService.getAffordableBenefitsForVolunteer(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> benefitService.getCatalogForVolunteer(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(benefitPriceIndex);
     }
 
     @Test
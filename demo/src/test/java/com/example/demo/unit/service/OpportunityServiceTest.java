@@ -2,12 +2,17 @@ package com.example.demo.unit.service;
 
 import com.example.demo.dto.*;
 import com.example.demo.entity.*;
+import com.example.demo.event.PointsCreditedEvent;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.ApplicationRepository;
 import com.example.demo.repository.OpportunityRepository;
 import com.example.demo.repository.PromoterRepository;
 import com.example.demo.repository.VolunteerRepository;
+import com.example.demo.search.OpportunityColumnStore;
+import com.example.demo.search.OpportunityFacetIndex;
 import com.example.demo.service.OpportunityService;
+import com.example.demo.service.VacancyReservationService;
+import com.example.demo.service.VolunteerStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -42,6 +48,21 @@ class OpportunityServiceTest {
     @Mock
     private VolunteerRepository volunteerRepository;
 
+    @Mock
+    private VacancyReservationService vacancyReservationService;
+
+    @Mock
+    private OpportunityFacetIndex opportunityFacetIndex;
+
+    @Mock
+    private OpportunityColumnStore opportunityColumnStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private VolunteerStatsService volunteerStatsService;
+
     @InjectMocks
     private OpportunityService opportunityService;
 
@@ -83,7 +104,7 @@ class OpportunityServiceTest {
     @Test
     @DisplayName("Should create opportunity successfully")
     void shouldCreateOpportunitySuccessfully() {
-        when(promoterRepository.findById(1L)).thenReturn(Optional.of(promoter));
+        when(promoterRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(promoter));
         //gravação funciona?
         when(opportunityRepository.save(any(Opportunity.class))).thenAnswer(invocation -> {
             Opportunity o = invocation.getArgument(0);
@@ -119,7 +140,7 @@ class OpportunityServiceTest {
     @Test
     @DisplayName("Should get all opportunities")
     void shouldGetAllOpportunities() {
-        when(opportunityRepository.findAll()).thenReturn(Collections.singletonList(opportunity));
+        when(opportunityRepository.findAllResponses()).thenReturn(Collections.singletonList(OpportunityResponse.fromEntity(opportunity)));
 
         List<OpportunityResponse> responses = opportunityService.getAllOpportunities();
 
@@ -129,8 +150,9 @@ class OpportunityServiceTest {
     @Test
     @DisplayName("Should get opportunities by promoter")
     void shouldGetOpportunitiesByPromoter() {
-        when(promoterRepository.existsById(1L)).thenReturn(true);
-        when(opportunityRepository.findByPromoterId(1L)).thenReturn(Collections.singletonList(opportunity));
+        when(promoterRepository.existsByIdAndDeletedAtIsNull(1L)).thenReturn(true);
+        when(opportunityRepository.findResponsesByPromoterId(1L))
+                .thenReturn(Collections.singletonList(OpportunityResponse.fromEntity(opportunity)));
 
         List<OpportunityResponse> responses = opportunityService.getOpportunitiesByPromoter(1L);
 
@@ -222,16 +244,37 @@ class OpportunityServiceTest {
         assertThat(responses).hasSize(1);
     }
 
+    @Test
+    @DisplayName("Should answer filters from the column store and fetch matches by id")
+    void shouldFilterThroughColumnStore() {
+        Opportunity other = new Opportunity();
+        other.setId(2L);
+        other.setTitle("Other");
+        other.setPromoter(promoter);
+        other.setStatus(OpportunityStatus.OPEN);
+        when(opportunityColumnStore.canFilter("teamwork")).thenReturn(true);
+        when(opportunityColumnStore.filter("Environment", "teamwork", 2, 6)).thenReturn(new long[]{1L, 2L});
+        when(opportunityRepository.findResponsesByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                OpportunityResponse.fromEntity(other), OpportunityResponse.fromEntity(opportunity)));
+
+        List<OpportunityResponse> responses =
+                opportunityService.filterOpportunitiesByParams("Environment", "teamwork", 2, 6);
+
+        assertThat(responses).extracting(OpportunityResponse::getId).containsExactly(1L, 2L);
+        verify(opportunityRepository, never()).findAll(any(org.springframework.data.jpa.domain.Specification.class));
+    }
+
     //Este teste verifica a listagem de todas as categorias de oportunidades existentes.
     @Test
     @DisplayName("Given existing opportunities when getting all categories then return categories")
     void givenExistingOpportunities_whenGettingAllCategories_thenReturnCategories() {
-        when(opportunityRepository.findAllCategories()).thenReturn(List.of("Environment", "Education"));
+        when(opportunityFacetIndex.getCategories()).thenReturn(List.of("Environment", "Education"));
 
         List<String> categories = opportunityService.getAllCategories();
 
         assertThat(categories).hasSize(2);
         assertThat(categories).contains("Environment", "Education");
+        verifyNoInteractions(opportunityRepository);
     }
 
     //Este teste verifica a atualização de uma oportunidade existente
@@ -256,6 +299,21 @@ class OpportunityServiceTest {
         verify(opportunityRepository).save(any(Opportunity.class));
     }
 
+    //Este teste verifica que as vagas não podem ficar abaixo das candidaturas já aceites
+    @Test
+    @DisplayName("Given vacancies below accepted count when updating opportunity then throw exception")
+    void givenVacanciesBelowAcceptedCount_whenUpdating_thenThrowException() {
+        UpdateOpportunityRequest updateRequest = new UpdateOpportunityRequest("Beach Cleanup", "Description",
+                "teamwork", "Environment", 4, 2, 50);
+        when(opportunityRepository.findById(1L)).thenReturn(Optional.of(opportunity));
+        when(opportunityRepository.lockAcceptedCount(1L)).thenReturn(3);
+
+        assertThatThrownBy(() -> opportunityService.updateOpportunity(1L, updateRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("3 applications already accepted");
+        verify(opportunityRepository, never()).save(any(Opportunity.class));
+    }
+
     //Este teste verifica que ao tentar atualizar uma oportunidade inexistente é lançada uma exceção
     @Test
     @DisplayName("Given non-existent ID when updating opportunity then throw exception")
@@ -339,6 +397,8 @@ class OpportunityServiceTest {
 
         assertThat(response).isNotNull();
         verify(volunteerRepository).save(any(Volunteer.class));
+        verify(eventPublisher).publishEvent(any(PointsCreditedEvent.class));
+        verify(volunteerStatsService).recordPointsEarned(eq(1L), anyInt());
     }
 
     //Este teste verifica que apenas o promotor que criou a oportunidade pode confirmar participações
@@ -393,8 +453,8 @@ class OpportunityServiceTest {
     @Test
     @DisplayName("Given valid status when getting opportunities by status then return filtered list")
     void givenValidStatus_whenGettingOpportunitiesByStatus_thenReturnFilteredList() {
-        when(opportunityRepository.findByStatus(OpportunityStatus.OPEN))
-                .thenReturn(Collections.singletonList(opportunity));
+        when(opportunityRepository.findResponsesByStatus(OpportunityStatus.OPEN))
+                .thenReturn(Collections.singletonList(OpportunityResponse.fromEntity(opportunity)));
 
         List<OpportunityResponse> responses = opportunityService.getOpportunitiesByStatus(OpportunityStatus.OPEN);
 
@@ -405,7 +465,7 @@ class OpportunityServiceTest {
     @Test
     @DisplayName("Given valid promoter and status when getting opportunities then return filtered list")
     void givenValidPromoterAndStatus_whenGettingOpportunities_thenReturnFilteredList() {
-        when(promoterRepository.existsById(1L)).thenReturn(true);
+        when(promoterRepository.existsByIdAndDeletedAtIsNull(1L)).thenReturn(true);
         when(opportunityRepository.findByPromoterIdAndStatus(1L, OpportunityStatus.OPEN))
                 .thenReturn(Collections.singletonList(opportunity));
 
@@ -419,7 +479,7 @@ class OpportunityServiceTest {
     @Test
     @DisplayName("Given non-existent promoter when getting opportunities by status then throw exception")
     void givenNonExistentPromoter_whenGettingOpportunitiesByStatus_thenThrowException() {
-        when(promoterRepository.existsById(999L)).thenReturn(false);
+        when(promoterRepository.existsByIdAndDeletedAtIsNull(999L)).thenReturn(false);
 
         assertThatThrownBy(() -> opportunityService.getOpportunitiesByPromoterAndStatus(999L, OpportunityStatus.OPEN))
                 .isInstanceOf(ResourceNotFoundException.class);
@@ -452,7 +512,7 @@ class OpportunityServiceTest {
     @Test
     @DisplayName("Given valid promoter ID when counting concluded opportunities then return count")
     void givenValidPromoterId_whenCountingConcludedOpportunities_thenReturnCount() {
-        when(promoterRepository.existsById(1L)).thenReturn(true);
+        when(promoterRepository.existsByIdAndDeletedAtIsNull(1L)).thenReturn(true);
         when(opportunityRepository.countByPromoterIdAndStatus(1L, OpportunityStatus.CONCLUDED)).thenReturn(5L);
 
         long count = opportunityService.countConcludedOpportunitiesByPromoter(1L);
@@ -464,7 +524,7 @@ class OpportunityServiceTest {
     @Test
     @DisplayName("Given non-existent promoter when counting concluded opportunities then throw exception")
     void givenNonExistentPromoter_whenCountingConcludedOpportunities_thenThrowException() {
-        when(promoterRepository.existsById(999L)).thenReturn(false);
+        when(promoterRepository.existsByIdAndDeletedAtIsNull(999L)).thenReturn(false);
 
         assertThatThrownBy(() -> opportunityService.countConcludedOpportunitiesByPromoter(999L))
                 .isInstanceOf(ResourceNotFoundException.class);
@@ -474,7 +534,7 @@ class OpportunityServiceTest {
     @Test
     @DisplayName("Given non-existent promoter when creating opportunity then throw exception")
     void givenNonExistentPromoter_whenCreatingOpportunity_thenThrowException() {
-        when(promoterRepository.findById(999L)).thenReturn(Optional.empty());
+        when(promoterRepository.findByIdAndDeletedAtIsNull(999L)).thenReturn(Optional.empty());
         createRequest.setPromoterId(999L);
 
         assertThatThrownBy(() -> opportunityService.createOpportunity(createRequest))
@@ -485,7 +545,7 @@ class OpportunityServiceTest {
     @Test
     @DisplayName("Given non-existent promoter when getting opportunities by promoter then throw exception")
     void givenNonExistentPromoter_whenGettingOpportunitiesByPromoter_thenThrowException() {
-        when(promoterRepository.existsById(999L)).thenReturn(false);
+        when(promoterRepository.existsByIdAndDeletedAtIsNull(999L)).thenReturn(false);
 
         assertThatThrownBy(() -> opportunityService.getOpportunitiesByPromoter(999L))
                 .isInstanceOf(ResourceNotFoundException.class);
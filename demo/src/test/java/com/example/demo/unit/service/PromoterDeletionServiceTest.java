@@ -0,0 +1,106 @@
+package com.example.demo.unit.service;
+
+import com.example.demo.cache.CacheNames;
+import com.example.demo.cache.EntityCacheInvalidator;
+import com.example.demo.event.ApplicationChangedEvent;
+import com.example.demo.event.OpportunityChangedEvent;
+import com.example.demo.repository.ApplicationRepository;
+import com.example.demo.repository.OpportunityRepository;
+import com.example.demo.repository.PromoterRepository;
+import com.example.demo.service.PromoterDeletionService;
+import com.example.demo.service.VacancyReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromoterDeletionService Unit Tests")
+class PromoterDeletionServiceTest {
+
+    @Mock
+    private PromoterRepository promoterRepository;
+
+    @Mock
+    private OpportunityRepository opportunityRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private VacancyReservationService vacancyReservationService;
+
+    @Mock
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PromoterDeletionService promoterDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        promoterDeletionService = new PromoterDeletionService(promoterRepository, opportunityRepository,
+                applicationRepository, vacancyReservationService, entityCacheInvalidator, eventPublisher, 2);
+    }
+
+    @Test
+    @DisplayName("Should delete a bounded batch of applications by id and announce each deletion")
+    void shouldDeleteApplicationBatch() {
+        when(applicationRepository.findIdsByPromoterId(1L, PageRequest.of(0, 2))).thenReturn(List.of(10L, 11L));
+
+        assertThat(promoterDeletionService.deleteApplicationBatch(1L)).isEqualTo(2);
+
+        verify(applicationRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+        verify(eventPublisher).publishEvent(ApplicationChangedEvent.deleted(10L));
+        verify(eventPublisher).publishEvent(ApplicationChangedEvent.deleted(11L));
+        verify(applicationRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should delete late applications with their opportunities and invalidate derived state")
+    void shouldDeleteOpportunityBatch() {
+        when(opportunityRepository.findIdsByPromoterId(1L, PageRequest.of(0, 2))).thenReturn(List.of(20L));
+        when(applicationRepository.findIdsByOpportunityIdIn(List.of(20L))).thenReturn(List.of(30L));
+
+        assertThat(promoterDeletionService.deleteOpportunityBatch(1L)).isEqualTo(1);
+
+        verify(applicationRepository).deleteAllByIdInBatch(List.of(30L));
+        verify(opportunityRepository).deleteAllByIdInBatch(List.of(20L));
+        verify(eventPublisher).publishEvent(ApplicationChangedEvent.deleted(30L));
+        verify(eventPublisher).publishEvent(OpportunityChangedEvent.deleted(20L));
+        verify(entityCacheInvalidator).invalidate(CacheNames.OPPORTUNITY_ENTITIES, 20L);
+        verify(vacancyReservationService).evict(20L);
+    }
+
+    @Test
+    @DisplayName("Should report an empty batch once nothing is left")
+    void shouldReportEmptyBatch() {
+        when(opportunityRepository.findIdsByPromoterId(1L, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        assertThat(promoterDeletionService.deleteOpportunityBatch(1L)).isZero();
+
+        verify(opportunityRepository, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should delete the promoter row without cascading through the entity")
+    void shouldDeletePromoterRow() {
+        promoterDeletionService.deletePromoter(1L);
+
+        verify(promoterRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(promoterRepository, never()).deleteById(any());
+        verify(entityCacheInvalidator).invalidate(CacheNames.PROMOTER_ENTITIES, 1L);
+    }
+}
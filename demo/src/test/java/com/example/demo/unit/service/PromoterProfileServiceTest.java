@@ -2,14 +2,17 @@ package com.example.demo.unit.service;
 
 import com.example.demo.dto.CreatePromoterProfileRequest;
 import com.example.demo.dto.PromoterProfileResponse;
+import com.example.demo.dto.UpdatePromoterProfileRequest;
 import com.example.demo.entity.Promoter;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.PromoterRepository;
+import com.example.demo.service.PromoterDeletionService;
 import com.example.demo.service.PromoterProfileService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,6 +24,11 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +38,9 @@ class PromoterProfileServiceTest {
     @Mock
     private PromoterRepository promoterRepository;
 
+    @Mock
+    private PromoterDeletionService promoterDeletionService;
+
     @InjectMocks
     private PromoterProfileService promoterProfileService;
 
@@ -78,7 +89,7 @@ class PromoterProfileServiceTest {
     @Test
     @DisplayName("Should get profile by ID")
     void shouldGetProfileById() {
-        when(promoterRepository.findById(1L)).thenReturn(Optional.of(promoter));
+        when(promoterRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(promoter));
 
         PromoterProfileResponse response = promoterProfileService.getProfile(1L);
 
@@ -88,7 +99,7 @@ class PromoterProfileServiceTest {
     @Test
     @DisplayName("Should throw exception for non-existent profile")
     void shouldThrowExceptionForNonExistent() {
-        when(promoterRepository.findById(999L)).thenReturn(Optional.empty());
+        when(promoterRepository.findByIdAndDeletedAtIsNull(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> promoterProfileService.getProfile(999L))
                 .isInstanceOf(ResourceNotFoundException.class);
@@ -97,10 +108,71 @@ class PromoterProfileServiceTest {
     @Test
     @DisplayName("Should get all promoters")
     void shouldGetAllPromoters() {
-        when(promoterRepository.findAll()).thenReturn(Arrays.asList(promoter));
+        when(promoterRepository.findByDeletedAtIsNull()).thenReturn(Arrays.asList(promoter));
 
         List<PromoterProfileResponse> responses = promoterProfileService.getAllProfiles();
 
         assertThat(responses).hasSize(1);
     }
+
+    @Test
+    @DisplayName("Should flag the promoter, then delete applications, opportunities and the promoter in batches")
+    void shouldDeleteProfileInBatches() {
+        when(promoterDeletionService.deleteApplicationBatch(1L)).thenReturn(500, 120, 0);
+        when(promoterDeletionService.deleteOpportunityBatch(1L)).thenReturn(40, 0);
+
+        promoterProfileService.deleteProfile(1L);
+
+        InOrder inOrder = inOrder(promoterDeletionService);
+        inOrder.verify(promoterDeletionService).markDeleted(1L);
+        inOrder.verify(promoterDeletionService, times(3)).deleteApplicationBatch(1L);
+        inOrder.verify(promoterDeletionService, times(2)).deleteOpportunityBatch(1L);
+        inOrder.verify(promoterDeletionService).deletePromoter(1L);
+        verify(promoterRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Should throw when deleting a non-existent profile")
+    void shouldThrowWhenDeletingNonExistent() {
+        doThrow(new ResourceNotFoundException("Promoter not found with id: 999"))
+                .when(promoterDeletionService).markDeleted(999L);
+
+        assertThatThrownBy(() -> promoterProfileService.deleteProfile(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(promoterDeletionService, never()).deleteApplicationBatch(any());
+    }
+
+    @Test
+    @DisplayName("Should finish purging flagged promoters and keep going past a failed one")
+    void shouldResumeFlaggedDeletions() {
+        when(promoterRepository.findIdsMarkedDeleted()).thenReturn(List.of(1L, 2L));
+        when(promoterDeletionService.deleteApplicationBatch(1L)).thenThrow(new IllegalStateException("boom"));
+
+        promoterProfileService.purgeDeletedProfiles();
+
+        verify(promoterDeletionService, never()).deletePromoter(1L);
+        verify(promoterDeletionService).deleteOpportunityBatch(2L);
+        verify(promoterDeletionService).deletePromoter(2L);
+    }
+
+    @Test
+    @DisplayName("Should change only the differing fields and skip the timestamp when nothing changed")
+    void shouldUpdateOnlyChangedFields() {
+        when(promoterRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(promoter));
+        UpdatePromoterProfileRequest unchanged = new UpdatePromoterProfileRequest();
+        unchanged.setOrganization("Test Organization");
+
+        promoterProfileService.updateProfile(1L, unchanged);
+        assertThat(promoter.getProfileUpdatedAt()).isNull();
+
+        UpdatePromoterProfileRequest request = new UpdatePromoterProfileRequest();
+        request.setOrganization("Test Organization");
+        request.setPhone("912345678");
+
+        PromoterProfileResponse response = promoterProfileService.updateProfile(1L, request);
+
+        assertThat(response.getPhone()).isEqualTo("912345678");
+        assertThat(promoter.getProfileUpdatedAt()).isNotNull();
+        verify(promoterRepository, never()).save(any());
+    }
 }
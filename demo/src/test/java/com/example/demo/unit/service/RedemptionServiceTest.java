@@ -12,6 +12,7 @@ import com.example.demo.repository.BenefitRepository;
 import com.example.demo.repository.RedemptionRepository;
 import com.example.demo.repository.VolunteerRepository;
 import com.example.demo.service.RedemptionService;
+import com.example.demo.service.VolunteerStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +44,9 @@ class RedemptionServiceTest {
     @Mock
     private BenefitRepository benefitRepository;
 
+    @Mock
+    private VolunteerStatsService volunteerStatsService;
+
     @InjectMocks
     private RedemptionService redemptionService;
 
@@ -93,6 +98,7 @@ class RedemptionServiceTest {
         RedemptionResponse response = redemptionService.redeemPoints(request);
 
         assertThat(response.getPointsSpent()).isEqualTo(100);
+        verify(volunteerStatsService).recordRedemption(1L, 100);
     }
 
     @Test
@@ -0,0 +1,118 @@
+package com.example.demo.unit.service;
+
+import com.example.demo.cache.CacheNames;
+import com.example.demo.cache.EntityCacheInvalidator;
+import com.example.demo.repository.OpportunityRepository;
+import com.example.demo.service.VacancyReservationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VacancyReservationService Unit Tests")
+class VacancyReservationServiceTest {
+
+    @Mock
+    private OpportunityRepository opportunityRepository;
+
+    @Mock
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    @InjectMocks
+    private VacancyReservationService vacancyReservationService;
+
+    @Test
+    @DisplayName("Should reject without a database write once slots are exhausted")
+    void shouldRejectWithoutWriteWhenFull() {
+        when(opportunityRepository.findRemainingVacancies(1L)).thenReturn(2, 0);
+        when(opportunityRepository.reserveVacancies(1L, 1)).thenReturn(1);
+
+        vacancyReservationService.reserve(1L, 1);
+        vacancyReservationService.reserve(1L, 1);
+
+        assertThatThrownBy(() -> vacancyReservationService.reserve(1L, 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No vacancies left");
+        verify(opportunityRepository, times(2)).reserveVacancies(1L, 1);
+        verify(opportunityRepository, times(2)).findRemainingVacancies(1L);
+        verify(entityCacheInvalidator, times(2)).invalidate(CacheNames.OPPORTUNITY_ENTITIES, 1L);
+        verify(entityCacheInvalidator, times(2)).evictLocal(CacheNames.OPPORTUNITY_ENTITIES, 1L);
+    }
+
+    @Test
+    @DisplayName("Should reject and reload when the conditional update finds no slot")
+    void shouldReloadWhenDatabaseRejects() {
+        when(opportunityRepository.findRemainingVacancies(1L)).thenReturn(1, 0);
+        when(opportunityRepository.reserveVacancies(1L, 1)).thenReturn(0);
+
+        assertThatThrownBy(() -> vacancyReservationService.reserve(1L, 1))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(vacancyReservationService.getRemainingSlots(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload a full counter and accept slots freed on another node")
+    void shouldReloadFullCounter() {
+        when(opportunityRepository.findRemainingVacancies(1L)).thenReturn(1, 1);
+        when(opportunityRepository.reserveVacancies(1L, 1)).thenReturn(1);
+
+        vacancyReservationService.reserve(1L, 1);
+        vacancyReservationService.reserve(1L, 1);
+
+        verify(opportunityRepository, times(2)).reserveVacancies(1L, 1);
+    }
+
+    @Test
+    @DisplayName("Should return slot to the counter on release")
+    void shouldReturnSlotOnRelease() {
+        when(opportunityRepository.findRemainingVacancies(1L)).thenReturn(1);
+        when(opportunityRepository.reserveVacancies(1L, 1)).thenReturn(1);
+        when(opportunityRepository.releaseVacancies(1L, 1)).thenReturn(1);
+
+        vacancyReservationService.reserve(1L, 1);
+        vacancyReservationService.release(1L, 1);
+
+        assertThat(vacancyReservationService.getRemainingSlots(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never hand out more slots than available under concurrent accepts")
+    void shouldNotOverbookUnderConcurrency() throws InterruptedException {
+        AtomicInteger accepted = new AtomicInteger();
+        when(opportunityRepository.findRemainingVacancies(1L)).thenAnswer(invocation -> 10 - accepted.get());
+        when(opportunityRepository.reserveVacancies(eq(1L), anyInt())).thenAnswer(invocation ->
+                accepted.getAndUpdate(count -> Math.min(count + 1, 10)) < 10 ? 1 : 0);
+        AtomicInteger granted = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 100; i++) {
+            executor.submit(() -> {
+                try {
+                    vacancyReservationService.reserve(1L, 1);
+                    granted.incrementAndGet();
+                } catch (IllegalStateException ignored) {
+                    // opportunity full
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(granted.get()).isEqualTo(10);
+        assertThat(vacancyReservationService.getRemainingSlots(1L)).isZero();
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.demo.unit.service;
 
 import com.example.demo.dto.CreateVolunteerProfileRequest;
+import com.example.demo.dto.UpdateVolunteerProfileRequest;
 import com.example.demo.dto.VolunteerProfileResponse;
 import com.example.demo.entity.Volunteer;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.VolunteerRepository;
 import com.example.demo.service.VolunteerProfileService;
+import com.example.demo.service.VolunteerStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +34,9 @@ class VolunteerProfileServiceTest {
     @Mock
     private VolunteerRepository volunteerRepository;
 
+    @Mock
+    private VolunteerStatsService volunteerStatsService;
+
     @InjectMocks
     private VolunteerProfileService volunteerProfileService;
 
@@ -106,4 +113,32 @@ class VolunteerProfileServiceTest {
 
         assertThat(responses).hasSize(1);
     }
+
+    @Test
+    @DisplayName("Should change only the differing fields without calling save")
+    void shouldUpdateOnlyChangedFields() {
+        when(volunteerRepository.findById(1L)).thenReturn(Optional.of(volunteer));
+        UpdateVolunteerProfileRequest request = new UpdateVolunteerProfileRequest();
+        request.setName("John Doe");
+        request.setPhone("912345678");
+
+        VolunteerProfileResponse response = volunteerProfileService.updateProfile(1L, request);
+
+        assertThat(response.getPhone()).isEqualTo("912345678");
+        assertThat(volunteer.getProfileUpdatedAt()).isNotNull();
+        verify(volunteerRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should leave the volunteer untouched when no value differs")
+    void shouldSkipUpdateWhenNothingChanged() {
+        when(volunteerRepository.findById(1L)).thenReturn(Optional.of(volunteer));
+        UpdateVolunteerProfileRequest request = new UpdateVolunteerProfileRequest();
+        request.setSkills("Java, Python");
+
+        VolunteerProfileResponse response = volunteerProfileService.updateProfile(1L, request);
+
+        assertThat(response.getSkills()).isEqualTo("Java, Python");
+        assertThat(volunteer.getProfileUpdatedAt()).isNull();
+    }
 }
@@ -1,9 +1,14 @@
 package com.example.demo.unit.service;
 
+import com.example.demo.dto.RankingEntryResponse;
 import com.example.demo.dto.VolunteerPointsResponse;
+import com.example.demo.dto.VolunteerRankResponse;
 import com.example.demo.dto.VolunteerResponse;
 import com.example.demo.entity.Volunteer;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.ranking.PointsRankIndex;
+import com.example.demo.ranking.RankingWindow;
+import com.example.demo.ranking.WindowedPointsRanking;
 import com.example.demo.repository.ApplicationRepository;
 import com.example.demo.repository.VolunteerRepository;
 import com.example.demo.service.VolunteerService;
@@ -21,6 +26,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +39,12 @@ class VolunteerServiceTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private WindowedPointsRanking windowedPointsRanking;
+
+    @Mock
+    private PointsRankIndex pointsRankIndex;
+
     @InjectMocks
     private VolunteerService volunteerService;
 
@@ -156,6 +168,45 @@ class VolunteerServiceTest {
         assertThat(topVolunteers.get(0).getTotalPoints()).isEqualTo(200);
     }
 
+    @Test
+    @DisplayName("Given a window when getting the ranking then read it from the windowed ranking")
+    void givenWindow_whenGettingRanking_thenReadWindowedRanking() {
+        List<RankingEntryResponse> entries = List.of(new RankingEntryResponse(1, 2L, "Volunteer Two", "v2@test.com", 40));
+        when(windowedPointsRanking.top(RankingWindow.MONTH, 5)).thenReturn(entries);
+
+        assertThat(volunteerService.getVolunteersRanking("30d", 5)).isEqualTo(entries);
+    }
+
+    @Test
+    @DisplayName("Given an unknown window or non-positive limit when getting the ranking then throw exception")
+    void givenInvalidWindowOrLimit_whenGettingRanking_thenThrowException() {
+        assertThatThrownBy(() -> volunteerService.getVolunteersRanking("fortnight", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> volunteerService.getVolunteersRanking("7d", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(windowedPointsRanking);
+    }
+
+    @Test
+    @DisplayName("Given indexed volunteer when getting rank then return it from the rank index")
+    void givenIndexedVolunteer_whenGettingRank_thenReturnRank() {
+        VolunteerRankResponse rank = new VolunteerRankResponse(1L, 100, 2, 2, 0.0, List.of(), List.of());
+        when(pointsRankIndex.rank(1L, 2)).thenReturn(Optional.of(rank));
+
+        assertThat(volunteerService.getVolunteerRank(1L, 2)).isEqualTo(rank);
+    }
+
+    @Test
+    @DisplayName("Given unknown volunteer or too many neighbours when getting rank then throw exception")
+    void givenUnknownVolunteerOrTooManyNeighbours_whenGettingRank_thenThrowException() {
+        when(pointsRankIndex.rank(99L, 2)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> volunteerService.getVolunteerRank(99L, 2))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> volunteerService.getVolunteerRank(1L, 11))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("Given valid volunteer ID when getting confirmed participations then return applications")
     void givenValidVolunteerId_whenGettingConfirmedParticipations_thenReturnApplications() {
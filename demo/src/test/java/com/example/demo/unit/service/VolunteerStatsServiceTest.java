@@ -0,0 +1,156 @@
+package com.example.demo.unit.service;
+
+import com.example.demo.dto.VolunteerSummaryResponse;
+import com.example.demo.entity.VolunteerStats;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.ApplicationRepository;
+import com.example.demo.repository.RedemptionRepository;
+import com.example.demo.repository.VolunteerRepository;
+import com.example.demo.repository.VolunteerStatsRepository;
+import com.example.demo.service.VolunteerStatsInitializer;
+import com.example.demo.service.VolunteerStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VolunteerStatsService Unit Tests")
+class VolunteerStatsServiceTest {
+
+    @Mock
+    private VolunteerStatsRepository volunteerStatsRepository;
+
+    @Mock
+    private VolunteerRepository volunteerRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private RedemptionRepository redemptionRepository;
+
+    private VolunteerStatsService volunteerStatsService;
+
+    @BeforeEach
+    void setUp() {
+        VolunteerStatsInitializer initializer = new VolunteerStatsInitializer(volunteerStatsRepository,
+                applicationRepository, redemptionRepository);
+        volunteerStatsService = new VolunteerStatsService(volunteerStatsRepository, volunteerRepository,
+                initializer, applicationRepository, redemptionRepository, true);
+    }
+
+    @Test
+    @DisplayName("Should read summary from the stats row")
+    void shouldReadSummaryFromStatsRow() {
+        when(volunteerStatsRepository.findById(1L)).thenReturn(Optional.of(stats(1L, 300L, 150L, 2L, 4L)));
+
+        VolunteerSummaryResponse summary = volunteerStatsService.getSummary(1L);
+
+        assertThat(summary.getPointsEarned()).isEqualTo(300L);
+        assertThat(summary.getPointsSpent()).isEqualTo(150L);
+        assertThat(summary.getRedemptionCount()).isEqualTo(2L);
+        verifyNoInteractions(redemptionRepository, applicationRepository);
+    }
+
+    @Test
+    @DisplayName("Should initialize missing stats row from aggregates")
+    void shouldInitializeMissingStatsRow() {
+        when(volunteerStatsRepository.findById(1L))
+                .thenReturn(Optional.empty(), Optional.of(stats(1L, 500L, 200L, 2L, 0L)));
+        when(volunteerRepository.existsById(1L)).thenReturn(true);
+        when(applicationRepository.sumPointsAwardedByVolunteerId(1L)).thenReturn(500);
+        when(redemptionRepository.sumPointsSpentByVolunteerId(1L)).thenReturn(200);
+        when(redemptionRepository.countCompletedByVolunteerId(1L)).thenReturn(2L);
+        when(volunteerStatsRepository.insertIfAbsent(1L, 500L, 200L, 2L)).thenReturn(1);
+
+        VolunteerSummaryResponse summary = volunteerStatsService.getSummary(1L);
+
+        assertThat(summary.getPointsEarned()).isEqualTo(500L);
+        assertThat(summary.getPointsSpent()).isEqualTo(200L);
+        assertThat(summary.getRedemptionCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should throw when volunteer does not exist")
+    void shouldThrowWhenVolunteerNotFound() {
+        when(volunteerStatsRepository.findById(999L)).thenReturn(Optional.empty());
+        when(volunteerRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> volunteerStatsService.getSummary(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should increment existing row without reading aggregates")
+    void shouldIncrementExistingRow() {
+        when(volunteerStatsRepository.incrementPointsSpent(1L, 100)).thenReturn(1);
+
+        volunteerStatsService.recordRedemption(1L, 100);
+
+        verify(volunteerStatsRepository, never()).insertIfAbsent(anyLong(), anyLong(), anyLong(), anyLong());
+        verifyNoInteractions(redemptionRepository);
+    }
+
+    @Test
+    @DisplayName("Should not increment a row just created from aggregates that include the change")
+    void shouldNotIncrementCreatedRow() {
+        when(volunteerStatsRepository.incrementPointsEarned(1L, 50)).thenReturn(0);
+        when(applicationRepository.sumPointsAwardedByVolunteerId(1L)).thenReturn(50);
+        when(redemptionRepository.sumPointsSpentByVolunteerId(1L)).thenReturn(0);
+        when(redemptionRepository.countCompletedByVolunteerId(1L)).thenReturn(0L);
+        when(volunteerStatsRepository.insertIfAbsent(1L, 50L, 0L, 0L)).thenReturn(1);
+
+        volunteerStatsService.recordPointsEarned(1L, 50);
+
+        verify(volunteerStatsRepository, times(1)).incrementPointsEarned(1L, 50);
+    }
+
+    @Test
+    @DisplayName("Should apply the increment to a row created concurrently")
+    void shouldIncrementRowCreatedConcurrently() {
+        when(volunteerStatsRepository.incrementPointsEarned(1L, 50)).thenReturn(0, 1);
+        when(applicationRepository.sumPointsAwardedByVolunteerId(1L)).thenReturn(0);
+        when(redemptionRepository.sumPointsSpentByVolunteerId(1L)).thenReturn(0);
+        when(redemptionRepository.countCompletedByVolunteerId(1L)).thenReturn(0L);
+        when(volunteerStatsRepository.insertIfAbsent(1L, 0L, 0L, 0L)).thenReturn(0);
+
+        volunteerStatsService.recordPointsEarned(1L, 50);
+
+        verify(volunteerStatsRepository, times(2)).incrementPointsEarned(1L, 50);
+    }
+
+    @Test
+    @DisplayName("Should detect and repair drifted counters")
+    void shouldRepairDrift() {
+        when(volunteerStatsRepository.findAll()).thenReturn(List.of(
+                stats(1L, 100L, 50L, 1L, 3L),
+                stats(2L, 0L, 0L, 0L, 0L)));
+        when(applicationRepository.sumPointsAwardedGroupedByVolunteer())
+                .thenReturn(Collections.singletonList(new Object[]{1L, 100L}));
+        when(redemptionRepository.sumPointsSpentAndCountGroupedByVolunteer())
+                .thenReturn(Collections.singletonList(new Object[]{1L, 80L, 2L}));
+
+        int drifted = volunteerStatsService.reconcile();
+
+        assertThat(drifted).isEqualTo(1);
+        verify(volunteerStatsRepository).overwriteIfUnchanged(1L, 3L, 100L, 80L, 2L);
+        verify(volunteerStatsRepository, never()).overwriteIfUnchanged(eq(2L), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    private static VolunteerStats stats(Long volunteerId, Long earned, Long spent, Long count, Long version) {
+        return new VolunteerStats(volunteerId, earned, spent, count, LocalDateTime.now(), version);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.unit.snapshot;
+
+import com.example.demo.entity.OpportunityStatus;
+import com.example.demo.repository.OpportunityRepository;
+import com.example.demo.snapshot.OpportunitySnapshotFile;
+import com.example.demo.snapshot.OpportunitySnapshotLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpportunitySnapshotLoader Unit Tests")
+class OpportunitySnapshotLoaderTest {
+
+    private static final LocalDateTime WATERMARK = LocalDateTime.of(2026, 3, 1, 12, 0, 0, 500);
+
+    @Mock
+    private OpportunityRepository opportunityRepository;
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private OpportunitySnapshotLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("opportunity-facets.snap");
+        loader = new OpportunitySnapshotLoader(opportunityRepository, true, path, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should round-trip rows and watermark through the snapshot file")
+    void shouldRoundTripSnapshotFile() throws IOException {
+        OpportunitySnapshotFile.write(path, WATERMARK, List.of(
+                row(1L, "Ambiente", "Java, Teamwork", 3, OpportunityStatus.OPEN),
+                row(2L, "Ambiente", "", 40, OpportunityStatus.CONCLUDED)));
+
+        OpportunitySnapshotFile.Snapshot snapshot = OpportunitySnapshotFile.read(path).orElseThrow();
+
+        assertThat(snapshot.watermark()).isEqualTo(WATERMARK);
+        assertThat(snapshot.rows()).hasSize(2);
+        assertThat(snapshot.rows().get(0)).containsExactly(1L, "Ambiente", "Java,Teamwork", 3, OpportunityStatus.OPEN);
+        assertThat(snapshot.rows().get(1)).containsExactly(2L, "Ambiente", "", 40, OpportunityStatus.CONCLUDED);
+    }
+
+    @Test
+    @DisplayName("Should reuse unchanged rows and replay only newer or deleted ones")
+    void shouldReplayChangesSinceWatermark() throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            rows.add(row(id, "Social", "cooking", 2, OpportunityStatus.OPEN));
+        }
+        OpportunitySnapshotFile.write(path, WATERMARK, rows);
+
+        List<Object[]> current = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            current.add(new Object[]{id, WATERMARK.minusHours(1)});
+        }
+        current.set(1, new Object[]{2L, WATERMARK.plusSeconds(5)});
+        current.add(new Object[]{7L, WATERMARK.plusSeconds(10)});
+        when(opportunityRepository.findIdsAndUpdatedAt()).thenReturn(current);
+        when(opportunityRepository.findFacetFieldsByIdIn(List.of(2L, 7L))).thenReturn(List.of(
+                row(2L, "Health", "first aid", 1, OpportunityStatus.CONCLUDED),
+                row(7L, "Health", "driving", 9, OpportunityStatus.OPEN)));
+
+        List<Object[]> loaded = loader.loadFacetFields();
+
+        assertThat(loaded).extracting(row -> row[0]).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 7L);
+        assertThat(loaded).filteredOn(row -> row[0].equals(2L)).singleElement()
+                .satisfies(row -> assertThat(row[1]).isEqualTo("Health"));
+        assertThat(loaded).filteredOn(row -> row[0].equals(1L)).singleElement()
+                .satisfies(row -> assertThat(row[5]).isEqualTo(WATERMARK.minusHours(1)));
+        verify(opportunityRepository, never()).findFacetFields();
+    }
+
+    @Test
+    @DisplayName("Should fall back to a full load when the snapshot is corrupt")
+    void shouldIgnoreCorruptSnapshot() throws IOException {
+        OpportunitySnapshotFile.write(path, WATERMARK, Collections.singletonList(row(1L, "Social", "cooking", 2, OpportunityStatus.OPEN)));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[30] ^= 0x5A;
+        Files.write(path, bytes);
+        List<Object[]> full = Collections.singletonList(row(1L, "Social", "cooking", 2, OpportunityStatus.OPEN));
+        when(opportunityRepository.findFacetFields()).thenReturn(full);
+
+        assertThat(loader.loadFacetFields()).isSameAs(full);
+        verify(opportunityRepository, never()).findIdsAndUpdatedAt();
+    }
+
+    @Test
+    @DisplayName("Should fall back to a full load when most rows changed since the snapshot")
+    void shouldReloadWhenSnapshotMostlyStale() throws IOException {
+        OpportunitySnapshotFile.write(path, WATERMARK, Collections.singletonList(row(1L, "Social", "cooking", 2, OpportunityStatus.OPEN)));
+        when(opportunityRepository.findIdsAndUpdatedAt()).thenReturn(List.<Object[]>of(
+                new Object[]{1L, null}, new Object[]{2L, null}));
+        when(opportunityRepository.findFacetFields()).thenReturn(List.of());
+
+        loader.loadFacetFields();
+
+        verify(opportunityRepository).findFacetFields();
+        verify(opportunityRepository, never()).findFacetFieldsByIdIn(any());
+    }
+
+    private static Object[] row(Long id, String category, String skills, int duration, OpportunityStatus status) {
+        return new Object[]{id, category, skills, duration, status};
+    }
+}
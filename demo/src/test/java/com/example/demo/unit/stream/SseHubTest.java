@@ -0,0 +1,49 @@
+package com.example.demo.unit.stream;
+
+import com.example.demo.stream.SseHub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@DisplayName("SseHub Unit Tests")
+class SseHubTest {
+
+    private final SseHub sseHub = new SseHub(Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("Should register subscribers per topic")
+    void shouldRegisterSubscribersPerTopic() {
+        SseEmitter first = sseHub.subscribe(SseHub.volunteerTopic(1L));
+        sseHub.subscribe(SseHub.volunteerTopic(1L));
+        sseHub.subscribe(SseHub.promoterTopic(1L));
+
+        assertThat(first).isNotNull();
+        assertThat(sseHub.getSubscriberCount(SseHub.volunteerTopic(1L))).isEqualTo(2);
+        assertThat(sseHub.getSubscriberCount(SseHub.promoterTopic(1L))).isEqualTo(1);
+        assertThat(sseHub.getSubscriberCount(SseHub.volunteerTopic(2L))).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop subscribers whose stream has completed")
+    void shouldDropCompletedSubscribers() {
+        SseEmitter emitter = sseHub.subscribe(SseHub.volunteerTopic(1L));
+        emitter.complete();
+
+        sseHub.publish(SseHub.volunteerTopic(1L), "application-status", "payload");
+
+        assertThat(sseHub.getSubscriberCount(SseHub.volunteerTopic(1L))).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore events for topics without subscribers")
+    void shouldIgnoreEventsWithoutSubscribers() {
+        assertThatCode(() -> sseHub.publish(SseHub.promoterTopic(9L), "application-status", "payload"))
+                .doesNotThrowAnyException();
+        assertThatCode(sseHub::heartbeat).doesNotThrowAnyException();
+    }
+}
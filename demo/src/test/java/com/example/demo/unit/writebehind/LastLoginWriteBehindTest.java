@@ -0,0 +1,78 @@
+package com.example.demo.unit.writebehind;
+
+import com.example.demo.writebehind.LastLoginWriteBehind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LastLoginWriteBehind Unit Tests")
+class LastLoginWriteBehindTest {
+
+    private static final LocalDateTime LOGIN = LocalDateTime.of(2026, 3, 2, 8, 30);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private LastLoginWriteBehind writeBehind;
+
+    @Test
+    @DisplayName("Should write only the latest login per user in a single batch")
+    @SuppressWarnings("unchecked")
+    void shouldFlushLatestLoginPerUser() {
+        writeBehind.touch(1L, LOGIN);
+        writeBehind.touch(1L, LOGIN.plusMinutes(5));
+        writeBehind.touch(1L, LOGIN.plusMinutes(2));
+        writeBehind.touch(2L, LOGIN);
+
+        assertThat(writeBehind.flush()).isEqualTo(2);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(2)
+                .anySatisfy(row -> assertThat(row).containsExactly(
+                        Timestamp.valueOf(LOGIN.plusMinutes(5)), 1L, Timestamp.valueOf(LOGIN.plusMinutes(5))));
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip the database when nothing is pending")
+    void shouldSkipEmptyFlush() {
+        assertThat(writeBehind.flush()).isZero();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should keep entries for the next flush when the batch fails")
+    void shouldRetryFailedFlush() {
+        writeBehind.touch(1L, LOGIN);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(writeBehind.flush()).isZero();
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+
+        writeBehind.touch(1L, LOGIN.minusDays(1));
+        reset(jdbcTemplate);
+        writeBehind.flushOnShutdown();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> rows) ->
+                rows.size() == 1 && rows.get(0)[0].equals(Timestamp.valueOf(LOGIN))));
+    }
+}
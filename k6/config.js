@@ -2,6 +2,9 @@
 
 export const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
 
+// Reactive read tier (WebFlux + R2DBC), serving the read-mostly listings on its own port
+export const REACTIVE_URL = __ENV.REACTIVE_URL || 'http://localhost:8081';
+
 // Test users data
 export const TEST_USERS = {
     volunteer: {
@@ -105,3 +108,29 @@ export const OPTIONS_SOAK = {
         http_req_duration: ['p(95)<500', 'p(99)<1000'],
     },
 };
+
+// Per-endpoint latency objectives for the capacity suite; requests are tagged with `endpoint`
+export const ENDPOINT_SLOS = {
+    opportunities_list: { p95: 800, p99: 1500 },
+    opportunities_search: { p95: 300, p99: 600 },
+    opportunity_detail: { p95: 100, p99: 250 },
+    volunteers_top: { p95: 200, p99: 400 },
+    volunteer_summary: { p95: 150, p99: 300 },
+    benefits_catalog: { p95: 200, p99: 400 },
+    redemptions_history: { p95: 300, p99: 600 },
+    redeem: { p95: 400, p99: 800 },
+};
+
+export function capacityOptions(scenario) {
+    const thresholds = {
+        http_req_failed: [scenario === 'stress' || scenario === 'spike' ? 'rate<0.05' : 'rate<0.01'],
+    };
+    for (const [endpoint, slo] of Object.entries(ENDPOINT_SLOS)) {
+        thresholds[`http_req_duration{endpoint:${endpoint}}`] = [`p(95)<${slo.p95}`, `p(99)<${slo.p99}`];
+    }
+    return {
+        stages: SCENARIOS[scenario].stages.map((stage) => ({ ...stage })),
+        thresholds: thresholds,
+        summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    };
+}
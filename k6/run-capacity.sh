@@ -0,0 +1,89 @@
+#!/usr/bin/env bash
+# Capacity-planning run: optional bulk seeding, one k6 scenario with per-endpoint SLO
+# thresholds, and a diff of the machine-readable summary against a stored baseline.
+#
+#   ./run-capacity.sh --seed load          # seed 100k volunteers / 10k opportunities / 1M redemptions, then run
+#   ./run-capacity.sh spike                # run against the data already seeded
+#   ./run-capacity.sh --update-baseline load
+#
+# Seed before starting the application: the opportunity indexes and the entity cache are
+# populated at startup and do not see rows written directly to the database.
+# The database defaults to the docker-compose postgres service; override with PGHOST, PGPORT,
+# PGDATABASE, PGUSER and PGPASSWORD. Dataset size: VOLUNTEERS, OPPORTUNITIES, REDEMPTIONS.
+# A run fails (non-zero exit) when a threshold is crossed or when any endpoint's p95/p99 is
+# more than TOLERANCE (default 0.15) plus SLACK_MS (default 5) above the baseline.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+seed=false
+update_baseline=false
+scenario=load
+for arg in "$@"; do
+    case "$arg" in
+        --seed) seed=true ;;
+        --update-baseline) update_baseline=true ;;
+        smoke|load|stress|spike|soak) scenario=$arg ;;
+        *) echo "Usage: $0 [--seed] [--update-baseline] [smoke|load|stress|spike|soak]" >&2; exit 2 ;;
+    esac
+done
+
+TOLERANCE="${TOLERANCE:-0.15}"
+SLACK_MS="${SLACK_MS:-5}"
+export PGHOST="${PGHOST:-localhost}" PGPORT="${PGPORT:-5433}" PGDATABASE="${PGDATABASE:-tqs_db}"
+export PGUSER="${PGUSER:-tqs_user}" PGPASSWORD="${PGPASSWORD:-tqs_password}"
+
+mkdir -p results baselines
+seed_file="$PWD/results/seed.json"
+summary_file="$PWD/results/${scenario}-summary.json"
+baseline_file="baselines/${scenario}.json"
+
+if $seed; then
+    echo "Seeding ${VOLUNTEERS:-100000} volunteers, ${OPPORTUNITIES:-10000} opportunities, ${REDEMPTIONS:-1000000} redemptions"
+    psql_args=(-q -v volunteers="${VOLUNTEERS:-100000}" -v opportunities="${OPPORTUNITIES:-10000}"
+               -v redemptions="${REDEMPTIONS:-1000000}")
+    if command -v psql > /dev/null; then
+        psql "${psql_args[@]}" -f seed/seed.sql | tail -n 1 > "$seed_file"
+    else
+        docker compose -f ../demo/docker-compose.yml exec -T postgres \
+            psql -U "$PGUSER" -d "$PGDATABASE" "${psql_args[@]}" < seed/seed.sql | tail -n 1 > "$seed_file"
+    fi
+    echo "Seeded id ranges: $(cat "$seed_file")"
+fi
+
+if [[ ! -s "$seed_file" ]]; then
+    echo "Missing $seed_file; run with --seed first" >&2
+    exit 1
+fi
+
+k6_status=0
+k6 run -e SCENARIO="$scenario" -e SEED_FILE="$seed_file" -e SUMMARY_FILE="$summary_file" \
+    tests/capacity-test.js || k6_status=$?
+
+if $update_baseline || [[ ! -f "$baseline_file" ]]; then
+    cp "$summary_file" "$baseline_file"
+    echo "Baseline $baseline_file written from this run"
+    exit "$k6_status"
+fi
+
+# One line per endpoint percentile (or the failure rate) that regressed past the tolerance
+regressions=$(jq -r --slurpfile baseline "$baseline_file" --argjson tolerance "$TOLERANCE" --argjson slack "$SLACK_MS" '
+    . as $current | $baseline[0] as $b
+    | ([$b.endpoints | to_entries[] | .key as $endpoint | .value | to_entries[]
+        | select(.key == "p95" or .key == "p99")
+        | {endpoint: $endpoint, stat: .key, before: .value}]
+       | map(. + {after: $current.endpoints[.endpoint][.stat]})
+       | map(select(.after == null or .after > .before * (1 + $tolerance) + $slack))
+       | map("\(.endpoint) \(.stat): \(.before | . * 10 | round / 10) ms -> \(.after // "missing" | if type == "number" then (. * 10 | round / 10 | tostring) + " ms" else . end)"))
+      + (if .failedRate > $b.failedRate + 0.005
+         then ["failed requests: \($b.failedRate * 100 | . * 100 | round / 100)% -> \(.failedRate * 100 | . * 100 | round / 100)%"]
+         else [] end)
+    | .[]' "$summary_file")
+
+if [[ -n "$regressions" ]]; then
+    echo "Regressions against $baseline_file:" >&2
+    echo "$regressions" | sed 's/^/  /' >&2
+    exit 1
+fi
+echo "No regressions against $baseline_file"
+exit "$k6_status"
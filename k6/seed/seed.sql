@@ -0,0 +1,130 @@
+-- Bulk capacity-planning dataset, generated set-based inside PostgreSQL.
+--
+--   psql -v volunteers=100000 -v opportunities=10000 -v redemptions=1000000 -f seed.sql
+--
+-- Every seeded row is tagged (emails under @seed.k6, provider 'k6 Seed Partner') and removed
+-- again at the start of a run, so seeding is repeatable and never touches other data.
+-- Activity is skewed like production: random()^3 concentrates redemptions on a small set of
+-- volunteers and benefits, and opportunities on a few large promoters.
+
+\set ON_ERROR_STOP on
+\if :{?volunteers}
+\else
+    \set volunteers 100000
+\endif
+\if :{?opportunities}
+\else
+    \set opportunities 10000
+\endif
+\if :{?redemptions}
+\else
+    \set redemptions 1000000
+\endif
+\if :{?promoters}
+\else
+    \set promoters 500
+\endif
+\if :{?benefits}
+\else
+    \set benefits 200
+\endif
+
+BEGIN;
+
+DELETE FROM redemptions WHERE volunteer_id IN (SELECT id FROM volunteers WHERE email LIKE '%@seed.k6')
+                           OR benefit_id IN (SELECT id FROM benefits WHERE provider = 'k6 Seed Partner');
+DELETE FROM applications WHERE volunteer_id IN (SELECT id FROM volunteers WHERE email LIKE '%@seed.k6')
+                            OR opportunity_id IN (SELECT o.id FROM opportunities o
+                                                  JOIN promoters p ON p.id = o.promoter_id WHERE p.email LIKE '%@seed.k6');
+DELETE FROM opportunities WHERE promoter_id IN (SELECT id FROM promoters WHERE email LIKE '%@seed.k6');
+DELETE FROM volunteer_stats WHERE volunteer_id IN (SELECT id FROM volunteers WHERE email LIKE '%@seed.k6');
+DELETE FROM volunteers WHERE email LIKE '%@seed.k6';
+DELETE FROM promoters WHERE email LIKE '%@seed.k6';
+DELETE FROM benefits WHERE provider = 'k6 Seed Partner';
+
+CREATE TEMP TABLE seed_skills (n int PRIMARY KEY, skill text) ON COMMIT DROP;
+INSERT INTO seed_skills VALUES
+    (0, 'Communication'), (1, 'Leadership'), (2, 'Teamwork'), (3, 'Problem Solving'),
+    (4, 'Cooking'), (5, 'First Aid'), (6, 'Driving'), (7, 'Teaching');
+
+CREATE TEMP TABLE seed_categories (n int PRIMARY KEY, category text) ON COMMIT DROP;
+INSERT INTO seed_categories VALUES
+    (0, 'Environment'), (1, 'Education'), (2, 'Health'), (3, 'Social'), (4, 'Animals'), (5, 'Culture');
+
+INSERT INTO promoters (name, email, organization, profile_created_at)
+SELECT 'Seed Promoter ' || g, 'promoter' || g || '@seed.k6', 'Seed Organization ' || (g % 50), now()
+FROM generate_series(1, :promoters) g;
+
+INSERT INTO benefits (name, description, points_required, category, provider, active, created_at)
+SELECT 'Seed Benefit ' || g, 'Capacity test benefit', 50 + (g % 20) * 25,
+       CASE WHEN g % 3 = 0 THEN 'UA' ELSE 'PARTNER' END, 'k6 Seed Partner', true, now()
+FROM generate_series(1, :benefits) g;
+
+INSERT INTO volunteers (name, email, skills, interests, availability, total_points, profile_created_at)
+SELECT 'Seed Volunteer ' || g, 'volunteer' || g || '@seed.k6',
+       s1.skill || ', ' || s2.skill, c.category, 'WEEKENDS',
+       floor(random() ^ 3 * 5000)::int, now() - (g % 365) * interval '1 day'
+FROM generate_series(1, :volunteers) g
+JOIN seed_skills s1 ON s1.n = g % 8
+JOIN seed_skills s2 ON s2.n = (g / 8) % 8
+JOIN seed_categories c ON c.n = g % 6;
+
+CREATE TEMP TABLE seed_promoter_ids ON COMMIT DROP AS
+SELECT row_number() OVER (ORDER BY id) - 1 AS n, id FROM promoters WHERE email LIKE '%@seed.k6';
+CREATE TEMP TABLE seed_volunteer_ids ON COMMIT DROP AS
+SELECT row_number() OVER (ORDER BY id) - 1 AS n, id, total_points FROM volunteers WHERE email LIKE '%@seed.k6';
+CREATE TEMP TABLE seed_benefit_ids ON COMMIT DROP AS
+SELECT row_number() OVER (ORDER BY id) - 1 AS n, id, points_required FROM benefits WHERE provider = 'k6 Seed Partner';
+CREATE INDEX ON seed_volunteer_ids (n);
+CREATE INDEX ON seed_benefit_ids (n);
+
+INSERT INTO opportunities (title, description, skills, category, duration, vacancies, points, accepted_count,
+                           status, promoter_id, created_at, updated_at)
+SELECT 'Seed Opportunity ' || g, 'Capacity test opportunity', s1.skill || ', ' || s2.skill, c.category,
+       1 + g % 12, 5 + g % 30, 10 + (g % 10) * 10, 0,
+       CASE WHEN g % 5 = 0 THEN 'CONCLUDED' ELSE 'OPEN' END, p.id, now(), now()
+FROM (SELECT g, floor(random() ^ 3 * :promoters)::int AS promoter_n FROM generate_series(1, :opportunities) g) o
+JOIN seed_promoter_ids p ON p.n = o.promoter_n
+JOIN seed_skills s1 ON s1.n = g % 8
+JOIN seed_skills s2 ON s2.n = (g / 8 + 1) % 8
+JOIN seed_categories c ON c.n = g % 6;
+
+INSERT INTO redemptions (volunteer_id, benefit_id, points_spent, status, redeemed_at)
+SELECT v.id, b.id, b.points_required,
+       CASE WHEN r.g % 50 = 0 THEN 'CANCELLED' ELSE 'COMPLETED' END,
+       now() - (r.g % 525600) * interval '1 minute'
+FROM (SELECT g,
+             floor(random() ^ 3 * :volunteers)::int AS volunteer_n,
+             floor(random() ^ 2 * :benefits)::int AS benefit_n
+      FROM generate_series(1, :redemptions) g) r
+JOIN seed_volunteer_ids v ON v.n = r.volunteer_n
+JOIN seed_benefit_ids b ON b.n = r.benefit_n;
+
+-- Matches what the stats reconciliation recomputes, so the seeded history is not reported as drift;
+-- no applications are seeded, hence nothing earned
+INSERT INTO volunteer_stats (volunteer_id, points_earned, points_spent, redemption_count, updated_at, version)
+SELECT v.id, 0, coalesce(r.spent, 0), coalesce(r.completed, 0), now(), 0
+FROM seed_volunteer_ids v
+LEFT JOIN (SELECT volunteer_id,
+                  sum(points_spent) FILTER (WHERE status = 'COMPLETED') AS spent,
+                  count(*) FILTER (WHERE status = 'COMPLETED') AS completed
+           FROM redemptions GROUP BY volunteer_id) r ON r.volunteer_id = v.id;
+
+COMMIT;
+
+ANALYZE promoters;
+ANALYZE benefits;
+ANALYZE volunteers;
+ANALYZE opportunities;
+ANALYZE redemptions;
+ANALYZE volunteer_stats;
+
+-- Id ranges for the k6 scenarios, printed as a single JSON line
+\pset tuples_only on
+\pset format unaligned
+SELECT json_build_object(
+    'volunteerIds', (SELECT json_build_array(min(id), max(id)) FROM volunteers WHERE email LIKE '%@seed.k6'),
+    'opportunityIds', (SELECT json_build_array(min(o.id), max(o.id)) FROM opportunities o
+                       JOIN promoters p ON p.id = o.promoter_id WHERE p.email LIKE '%@seed.k6'),
+    'benefitIds', (SELECT json_build_array(min(id), max(id)) FROM benefits WHERE provider = 'k6 Seed Partner'),
+    'promoterIds', (SELECT json_build_array(min(id), max(id)) FROM promoters WHERE email LIKE '%@seed.k6'));
@@ -0,0 +1,97 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { BASE_URL, ENDPOINT_SLOS, capacityOptions } from '../config.js';
+
+// Capacity-planning run against the bulk dataset from seed/seed.sql; see run-capacity.sh.
+//   k6 run -e SCENARIO=spike -e SEED_FILE=results/seed.json tests/capacity-test.js
+
+const SCENARIO = __ENV.SCENARIO || 'load';
+const SEED = JSON.parse(open(__ENV.SEED_FILE || '../results/seed.json'));
+const CATEGORIES = ['Environment', 'Education', 'Health', 'Social', 'Animals', 'Culture'];
+const SKILLS = ['Communication', 'Leadership', 'Teamwork', 'Problem Solving', 'Cooking', 'First Aid'];
+
+export const options = capacityOptions(SCENARIO);
+
+if (SCENARIO === 'soak' && __ENV.SOAK_DURATION) {
+    options.stages[1].duration = __ENV.SOAK_DURATION;
+}
+
+// Skews picks towards the low end of the range, where the seed put most of the activity
+function hotId([min, max]) {
+    return min + Math.floor(Math.pow(Math.random(), 3) * (max - min + 1));
+}
+
+function pick(array) {
+    return array[Math.floor(Math.random() * array.length)];
+}
+
+// Each VU is a distinct client to the per-client rate limits, as real users would be
+function clientHeaders() {
+    return { 'X-Forwarded-For': `10.${(__VU >> 16) & 255}.${(__VU >> 8) & 255}.${__VU & 255}` };
+}
+
+function get(path, endpoint) {
+    const response = http.get(`${BASE_URL}${path}`, { headers: clientHeaders(), tags: { endpoint: endpoint } });
+    check(response, { [`${endpoint} status 200`]: (r) => r.status === 200 });
+    return response;
+}
+
+export default function () {
+    const volunteerId = hotId(SEED.volunteerIds);
+
+    get(`/api/opportunities/search?category=${pick(CATEGORIES)}&skills=${encodeURIComponent(pick(SKILLS))}`,
+        'opportunities_search');
+    get(`/api/opportunities/${hotId(SEED.opportunityIds)}`, 'opportunity_detail');
+    get(`/api/benefits/volunteer/${volunteerId}/catalog`, 'benefits_catalog');
+    get(`/api/volunteers/${volunteerId}/summary`, 'volunteer_summary');
+    get(`/api/redemptions/volunteer/${volunteerId}`, 'redemptions_history');
+    get('/api/volunteers/top/10', 'volunteers_top');
+
+    // Full listings are expensive at this cardinality; issue them at roughly production frequency
+    if (Math.random() < 0.05) {
+        get('/api/opportunities', 'opportunities_list');
+    }
+
+    // Most seeded volunteers cannot afford every benefit, so a rejected redemption is a valid outcome
+    if (Math.random() < 0.2) {
+        const response = http.post(`${BASE_URL}/api/redemptions`,
+            JSON.stringify({ volunteerId: volunteerId, benefitId: hotId(SEED.benefitIds) }), {
+                headers: { ...clientHeaders(), 'Content-Type': 'application/json' },
+                tags: { endpoint: 'redeem' },
+                responseCallback: http.expectedStatuses(201, 400, 409),
+            });
+        check(response, { 'redeem handled': (r) => [201, 400, 409].includes(r.status) });
+    }
+
+    sleep(1);
+}
+
+// Machine-readable summary consumed by run-capacity.sh and compared against baselines/<scenario>.json
+export function handleSummary(data) {
+    const endpoints = {};
+    for (const endpoint of Object.keys(ENDPOINT_SLOS)) {
+        const metric = data.metrics[`http_req_duration{endpoint:${endpoint}}`];
+        if (metric && metric.values.max !== undefined) {
+            endpoints[endpoint] = {
+                p95: metric.values['p(95)'],
+                p99: metric.values['p(99)'],
+                avg: metric.values.avg,
+            };
+        }
+    }
+    const summary = {
+        scenario: SCENARIO,
+        requests: data.metrics.http_reqs.values.count,
+        requestRate: data.metrics.http_reqs.values.rate,
+        failedRate: data.metrics.http_req_failed.values.rate,
+        endpoints: endpoints,
+    };
+
+    const lines = Object.entries(endpoints).map(([endpoint, values]) =>
+        `  ${endpoint.padEnd(22)} p95 ${values.p95.toFixed(1).padStart(8)} ms   p99 ${values.p99.toFixed(1).padStart(8)} ms`);
+    return {
+        stdout: `\n${SCENARIO}: ${summary.requests} requests, ${summary.requestRate.toFixed(1)}/s, ` +
+            `${(summary.failedRate * 100).toFixed(2)}% failed\n${lines.join('\n')}\n`,
+        [__ENV.SUMMARY_FILE || `results/${SCENARIO}-summary.json`]: JSON.stringify(summary, null, 2),
+    };
+}
@@ -0,0 +1,125 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { BASE_URL, REACTIVE_URL } from '../config.js';
+
+// The same read mix against the MVC endpoints and then the reactive tier, at high concurrency.
+// Start the application with few request threads and no rate limiting, so both tiers run on a
+// handful of threads and neither is shed:
+//   java -jar demo.jar --server.tomcat.threads.max=16 --app.reactive.event-loop-threads=4 \
+//        --app.rate-limit.enabled=false
+//   k6 run -e VUS=400 -e DURATION=2m -e SEED_FILE=results/seed.json tests/reactive-comparison.js
+// Seed with run-capacity.sh --seed first. Requests are tagged with `tier` and `endpoint`.
+
+const VUS = parseInt(__ENV.VUS || '400', 10);
+const DURATION = __ENV.DURATION || '2m';
+const PAUSE = '30s';
+const SEED = JSON.parse(open(__ENV.SEED_FILE || '../results/seed.json'));
+const CATEGORIES = ['Environment', 'Education', 'Health', 'Social', 'Animals', 'Culture'];
+const SKILLS = ['Communication', 'Leadership', 'Teamwork', 'Problem Solving', 'Cooking', 'First Aid'];
+const TIERS = { mvc: BASE_URL, reactive: REACTIVE_URL };
+const ENDPOINTS = ['opportunities_filter', 'benefits_catalog', 'opportunities_list', 'volunteers_ranking'];
+
+function tierScenario(tier, startTime) {
+    return {
+        executor: 'constant-vus',
+        vus: VUS,
+        duration: DURATION,
+        startTime: startTime,
+        gracefulStop: '30s',
+        env: { TIER: tier },
+        tags: { tier: tier },
+    };
+}
+
+function durationSeconds(duration) {
+    const match = /^(\d+)(s|m|h)$/.exec(duration);
+    return parseInt(match[1], 10) * { s: 1, m: 60, h: 3600 }[match[2]];
+}
+
+const thresholds = {};
+for (const tier of Object.keys(TIERS)) {
+    thresholds[`http_req_failed{tier:${tier}}`] = ['rate<0.01'];
+    thresholds[`http_reqs{tier:${tier}}`] = ['count>=0'];
+    for (const endpoint of ENDPOINTS) {
+        // Not a pass/fail bar; declaring a sub-metric is what makes it appear in the summary
+        thresholds[`http_req_duration{tier:${tier},endpoint:${endpoint}}`] = ['max>=0'];
+    }
+}
+
+export const options = {
+    scenarios: {
+        mvc: tierScenario('mvc', '0s'),
+        reactive: tierScenario('reactive', `${durationSeconds(DURATION) + durationSeconds(PAUSE)}s`),
+    },
+    thresholds: thresholds,
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+// Skews picks towards the low end of the range, where the seed put most of the activity
+function hotId([min, max]) {
+    return min + Math.floor(Math.pow(Math.random(), 3) * (max - min + 1));
+}
+
+function pick(array) {
+    return array[Math.floor(Math.random() * array.length)];
+}
+
+function get(path, endpoint) {
+    // Bodies are discarded: large listings would otherwise be buffered by every VU
+    const response = http.get(`${TIERS[__ENV.TIER]}${path}`, {
+        tags: { endpoint: endpoint },
+        responseType: 'none',
+    });
+    check(response, { [`${endpoint} status 200`]: (r) => r.status === 200 });
+}
+
+export default function () {
+    get(`/api/opportunities/filter?category=${pick(CATEGORIES)}&skills=${encodeURIComponent(pick(SKILLS))}`,
+        'opportunities_filter');
+    get(`/api/benefits/volunteer/${hotId(SEED.volunteerIds)}/catalog`, 'benefits_catalog');
+
+    // Full listings are expensive at this cardinality; issue them at roughly production frequency
+    if (Math.random() < 0.05) {
+        get('/api/opportunities', 'opportunities_list');
+    }
+    if (Math.random() < 0.01) {
+        get('/api/volunteers/ranking', 'volunteers_ranking');
+    }
+}
+
+export function handleSummary(data) {
+    const tiers = {};
+    for (const tier of Object.keys(TIERS)) {
+        const requests = data.metrics[`http_reqs{tier:${tier}}`];
+        const failed = data.metrics[`http_req_failed{tier:${tier}}`];
+        tiers[tier] = {
+            requestRate: requests ? requests.values.count / durationSeconds(DURATION) : 0,
+            failedRate: failed ? failed.values.rate : 0,
+            endpoints: {},
+        };
+        for (const endpoint of ENDPOINTS) {
+            const metric = data.metrics[`http_req_duration{tier:${tier},endpoint:${endpoint}}`];
+            if (metric && metric.values.max !== undefined) {
+                tiers[tier].endpoints[endpoint] = {
+                    p95: metric.values['p(95)'],
+                    p99: metric.values['p(99)'],
+                    avg: metric.values.avg,
+                };
+            }
+        }
+    }
+
+    const lines = [`\n${VUS} VUs for ${DURATION} per tier`];
+    for (const [tier, values] of Object.entries(tiers)) {
+        lines.push(`${tier}: ${values.requestRate.toFixed(1)} req/s, ${(values.failedRate * 100).toFixed(2)}% failed`);
+        for (const [endpoint, stats] of Object.entries(values.endpoints)) {
+            lines.push(`  ${endpoint.padEnd(22)} p95 ${stats.p95.toFixed(1).padStart(8)} ms   ` +
+                `p99 ${stats.p99.toFixed(1).padStart(8)} ms`);
+        }
+    }
+    return {
+        stdout: `${lines.join('\n')}\n`,
+        [__ENV.SUMMARY_FILE || 'results/reactive-comparison-summary.json']:
+            JSON.stringify({ vus: VUS, duration: DURATION, tiers: tiers }, null, 2),
+    };
+}